@@ -0,0 +1,84 @@
+package dynamicList;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Replays an editor-like trace of inserts and removals against each
+ * {@link IntList} implementation. The edit position wanders by a few places at
+ * a time instead of jumping around the whole list, which is the case gap
+ * buffers are built for.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ClusteredEditBenchmark {
+
+	private static final int TRACE_LENGTH = 10000;
+
+	@Param({ "1000", "100000", "1000000" })
+	public int size;
+
+	/**
+	 * How far the edit position can move between two edits.
+	 */
+	@Param({ "16" })
+	public int spread;
+
+	@Param({ "IntDynamicList", "IntRingList", "IntGapList" })
+	public String impl;
+
+	private IntList list;
+	private int[] positions;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		list = IntListBenchmark.newList(impl);
+		for (int i = 0; i < size; i++)
+			list.append(i);
+
+		Random random = new Random(42);
+		positions = new int[TRACE_LENGTH];
+		int pos = size / 2;
+		for (int i = 0; i < TRACE_LENGTH; i++) {
+			pos += random.nextInt(2 * spread + 1) - spread;
+			pos = Math.max(0, Math.min(size - 1, pos));
+			positions[i] = pos;
+		}
+	}
+
+	/**
+	 * Inserts at every position of the trace, then removes in reverse order so the
+	 * list ends up as it started.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(2 * TRACE_LENGTH)
+	public int clusteredEdits() {
+		for (int i = 0; i < TRACE_LENGTH; i++)
+			list.insert(positions[i], i);
+
+		int sum = 0;
+		for (int i = TRACE_LENGTH - 1; i >= 0; i--)
+			sum += list.remove(positions[i]);
+
+		return sum;
+	}
+
+}
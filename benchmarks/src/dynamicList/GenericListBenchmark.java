@@ -0,0 +1,129 @@
+package dynamicList;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures every {@link List} operation for each implementation and list size,
+ * storing Integers. Operations that change the list's size undo themselves in
+ * the same invocation so that every invocation sees a list of the same size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Thread)
+public class GenericListBenchmark {
+
+	@Param({ "10", "1000", "100000", "10000000", "100000000" })
+	public int size;
+
+	@Param({ "DynamicList", "RingList", "GapList", "ChunkedList" })
+	public String impl;
+
+	private List<Integer> list;
+	private Random random;
+	private Integer marker;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		list = newList(impl);
+		for (int i = 0; i < size; i++)
+			list.append(i);
+
+		random = new Random(42);
+		marker = Integer.valueOf(-1);
+	}
+
+	@Benchmark
+	public Integer append() {
+		list.append(marker);
+		return list.remove(size);
+	}
+
+	@Benchmark
+	public Integer prepend() {
+		list.prepend(marker);
+		return list.remove(0);
+	}
+
+	@Benchmark
+	public Integer insert() {
+		int index = random.nextInt(size + 1);
+		list.insert(index, marker);
+		return list.remove(index);
+	}
+
+	@Benchmark
+	public Integer remove() {
+		int index = random.nextInt(size);
+		Integer val = list.remove(index);
+		list.insert(index, val);
+		return val;
+	}
+
+	@Benchmark
+	public Integer get() {
+		return list.get(random.nextInt(size));
+	}
+
+	@Benchmark
+	public int indexOf() {
+		return list.indexOf(random.nextInt(size));
+	}
+
+	@Benchmark
+	public List<Integer> appendAll() {
+		List<Integer> other = newList(impl);
+		other.appendAll(list);
+		return other;
+	}
+
+	@Benchmark
+	public Integer[] toArray() {
+		return list.toArray();
+	}
+
+	@Benchmark
+	public Integer trimToSize() {
+		list.append(marker);
+		list.trimToSize();
+		return list.remove(size);
+	}
+
+	/**
+	 * Creates an empty list of the implementation with the given name.
+	 * 
+	 * @param impl
+	 * @return
+	 */
+	static List<Integer> newList(String impl) {
+		switch (impl) {
+		case "DynamicList":
+			return new DynamicList<Integer>();
+		case "RingList":
+			return new RingList<Integer>();
+		case "GapList":
+			return new GapList<Integer>();
+		case "ChunkedList":
+			return new ChunkedList<Integer>();
+		default:
+			throw new IllegalArgumentException(impl);
+		}
+	}
+
+}
@@ -0,0 +1,59 @@
+package dynamicList;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures contains and indexOf on an {@link IntDynamicList} of distinct
+ * values, with and without the hash index.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IndexedLookupBenchmark {
+
+	@Param({ "1000", "1000000" })
+	public int size;
+
+	@Param({ "false", "true" })
+	public boolean indexed;
+
+	private IntDynamicList list;
+	private int probe;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		list = new IntDynamicList(size);
+		for (int i = 0; i < size; i++)
+			list.append(i);
+
+		list.setIndexed(indexed);
+	}
+
+	@Benchmark
+	public boolean containsMissing() {
+		return list.contains(-1);
+	}
+
+	@Benchmark
+	public int indexOf() {
+		probe = (probe + 7919) % size; // Spread the probes over the whole list
+		return list.indexOf(probe);
+	}
+
+}
@@ -0,0 +1,166 @@
+package dynamicList;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures every {@link IntList} operation for each implementation and list
+ * size. Operations that change the list's size undo themselves in the same
+ * invocation so that every invocation sees a list of the same size. Every
+ * off-heap list the benchmark makes is closed when it's done with.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class IntListBenchmark {
+
+	@Param({ "10", "1000", "100000", "10000000", "100000000" })
+	public int size;
+
+	@Param({ "IntDynamicList", "IntRingList", "IntGapList", "IntChunkedList", "OffHeapIntList" })
+	public String impl;
+
+	private IntList list;
+	private Random random;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		list = newList(impl);
+		for (int i = 0; i < size; i++)
+			list.append(i);
+
+		random = new Random(42);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		close(list);
+	}
+
+	@Benchmark
+	public int append() {
+		list.append(-1);
+		return list.remove(size);
+	}
+
+	@Benchmark
+	public int prepend() {
+		list.prepend(-1);
+		return list.remove(0);
+	}
+
+	@Benchmark
+	public int insert() {
+		int index = random.nextInt(size + 1);
+		list.insert(index, -1);
+		return list.remove(index);
+	}
+
+	@Benchmark
+	public int remove() {
+		int index = random.nextInt(size);
+		int val = list.remove(index);
+		list.insert(index, val);
+		return val;
+	}
+
+	@Benchmark
+	public int get() {
+		return list.get(random.nextInt(size));
+	}
+
+	@Benchmark
+	public int indexOf() {
+		return list.indexOf(random.nextInt(size));
+	}
+
+	@Benchmark
+	public IntList appendAll(Target target) {
+		target.list.appendAll(list);
+		return target.list;
+	}
+
+	@Benchmark
+	public int[] toArray() {
+		return list.toArray();
+	}
+
+	@Benchmark
+	public int trimToSize() {
+		list.append(-1);
+		list.trimToSize();
+		return list.remove(size);
+	}
+
+	/**
+	 * A fresh empty list for each appendAll invocation, closed again afterwards,
+	 * so that the off-heap lists don't pile up in direct memory.
+	 */
+	@State(Scope.Thread)
+	public static class Target {
+
+		IntList list;
+
+		@Setup(Level.Invocation)
+		public void setup(IntListBenchmark benchmark) {
+			list = newList(benchmark.impl);
+		}
+
+		@TearDown(Level.Invocation)
+		public void tearDown() {
+			close(list);
+			list = null;
+		}
+	}
+
+	/**
+	 * Creates an empty list of the implementation with the given name.
+	 * 
+	 * @param impl
+	 * @return
+	 */
+	static IntList newList(String impl) {
+		switch (impl) {
+		case "IntDynamicList":
+			return new IntDynamicList();
+		case "IntRingList":
+			return new IntRingList();
+		case "IntGapList":
+			return new IntGapList();
+		case "IntChunkedList":
+			return new IntChunkedList();
+		case "OffHeapIntList":
+			return new OffHeapIntList();
+		default:
+			throw new IllegalArgumentException(impl);
+		}
+	}
+
+	/**
+	 * Frees the given list's memory now if it lives off the heap.
+	 * 
+	 * @param list
+	 */
+	static void close(IntList list) {
+		if (list instanceof OffHeapIntList)
+			((OffHeapIntList) list).close();
+	}
+
+}
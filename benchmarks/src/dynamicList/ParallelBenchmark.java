@@ -0,0 +1,80 @@
+package dynamicList;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the bulk operations of {@link IntDynamicList} on one thread against
+ * the same operations split across the common ForkJoinPool.
+ * 
+ * indexOf looks for a value that isn't in the list, so every element is
+ * scanned.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParallelBenchmark {
+
+	@Param({ "100000", "10000000" })
+	public int size;
+
+	@Param({ "false", "true" })
+	public boolean parallel;
+
+	private IntDynamicList list;
+	private IntDynamicList copy;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		list = new IntDynamicList(size);
+		copy = new IntDynamicList(size);
+		for (int i = 0; i < size; i++) {
+			list.append(i);
+			copy.append(i);
+		}
+
+		if (parallel)
+			list.setParallelThreshold(0);
+	}
+
+	@Benchmark
+	public int indexOf() {
+		return list.indexOf(-1);
+	}
+
+	@Benchmark
+	public boolean equals() {
+		return list.equals(copy);
+	}
+
+	@Benchmark
+	public int[] toArray() {
+		return list.toArray();
+	}
+
+	@Benchmark
+	public long sum() {
+		return list.sum();
+	}
+
+	@Benchmark
+	public void replaceAll() {
+		list.replaceAll(x -> x ^ 1);
+	}
+
+}
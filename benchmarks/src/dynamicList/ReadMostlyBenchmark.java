@@ -0,0 +1,77 @@
+package dynamicList;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link StampedIntList} against an {@link IntDynamicList} guarded by
+ * synchronized, with seven threads reading for every thread writing.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class ReadMostlyBenchmark {
+
+	private static final int SIZE = 1024;
+
+	@Param({ "synchronized", "stamped" })
+	public String impl;
+
+	private IntList list;
+	private int index;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		IntDynamicList data = new IntDynamicList();
+		for (int i = 0; i < SIZE; i++)
+			data.append(i);
+
+		list = impl.equals("stamped") ? new StampedIntList(data) : data;
+	}
+
+	@Benchmark
+	@Group("readMostly")
+	@GroupThreads(7)
+	public int read() {
+		int i = index++ & (SIZE - 1); // Racy on purpose; any index will do
+
+		if (list instanceof StampedIntList)
+			return list.get(i);
+
+		synchronized (list) {
+			return list.get(i);
+		}
+	}
+
+	@Benchmark
+	@Group("readMostly")
+	@GroupThreads(1)
+	public int write() {
+		int i = index & (SIZE - 1);
+
+		if (list instanceof StampedIntList)
+			return list.set(i, i);
+
+		synchronized (list) {
+			return list.set(i, i);
+		}
+	}
+
+}
@@ -0,0 +1,104 @@
+package dynamicList;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares front and middle insert/remove on {@link IntDynamicList} (which
+ * shifts with System.arraycopy) against the element-by-element loop the list
+ * used to shift with.
+ * 
+ * Each benchmark does an insert followed by a remove at the same index so the
+ * list size stays constant between invocations.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ShiftBenchmark {
+
+	@Param({ "1000", "100000", "1000000" })
+	public int size;
+
+	private IntDynamicList list;
+	private int[] loopData;
+	private int loopSize;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		list = new IntDynamicList();
+		for (int i = 0; i < size; i++)
+			list.append(i);
+
+		loopData = new int[size + 1];
+		for (int i = 0; i < size; i++)
+			loopData[i] = i;
+		loopSize = size;
+	}
+
+	@Benchmark
+	public int frontInsertRemove() {
+		list.insert(0, -1);
+		return list.remove(0);
+	}
+
+	@Benchmark
+	public int middleInsertRemove() {
+		list.insert(size / 2, -1);
+		return list.remove(size / 2);
+	}
+
+	@Benchmark
+	public int frontInsertRemoveLoop() {
+		loopInsert(0, -1);
+		return loopRemove(0);
+	}
+
+	@Benchmark
+	public int middleInsertRemoveLoop() {
+		loopInsert(size / 2, -1);
+		return loopRemove(size / 2);
+	}
+
+	/**
+	 * The original insert shifting loop, kept here as the baseline.
+	 * 
+	 * @param index
+	 * @param val
+	 */
+	private void loopInsert(int index, int val) {
+		loopSize++;
+		for (int i = loopSize - 1; i > index; i--)
+			loopData[i] = loopData[i - 1];
+		loopData[index] = val;
+	}
+
+	/**
+	 * The original remove shifting loop, kept here as the baseline.
+	 * 
+	 * @param index
+	 * @return
+	 */
+	private int loopRemove(int index) {
+		int oldVal = loopData[index];
+		loopSize--;
+		for (int i = index + 1; i <= loopSize; i++)
+			loopData[i - 1] = loopData[i];
+		return oldVal;
+	}
+
+}
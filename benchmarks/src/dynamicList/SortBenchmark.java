@@ -0,0 +1,78 @@
+package dynamicList;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares sort, radixSort and parallelSort on an {@link IntDynamicList} of
+ * random values, against the old way of sorting a copy and appending it back.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SortBenchmark {
+
+	@Param({ "10000", "1000000" })
+	public int size;
+
+	private int[] values;
+	private IntDynamicList list;
+
+	@Setup(Level.Trial)
+	public void setupValues() {
+		Random random = new Random(42);
+		values = new int[size];
+		for (int i = 0; i < size; i++)
+			values[i] = random.nextInt();
+	}
+
+	@Setup(Level.Invocation)
+	public void setupList() {
+		list = new IntDynamicList(values.clone());
+	}
+
+	@Benchmark
+	public IntDynamicList copyAndAppend() {
+		int[] arr = list.toArray();
+		Arrays.sort(arr);
+		list.clear();
+		list.appendAll(arr, 0, arr.length);
+		return list;
+	}
+
+	@Benchmark
+	public IntDynamicList sort() {
+		list.sort();
+		return list;
+	}
+
+	@Benchmark
+	public IntDynamicList radixSort() {
+		list.radixSort();
+		return list;
+	}
+
+	@Benchmark
+	public IntDynamicList parallelSort() {
+		list.parallelSort();
+		return list;
+	}
+
+}
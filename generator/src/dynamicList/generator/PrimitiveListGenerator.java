@@ -0,0 +1,131 @@
+package dynamicList.generator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * <p>
+ * Generates the primitive list interfaces, their dynamic implementations and
+ * their tests (IntList, IntDynamicList, IntListTests, LongList, ...) from the
+ * templates in generator/templates, so that every primitive type gets the same
+ * code. The build runs this before compiling, so the generated files in
+ * src/dynamicList can't drift away from the templates.
+ * </p>
+ * <p>
+ * Each template named Primitive<i>Name</i>.java produces <i>Type</i><i>Name</i>.java
+ * for every type. Templates use these placeholders:
+ * </p>
+ * <ul>
+ * <li>${type}: the primitive type, e.g. long</li>
+ * <li>${Type}: the capitalized type used in class names, e.g. Long</li>
+ * <li>${sameBody}: an expression that checks if values a and b are the
+ * same</li>
+ * <li>${sameDoc}: a sentence describing what "the same" means</li>
+ * <li>${Fn}: the prefix of the java.util.function interfaces that take the
+ * type, e.g. Int for short</li>
+ * <li>${fn}: the primitive type those interfaces work with, e.g. int for
+ * short</li>
+ * <li>${sumType}: the type that sums of values are added up in</li>
+ * <li>${sumDoc}: a sentence describing how sums behave</li>
+ * <li>${Box}: the wrapper class of the type, e.g. Integer for int</li>
+ * <li>${radixKey}: an expression that turns value a into a long whose lowest
+ * ${Box}.SIZE bits, read as an unsigned number, sort the same way as the
+ * values do</li>
+ * <li>${narrow}: the cast that turns a ${fn} back into the type, e.g. "(short) "
+ * for short, and nothing for the types where it would be redundant</li>
+ * <li>${fromDouble}: the cast that turns a double into the type, and nothing for
+ * double</li>
+ * </ul>
+ * <p>
+ * Usage: PrimitiveListGenerator &lt;template directory&gt; &lt;output
+ * directory&gt;
+ * </p>
+ */
+public class PrimitiveListGenerator {
+
+	private static final String TEMPLATE_PREFIX = "Primitive";
+
+	/**
+	 * The types to generate lists for: type, Type, sameBody, sameDoc, Fn, sumType,
+	 * sumDoc, fn, Box, radixKey, narrow, fromDouble.
+	 */
+	private static final String[][] TYPES = {
+			{ "int", "Int", "a == b", "Uses ==.", "Int", "long",
+					"The values are added up as longs, so the sum can't overflow.", "int", "Integer",
+					"a - (long) Integer.MIN_VALUE", "", "(int) " },
+			{ "long", "Long", "a == b", "Uses ==.", "Long", "long",
+					"Overflow wraps around, the same as it does for +.", "long", "Long", "a ^ Long.MIN_VALUE", "",
+					"(long) " },
+			{ "double", "Double", "Double.doubleToLongBits(a) == Double.doubleToLongBits(b)",
+					"Like Double.equals, NaN is the same as NaN, but 0.0 and -0.0 are different.", "Double", "double",
+					"A parallel sum adds the values up in a different order, so it can differ from the sequential sum in the last few bits.",
+					"double", "Double",
+					"Double.doubleToLongBits(a) ^ (Double.doubleToLongBits(a) >> 63 | Long.MIN_VALUE)", "", "" },
+			{ "short", "Short", "a == b", "Uses ==.", "Int", "long",
+					"The values are added up as longs, so the sum can't overflow.", "int", "Short",
+					"a - (long) Short.MIN_VALUE", "(short) ", "(short) " },
+			{ "byte", "Byte", "a == b", "Uses ==.", "Int", "long",
+					"The values are added up as longs, so the sum can't overflow.", "int", "Byte",
+					"a - (long) Byte.MIN_VALUE", "(byte) ", "(byte) " } };
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2) {
+			System.err.println("Usage: PrimitiveListGenerator <template directory> <output directory>");
+			System.exit(1);
+		}
+
+		Path templateDir = Paths.get(args[0]);
+		Path outputDir = Paths.get(args[1]);
+
+		Files.createDirectories(outputDir);
+		try (var templates = Files.newDirectoryStream(templateDir, TEMPLATE_PREFIX + "*.java")) {
+			for (Path template : templates)
+				generate(template, outputDir);
+		}
+	}
+
+	/**
+	 * Writes one file per type for the given template.
+	 *
+	 * @param template
+	 * @param outputDir
+	 * @throws IOException
+	 */
+	private static void generate(Path template, Path outputDir) throws IOException {
+		String name = template.getFileName().toString().substring(TEMPLATE_PREFIX.length());
+		String source = Files.readString(template);
+
+		for (String[] type : TYPES) {
+			String header = "// Generated by PrimitiveListGenerator from generator/templates/"
+					+ template.getFileName() + ". Edit the template instead of this file.\n";
+
+			Files.writeString(outputDir.resolve(type[1] + name), header + fill(source, type));
+		}
+	}
+
+	/**
+	 * Replaces the placeholders in the given template with the given type's
+	 * values.
+	 *
+	 * @param source
+	 * @param type
+	 * @return
+	 */
+	private static String fill(String source, String[] type) {
+		return source.replace("${type}", type[0])
+				.replace("${Type}", type[1])
+				.replace("${sameBody}", type[2])
+				.replace("${sameDoc}", type[3])
+				.replace("${Fn}", type[4])
+				.replace("${sumType}", type[5])
+				.replace("${sumDoc}", type[6])
+				.replace("${fn}", type[7])
+				.replace("${Box}", type[8])
+				.replace("${radixKey}", type[9])
+				.replace("${narrow}", type[10])
+				.replace("${fromDouble}", type[11]);
+	}
+
+}
@@ -0,0 +1,1150 @@
+package dynamicList;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.${Fn}Consumer;
+import java.util.function.${Fn}UnaryOperator;
+import java.util.stream.${Fn}Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Pretty much just ArrayList but worse.
+ * 
+ * @author alex
+ *
+ */
+public class ${Type}DynamicList implements ${Type}List {
+
+	/**
+	 * How many bits of the values radixSort sorts by in each pass.
+	 */
+	private static final int RADIX_BITS = 8;
+	private static final int RADIX = 1 << RADIX_BITS;
+
+	private ${type}[] data;
+	private int size;
+	private final GrowthPolicy policy;
+
+	/**
+	 * How many times the size of this list has changed, so that slices can tell
+	 * when the elements they cover have moved.
+	 */
+	private int modCount;
+
+	/**
+	 * Bulk operations on at least this many elements are split across the common
+	 * ForkJoinPool.
+	 */
+	private int parallelThreshold = Integer.MAX_VALUE;
+
+	/**
+	 * The hash index that contains, indexOf and lastIndexOf use, or null if the
+	 * list isn't indexed.
+	 */
+	private ${Type}HashIndex hashIndex;
+
+	public ${Type}DynamicList() {
+		this(GrowthPolicy.doubling());
+	}
+
+	/**
+	 * Creates an empty list whose backing array grows (and possibly shrinks)
+	 * according to the given policy.
+	 * 
+	 * @param policy
+	 */
+	public ${Type}DynamicList(GrowthPolicy policy) {
+		this(GrowthPolicy.DEFAULT_CAPACITY, policy);
+	}
+
+	/**
+	 * Creates an empty list with room for the given number of elements before the
+	 * backing array has to grow.
+	 * 
+	 * @param initialCapacity
+	 * @throws IllegalArgumentException if initialCapacity is negative.
+	 */
+	public ${Type}DynamicList(int initialCapacity) {
+		this(initialCapacity, GrowthPolicy.doubling());
+	}
+
+	/**
+	 * Creates an empty list with room for the given number of elements, growing
+	 * according to the given policy after that.
+	 * 
+	 * @param initialCapacity
+	 * @param policy
+	 * @throws IllegalArgumentException if initialCapacity is negative.
+	 */
+	public ${Type}DynamicList(int initialCapacity, GrowthPolicy policy) {
+		if (initialCapacity < 0)
+			throw new IllegalArgumentException();
+		if (policy == null)
+			throw new NullPointerException();
+
+		this.data = new ${type}[initialCapacity];
+		this.size = 0;
+		this.policy = policy;
+	}
+
+	/**
+	 * Creates a list containing the elements of the given array. The array is used
+	 * as the backing array directly, without copying, so it must not be modified
+	 * by the caller afterwards. It is replaced once the list has to grow.
+	 * 
+	 * @param data
+	 */
+	public ${Type}DynamicList(${type}[] data) {
+		this(data, GrowthPolicy.doubling());
+	}
+
+	/**
+	 * Creates a list that uses the given array as its backing array, without
+	 * copying, and grows according to the given policy.
+	 * 
+	 * @param data
+	 * @param policy
+	 */
+	public ${Type}DynamicList(${type}[] data, GrowthPolicy policy) {
+		if (data == null || policy == null)
+			throw new NullPointerException();
+
+		this.data = data;
+		this.size = data.length;
+		this.policy = policy;
+	}
+
+	@Override
+	public void append(${type} value) {
+		insert(size, value);
+	}
+
+	@Override
+	public void appendAll(${Type}List vals) {
+		insertAll(size, vals);
+	}
+
+	/**
+	 * Appends len elements of the given array, starting at off, to the end of this
+	 * list.
+	 * 
+	 * @param src
+	 * @param off
+	 * @param len
+	 * @throws IndexOutOfBoundsException if off and len do not describe a range
+	 *                                   inside src.
+	 */
+	public void appendAll(${type}[] src, int off, int len) {
+		insertAll(size, src, off, len);
+	}
+
+	@Override
+	public void clear() {
+		size = 0;
+		modCount++;
+		shrinkIfNeeded();
+
+		if (hashIndex != null)
+			hashIndex.clear();
+	}
+
+	@Override
+	public boolean contains(${type} val) {
+		if (hashIndex != null)
+			return hashIndex.count(val) > 0;
+
+		return indexOf(val) != -1;
+	}
+
+	/**
+	 * Copies the elements from index <i>from</i> (inclusive) to index <i>to</i>
+	 * (exclusive) into the given array, starting at off, without allocating
+	 * anything.
+	 * 
+	 * @param from
+	 * @param to
+	 * @param dest
+	 * @param off
+	 * @return dest
+	 * @throws IndexOutOfBoundsException if from and to are not
+	 *                                   0 &lt;= from &lt;= to &lt;= size, or if the
+	 *                                   range does not fit in dest starting at off.
+	 */
+	public ${type}[] copyRange(int from, int to, ${type}[] dest, int off) {
+		if (from < 0 || from > to || to > size)
+			throw new IndexOutOfBoundsException();
+		if (off < 0 || off > dest.length - (to - from))
+			throw new IndexOutOfBoundsException();
+
+		System.arraycopy(data, from, dest, off, to - from);
+
+		return dest;
+	}
+
+	@Override
+	public boolean equals(${Type}List other) {
+		if (other == null)
+			return false;
+
+		if (this.size != other.size())
+			return false;
+
+		if (other instanceof ${Type}DynamicList) { // Compare backing arrays directly
+			${type}[] otherData = ((${Type}DynamicList) other).data;
+
+			if (isParallel(size))
+				return ForkJoinRanges.firstIndex(0, size,
+						(from, to) -> Arrays.equals(data, from, to, otherData, from, to) ? -1 : from) == -1;
+
+			return Arrays.equals(data, 0, size, otherData, 0, size);
+		}
+
+		for (int i = 0; i < size; i++)
+			if (!same(data[i], other.get(i)))
+				return false;
+
+		return true;
+	}
+
+	/**
+	 * Grows the backing array, if needed, so that it can hold at least the given
+	 * number of elements without growing again.
+	 * 
+	 * @param minCapacity
+	 */
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity > data.length)
+			changeBackingArray(policy.grow(data.length, minCapacity));
+	}
+
+	/**
+	 * Sets every element of this list to the given value.
+	 * 
+	 * @param val
+	 */
+	public void fill(${type} val) {
+		if (isParallel(size))
+			ForkJoinRanges.forEach(0, size, (from, to) -> Arrays.fill(data, from, to, val));
+		else
+			Arrays.fill(data, 0, size, val);
+
+		if (hashIndex != null)
+			hashIndex.rebuild(data, size);
+	}
+
+	@Override
+	public ${type} get(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException();
+
+		return data[index];
+	}
+
+	/**
+	 * Returns how many elements a list needs before bulk operations are split
+	 * across the common ForkJoinPool.
+	 * 
+	 * @return
+	 */
+	public int getParallelThreshold() {
+		return parallelThreshold;
+	}
+
+	@Override
+	public int indexOf(${type} val) {
+		if (hashIndex != null)
+			return hashIndex.first(val);
+
+		return find(val, 0, size);
+	}
+
+	@Override
+	public void insert(int index, ${type} val) {
+		if (index < 0 || index > size)
+			throw new IndexOutOfBoundsException();
+
+		if (size == data.length)
+			changeBackingArray(policy.grow(data.length, size + 1));
+
+		size++;
+		modCount++;
+		shiftDataRight(index, 1);
+		data[index] = val;
+
+		if (hashIndex != null)
+			hashIndex.added(index, data, size);
+	}
+
+	/**
+	 * Inserts all of the values in the given list at the given index, shifting the
+	 * values after it to the right once. Values are copied in bulk when the given
+	 * list is another ${Type}DynamicList.
+	 * 
+	 * @param index
+	 * @param vals
+	 * @throws IndexOutOfBoundsException if the given index is not between 0 and
+	 *                                   size inclusive.
+	 */
+	public void insertAll(int index, ${Type}List vals) {
+		if (vals instanceof ${Type}DynamicList) {
+			${Type}DynamicList other = (${Type}DynamicList) vals;
+			insertAll(index, other.data, 0, other.size);
+			return;
+		}
+
+		${type}[] arr = vals.toArray(); // Read before the gap opens; vals may be a slice of this list
+		insertAll(index, arr, 0, arr.length);
+	}
+
+	/**
+	 * Inserts len elements of the given array, starting at off, at the given index.
+	 * 
+	 * @param index
+	 * @param src
+	 * @param off
+	 * @param len
+	 * @throws IndexOutOfBoundsException if the given index is not between 0 and
+	 *                                   size inclusive, or if off and len do not
+	 *                                   describe a range inside src.
+	 */
+	public void insertAll(int index, ${type}[] src, int off, int len) {
+		if (off < 0 || len < 0 || off > src.length - len)
+			throw new IndexOutOfBoundsException();
+
+		if (src == data) { // Inserting this list's own data, which is about to move
+			src = Arrays.copyOfRange(src, off, off + len);
+			off = 0;
+		}
+
+		openGap(index, len);
+		System.arraycopy(src, off, data, index, len);
+
+		if (hashIndex != null)
+			hashIndex.addedRange(index, index + len, data, size);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Checks if this list keeps a hash index of its values.
+	 * 
+	 * @return
+	 * @see #setIndexed(boolean)
+	 */
+	public boolean isIndexed() {
+		return hashIndex != null;
+	}
+
+	@Override
+	public int lastIndexOf(${type} val) {
+		if (hashIndex != null)
+			return hashIndex.last(val);
+
+		return lastIndexOfRange(val, 0, size);
+	}
+
+	/**
+	 * Returns the largest value in this list, as Math.max would pick it.
+	 * 
+	 * @return
+	 * @throws NoSuchElementException if the list is empty.
+	 */
+	public ${type} max() {
+		if (size == 0)
+			throw new NoSuchElementException();
+
+		if (isParallel(size))
+			return ForkJoinRanges.reduce(0, size, this::maxOfRange, (a, b) -> ${narrow}Math.max(a, b));
+
+		return maxOfRange(0, size);
+	}
+
+	/**
+	 * Returns the smallest value in this list, as Math.min would pick it.
+	 * 
+	 * @return
+	 * @throws NoSuchElementException if the list is empty.
+	 */
+	public ${type} min() {
+		if (size == 0)
+			throw new NoSuchElementException();
+
+		if (isParallel(size))
+			return ForkJoinRanges.reduce(0, size, this::minOfRange, (a, b) -> ${narrow}Math.min(a, b));
+
+		return minOfRange(0, size);
+	}
+
+	/**
+	 * Sorts this list into ascending order, the same way as {@link #sort()},
+	 * using Arrays.parallelSort to split the work across the common ForkJoinPool
+	 * whatever the list's parallel threshold is.
+	 */
+	public void parallelSort() {
+		Arrays.parallelSort(data, 0, size);
+
+		if (hashIndex != null)
+			hashIndex.reordered(data, size);
+	}
+
+	@Override
+	public void prepend(${type} value) {
+		insert(0, value);
+	}
+
+	/**
+	 * <p>
+	 * Sorts this list into ascending order with an LSD radix sort, in the same
+	 * order as {@link #sort()}. It makes one pass over the list for every byte of
+	 * the values, skipping bytes that are the same in every value, so it takes
+	 * linear time no matter how the values are arranged. It is usually faster
+	 * than sort for big lists of random values.
+	 * </p>
+	 * <p>
+	 * The values are moved back and forth between the backing array and a buffer
+	 * the size of the list.
+	 * </p>
+	 */
+	public void radixSort() {
+		if (size < 2)
+			return;
+
+		${type}[] src = data;
+		${type}[] dest = new ${type}[size];
+		int[] counts = new int[RADIX];
+
+		for (int shift = 0; shift < ${Box}.SIZE; shift += RADIX_BITS) {
+			Arrays.fill(counts, 0);
+			for (int i = 0; i < size; i++)
+				counts[digit(src[i], shift)]++;
+
+			if (counts[digit(src[0], shift)] == size) // Every value has the same digit
+				continue;
+
+			for (int d = 0, start = 0; d < RADIX; d++) { // Turn the counts into start indexes
+				int count = counts[d];
+				counts[d] = start;
+				start += count;
+			}
+
+			for (int i = 0; i < size; i++)
+				dest[counts[digit(src[i], shift)]++] = src[i];
+
+			${type}[] tmp = src;
+			src = dest;
+			dest = tmp;
+		}
+
+		if (src != data)
+			System.arraycopy(src, 0, data, 0, size);
+
+		if (hashIndex != null)
+			hashIndex.reordered(data, size);
+	}
+
+	@Override
+	public ${type} remove(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException();
+
+		${type} oldVal = data[index];
+
+		size--;
+		modCount++;
+		shiftDataLeft(index + 1);
+		shrinkIfNeeded();
+
+		if (hashIndex != null)
+			hashIndex.removed(index, oldVal, data, size);
+
+		return oldVal;
+	}
+
+	/**
+	 * Replaces every element of this list with the result of applying the given
+	 * function to it. The function may be called from several threads at once if
+	 * the list is big enough to be split.
+	 * 
+	 * @param op
+	 */
+	public void replaceAll(${Fn}UnaryOperator op) {
+		if (isParallel(size))
+			ForkJoinRanges.forEach(0, size, (from, to) -> replaceRange(op, from, to));
+		else
+			replaceRange(op, 0, size);
+
+		if (hashIndex != null)
+			hashIndex.rebuild(data, size);
+	}
+
+	@Override
+	public ${type} set(int index, ${type} val) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException();
+
+		${type} oldVal = data[index];
+
+		data[index] = val;
+
+		if (hashIndex != null)
+			hashIndex.replaced(index, oldVal, data);
+
+		return oldVal;
+	}
+
+	/**
+	 * <p>
+	 * Turns the hash index on or off. While it is on, the list keeps a hash map
+	 * from each distinct value to how often it occurs and where it first and last
+	 * occurs, so contains, indexOf and lastIndexOf are O(1). Lookups only read
+	 * the index, so like the list itself it can be read from several threads as
+	 * long as none of them changes the list.
+	 * </p>
+	 * <p>
+	 * Every change has to update the index: an insert or remove in the middle
+	 * updates the positions of the values on the shorter side of it, and a
+	 * removal of several values at once, a sort, fill or replaceAll rebuilds it.
+	 * The index also takes several times the memory of the list itself for lists
+	 * of distinct values, so it only pays off for lists that are searched far
+	 * more often than they are changed. It is off by default. Turning it on
+	 * builds it in one pass over the list.
+	 * </p>
+	 * 
+	 * @param indexed
+	 */
+	public void setIndexed(boolean indexed) {
+		if (!indexed)
+			hashIndex = null;
+		else if (hashIndex == null)
+			hashIndex = new ${Type}HashIndex(data, size);
+	}
+
+	/**
+	 * <p>
+	 * Sets how many elements this list must have before indexOf, contains, equals,
+	 * toArray, fill, replaceAll, sum, min and max split their work across the
+	 * common ForkJoinPool. Apart from the rounding of floating-point sums, the
+	 * results are the same either way.
+	 * </p>
+	 * <p>
+	 * The default is Integer.MAX_VALUE, which keeps all the work on the calling
+	 * thread. Splitting only pays off for lists of hundreds of thousands of
+	 * elements or more.
+	 * </p>
+	 * 
+	 * @param threshold
+	 * @throws IllegalArgumentException if threshold is negative.
+	 */
+	public void setParallelThreshold(int threshold) {
+		if (threshold < 0)
+			throw new IllegalArgumentException();
+
+		parallelThreshold = threshold;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * <p>
+	 * Returns a view of the elements from index <i>from</i> (inclusive) to index
+	 * <i>to</i> (exclusive). The view reads and writes this list's backing array
+	 * directly, so nothing is copied, and set on either one shows up in the other.
+	 * Inserting or removing through the view changes this list as well.
+	 * </p>
+	 * <p>
+	 * Once this list's size is changed other than through the view, the view
+	 * throws a ConcurrentModificationException on every call.
+	 * </p>
+	 * 
+	 * @param from
+	 * @param to
+	 * @return
+	 * @throws IndexOutOfBoundsException if from and to are not
+	 *                                   0 &lt;= from &lt;= to &lt;= size.
+	 */
+	public ${Type}List slice(int from, int to) {
+		if (from < 0 || from > to || to > size)
+			throw new IndexOutOfBoundsException();
+
+		return new Slice(from, to - from);
+	}
+
+	/**
+	 * Sorts this list into ascending order, in place in the backing array, in the
+	 * same order as Arrays.sort. Lists at least as big as the parallel threshold
+	 * are sorted with Arrays.parallelSort instead.
+	 */
+	public void sort() {
+		if (isParallel(size))
+			Arrays.parallelSort(data, 0, size);
+		else
+			Arrays.sort(data, 0, size);
+
+		if (hashIndex != null)
+			hashIndex.reordered(data, size);
+	}
+
+	/**
+	 * Returns a spliterator over the values in this list, read straight from the
+	 * backing array. It always splits its range in half and knows the exact size
+	 * of every part, so a parallel stream divides the work evenly. Changing the
+	 * list's size while the spliterator is in use causes a
+	 * ConcurrentModificationException.
+	 * 
+	 * @return
+	 */
+	public Spliterator.Of${Fn} spliterator() {
+		return new ArraySpliterator(0, size, modCount);
+	}
+
+	/**
+	 * Returns a sequential stream over the values in this list, without copying
+	 * them. Call parallel() on it to work through the list on several threads.
+	 * 
+	 * @return
+	 */
+	public ${Fn}Stream ${fn}Stream() {
+		return StreamSupport.${fn}Stream(spliterator(), false);
+	}
+
+	/**
+	 * Returns the sum of the values in this list, or 0 if it is empty.
+	 * ${sumDoc}
+	 * 
+	 * @return
+	 */
+	public ${sumType} sum() {
+		if (isParallel(size))
+			return ForkJoinRanges.reduce(0, size, this::sumOfRange, (a, b) -> a + b);
+
+		return sumOfRange(0, size);
+	}
+
+	@Override
+	public ${type}[] toArray() {
+		if (isParallel(size)) {
+			${type}[] arr = new ${type}[size];
+			ForkJoinRanges.forEach(0, size, (from, to) -> System.arraycopy(data, from, arr, from, to - from));
+			return arr;
+		}
+
+		return Arrays.copyOf(data, size);
+	}
+
+	/**
+	 * Copies this list into the given array, starting at destOff, without
+	 * allocating anything.
+	 * 
+	 * @param dest
+	 * @param destOff
+	 * @return dest
+	 * @throws IndexOutOfBoundsException if the list does not fit in dest starting
+	 *                                   at destOff.
+	 */
+	public ${type}[] toArray(${type}[] dest, int destOff) {
+		return copyRange(0, size, dest, destOff);
+	}
+
+	@Override
+	public void trimToSize() {
+		if (data.length != size)
+			changeBackingArray(size);
+	}
+
+	/**
+	 * Checks if a bulk operation on the given number of elements should be split
+	 * across the common ForkJoinPool.
+	 * 
+	 * @param length
+	 * @return
+	 */
+	private boolean isParallel(int length) {
+		return length >= parallelThreshold;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of val between from (inclusive)
+	 * and to (exclusive), or -1 if it isn't there. Big ranges are searched in
+	 * parallel.
+	 * 
+	 * @param val
+	 * @param from
+	 * @param to
+	 * @return
+	 */
+	private int find(${type} val, int from, int to) {
+		if (isParallel(to - from))
+			return ForkJoinRanges.firstIndex(from, to, (start, end) -> indexOfRange(val, start, end));
+
+		return indexOfRange(val, from, to);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of val between from (inclusive)
+	 * and to (exclusive), or -1 if it isn't there.
+	 * 
+	 * @param val
+	 * @param from
+	 * @param to
+	 * @return
+	 */
+	private int indexOfRange(${type} val, int from, int to) {
+		for (int i = from; i < to; i++)
+			if (same(data[i], val))
+				return i;
+
+		return -1;
+	}
+
+	/**
+	 * Returns the index of the last occurrence of val between from (inclusive) and
+	 * to (exclusive), or -1 if it isn't there.
+	 * 
+	 * @param val
+	 * @param from
+	 * @param to
+	 * @return
+	 */
+	private int lastIndexOfRange(${type} val, int from, int to) {
+		for (int i = to - 1; i >= from; i--)
+			if (same(data[i], val))
+				return i;
+
+		return -1;
+	}
+
+	/**
+	 * Returns the largest value from index from (inclusive) to index to
+	 * (exclusive). The range must not be empty.
+	 * 
+	 * @param from
+	 * @param to
+	 * @return
+	 */
+	private ${type} maxOfRange(int from, int to) {
+		${type} max = data[from];
+
+		for (int i = from + 1; i < to; i++)
+			max = ${narrow}Math.max(max, data[i]);
+
+		return max;
+	}
+
+	/**
+	 * Returns the smallest value from index from (inclusive) to index to
+	 * (exclusive). The range must not be empty.
+	 * 
+	 * @param from
+	 * @param to
+	 * @return
+	 */
+	private ${type} minOfRange(int from, int to) {
+		${type} min = data[from];
+
+		for (int i = from + 1; i < to; i++)
+			min = ${narrow}Math.min(min, data[i]);
+
+		return min;
+	}
+
+	/**
+	 * Applies op to each element from index from (inclusive) to index to
+	 * (exclusive).
+	 * 
+	 * @param op
+	 * @param from
+	 * @param to
+	 */
+	private void replaceRange(${Fn}UnaryOperator op, int from, int to) {
+		for (int i = from; i < to; i++)
+			data[i] = ${narrow}op.applyAs${Fn}(data[i]);
+	}
+
+	/**
+	 * Returns the sum of the values from index from (inclusive) to index to
+	 * (exclusive).
+	 * 
+	 * @param from
+	 * @param to
+	 * @return
+	 */
+	private ${sumType} sumOfRange(int from, int to) {
+		${sumType} sum = 0;
+
+		for (int i = from; i < to; i++)
+			sum += data[i];
+
+		return sum;
+	}
+
+	/**
+	 * Removes the elements from index from (inclusive) to index to (exclusive),
+	 * shifting the values after them to the left once.
+	 * 
+	 * @param from
+	 * @param to
+	 */
+	private void removeRange(int from, int to) {
+		System.arraycopy(data, to, data, from, size - to);
+		size -= to - from;
+		modCount++;
+		shrinkIfNeeded();
+
+		if (hashIndex != null)
+			hashIndex.rebuild(data, size);
+	}
+
+	/**
+	 * Checks if two values are the same. ${sameDoc}
+	 * 
+	 * @param a
+	 * @param b
+	 * @return
+	 */
+	private static boolean same(${type} a, ${type} b) {
+		return ${sameBody};
+	}
+
+	/**
+	 * Returns the RADIX_BITS-bit digit of a's sort key that starts at the given
+	 * bit. The sort keys are unsigned numbers that sort the same way as the
+	 * values.
+	 * 
+	 * @param a
+	 * @param shift
+	 * @return
+	 */
+	private static int digit(${type} a, int shift) {
+		return (int) ((${radixKey}) >>> shift) & (RADIX - 1);
+	}
+
+	/**
+	 * Changes the backing array to a new array with the given size. All data from
+	 * the old array is copied to the new array in order.
+	 * 
+	 * @param newSize
+	 */
+	private void changeBackingArray(int newSize) {
+		${type}[] newData = new ${type}[newSize];
+
+		System.arraycopy(data, 0, newData, 0, size);
+
+		data = newData;
+	}
+
+	/**
+	 * Shrinks the backing array if the growth policy asks for it.
+	 */
+	private void shrinkIfNeeded() {
+		int newCapacity = policy.shrink(data.length, size);
+
+		if (newCapacity != data.length)
+			changeBackingArray(newCapacity);
+	}
+
+	/**
+	 * Makes room for len values at the given index: grows the backing array if
+	 * needed, increases size and shifts everything from index onwards to the right.
+	 * The values in the gap are left as they were.
+	 * 
+	 * @param index
+	 * @param len
+	 * @throws IndexOutOfBoundsException if the given index is not between 0 and
+	 *                                   size inclusive.
+	 */
+	private void openGap(int index, int len) {
+		if (index < 0 || index > size)
+			throw new IndexOutOfBoundsException();
+
+		ensureCapacity(size + len);
+		size += len;
+		modCount++;
+		shiftDataRight(index, len);
+	}
+
+	/**
+	 * Shifts data in the backing array <i>distance</i> places to the right,
+	 * including the value at startIndex. Assumes size has already been increased
+	 * by distance.
+	 * 
+	 * @param startIndex Where to start shifting
+	 * @param distance   How far to shift
+	 */
+	private void shiftDataRight(int startIndex, int distance) {
+		System.arraycopy(data, startIndex, data, startIndex + distance, size - distance - startIndex);
+	}
+
+	/**
+	 * Shifts data in the backing array one to the left, including the value at
+	 * startIndex and the value at index size. startIndex should never be 0. The
+	 * data to the left of startIndex will be lost. Assumes size has already been
+	 * decremented.
+	 * 
+	 * @param startIndex Where to start shifting
+	 */
+	private void shiftDataLeft(int startIndex) {
+		System.arraycopy(data, startIndex, data, startIndex - 1, size - startIndex + 1);
+	}
+
+	/**
+	 * A view of part of the list, returned by slice.
+	 */
+	private class Slice implements ${Type}List {
+
+		private final int offset;
+		private int length;
+		private int expectedModCount;
+
+		Slice(int offset, int length) {
+			this.offset = offset;
+			this.length = length;
+			this.expectedModCount = modCount;
+		}
+
+		@Override
+		public void append(${type} value) {
+			insert(length, value);
+		}
+
+		@Override
+		public void appendAll(${Type}List vals) {
+			checkForComodification();
+
+			${type}[] arr = vals.toArray(); // vals may be this slice or the whole list
+			insertAll(offset + length, arr, 0, arr.length);
+			length += arr.length;
+			expectedModCount = modCount;
+		}
+
+		@Override
+		public void clear() {
+			checkForComodification();
+
+			removeRange(offset, offset + length);
+			length = 0;
+			expectedModCount = modCount;
+		}
+
+		@Override
+		public boolean contains(${type} val) {
+			return indexOf(val) != -1;
+		}
+
+		@Override
+		public boolean equals(${Type}List other) {
+			checkForComodification();
+
+			if (other == null)
+				return false;
+
+			if (length != other.size())
+				return false;
+
+			if (other instanceof ${Type}DynamicList) // Compare backing arrays directly
+				return Arrays.equals(data, offset, offset + length, ((${Type}DynamicList) other).data, 0, length);
+
+			for (int i = 0; i < length; i++)
+				if (!same(data[offset + i], other.get(i)))
+					return false;
+
+			return true;
+		}
+
+		@Override
+		public ${type} get(int index) {
+			checkForComodification();
+
+			if (index < 0 || index >= length)
+				throw new IndexOutOfBoundsException();
+
+			return data[offset + index];
+		}
+
+		@Override
+		public int indexOf(${type} val) {
+			checkForComodification();
+
+			int i = find(val, offset, offset + length);
+
+			return i == -1 ? -1 : i - offset;
+		}
+
+		@Override
+		public void insert(int index, ${type} val) {
+			checkForComodification();
+
+			if (index < 0 || index > length)
+				throw new IndexOutOfBoundsException();
+
+			${Type}DynamicList.this.insert(offset + index, val);
+			length++;
+			expectedModCount = modCount;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			checkForComodification();
+
+			return length == 0;
+		}
+
+		@Override
+		public int lastIndexOf(${type} val) {
+			checkForComodification();
+
+			int i = lastIndexOfRange(val, offset, offset + length);
+
+			return i == -1 ? -1 : i - offset;
+		}
+
+		@Override
+		public void prepend(${type} val) {
+			insert(0, val);
+		}
+
+		@Override
+		public ${type} remove(int index) {
+			checkForComodification();
+
+			if (index < 0 || index >= length)
+				throw new IndexOutOfBoundsException();
+
+			${type} oldVal = ${Type}DynamicList.this.remove(offset + index);
+			length--;
+			expectedModCount = modCount;
+
+			return oldVal;
+		}
+
+		@Override
+		public ${type} set(int index, ${type} val) {
+			checkForComodification();
+
+			if (index < 0 || index >= length)
+				throw new IndexOutOfBoundsException();
+
+			return ${Type}DynamicList.this.set(offset + index, val);
+		}
+
+		@Override
+		public int size() {
+			checkForComodification();
+
+			return length;
+		}
+
+		@Override
+		public ${type}[] toArray() {
+			checkForComodification();
+
+			return Arrays.copyOfRange(data, offset, offset + length);
+		}
+
+		/**
+		 * Does nothing, since a slice has no backing array of its own.
+		 */
+		@Override
+		public void trimToSize() {
+			checkForComodification();
+		}
+
+		/**
+		 * Throws an exception if the list's size was changed other than through this
+		 * slice.
+		 * 
+		 * @throws ConcurrentModificationException if the list was changed.
+		 */
+		private void checkForComodification() {
+			if (modCount != expectedModCount)
+				throw new ConcurrentModificationException();
+		}
+
+	}
+
+	/**
+	 * A spliterator over part of the backing array, returned by spliterator.
+	 */
+	private class ArraySpliterator implements Spliterator.Of${Fn} {
+
+		private int index;
+		private final int fence;
+		private final int expectedModCount;
+
+		ArraySpliterator(int index, int fence, int expectedModCount) {
+			this.index = index;
+			this.fence = fence;
+			this.expectedModCount = expectedModCount;
+		}
+
+		@Override
+		public int characteristics() {
+			return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+		}
+
+		@Override
+		public long estimateSize() {
+			return fence - index;
+		}
+
+		@Override
+		public void forEachRemaining(${Fn}Consumer action) {
+			if (action == null)
+				throw new NullPointerException();
+
+			${type}[] arr = data;
+			for (int i = index; i < fence; i++)
+				action.accept(arr[i]);
+
+			index = fence;
+			checkForComodification();
+		}
+
+		@Override
+		public boolean tryAdvance(${Fn}Consumer action) {
+			if (action == null)
+				throw new NullPointerException();
+
+			if (index >= fence)
+				return false;
+
+			action.accept(data[index++]);
+			checkForComodification();
+
+			return true;
+		}
+
+		@Override
+		public ArraySpliterator trySplit() {
+			int mid = (index + fence) >>> 1;
+
+			if (mid <= index)
+				return null;
+
+			ArraySpliterator prefix = new ArraySpliterator(index, mid, expectedModCount);
+			index = mid;
+
+			return prefix;
+		}
+
+		/**
+		 * Throws an exception if the list's size was changed since this spliterator
+		 * was created.
+		 * 
+		 * @throws ConcurrentModificationException if the list was changed.
+		 */
+		private void checkForComodification() {
+			if (modCount != expectedModCount)
+				throw new ConcurrentModificationException();
+		}
+
+	}
+
+}
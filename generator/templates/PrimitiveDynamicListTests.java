@@ -0,0 +1,767 @@
+package dynamicList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the parts of ${Type}DynamicList that are not in the list interface.
+ */
+class ${Type}DynamicListTests {
+
+	/**
+	 * Converts an int from the test data to the element type of the list.
+	 * 
+	 * @param i
+	 * @return
+	 */
+	static ${type} v(int i) {
+		return ${narrow}i;
+	}
+
+	/**
+	 * A list created with an initial capacity starts empty and can grow past it.
+	 */
+	@Test
+	void constructorTest01() {
+		${Type}DynamicList l = new ${Type}DynamicList(2);
+		assertEquals(0, l.size());
+		for (int i = 0; i < 100; i++)
+			l.append(v(i));
+
+		assertEquals(100, l.size());
+		for (int i = 0; i < 100; i++)
+			assertEquals(v(i), l.get(i));
+	}
+
+	/**
+	 * A list created with a capacity of 0 can still be appended to.
+	 */
+	@Test
+	void constructorTest02() {
+		${Type}DynamicList l = new ${Type}DynamicList(0);
+		l.append(v(1));
+
+		assertEquals(1, l.size());
+		assertEquals(v(1), l.get(0));
+	}
+
+	/**
+	 * A negative initial capacity throws an exception.
+	 */
+	@Test
+	void constructorTest03() {
+		assertThrows(IllegalArgumentException.class, () -> {
+			new ${Type}DynamicList(-1);
+		});
+	}
+
+	/**
+	 * A list wrapping an array contains the array's elements, and writes through
+	 * the list are visible in the array until the list grows.
+	 */
+	@Test
+	void constructorTest04() {
+		${type}[] arr = { 1, 2, 3 };
+		${Type}DynamicList l = new ${Type}DynamicList(arr);
+		l.set(0, v(0));
+
+		assertEquals(3, l.size());
+		assertEquals(0, arr[0]);
+		l.append(v(4));
+		assertEquals(4, l.size());
+		assertEquals(v(4), l.get(3));
+	}
+
+	/**
+	 * ensureCapacity on an empty list, followed by appends.
+	 */
+	@Test
+	void ensureCapacityTest01() {
+		${Type}DynamicList l = new ${Type}DynamicList();
+		l.ensureCapacity(1000);
+		for (int i = 0; i < 1000; i++)
+			l.append(v(i));
+
+		assertEquals(1000, l.size());
+		for (int i = 0; i < 1000; i++)
+			assertEquals(v(i), l.get(i));
+	}
+
+	/**
+	 * ensureCapacity with a smaller capacity than the list's keeps all elements.
+	 */
+	@Test
+	void ensureCapacityTest02() {
+		${Type}DynamicList l = new ${Type}DynamicList();
+		l.append(v(0));
+		l.append(v(1));
+		l.ensureCapacity(1);
+
+		assertEquals(2, l.size());
+		assertEquals(v(0), l.get(0));
+		assertEquals(v(1), l.get(1));
+	}
+
+	/**
+	 * Appending a range of an array.
+	 */
+	@Test
+	void appendAllTest07() {
+		${Type}DynamicList l = new ${Type}DynamicList();
+		l.append(v(0));
+		${type}[] src = { 9, 1, 2, 3, 9 };
+		l.appendAll(src, 1, 3);
+
+		${type}[] expected = { 0, 1, 2, 3 };
+		assertArrayEquals(expected, l.toArray());
+	}
+
+	/**
+	 * Appending a range that does not fit in the array throws an exception and
+	 * leaves the list unchanged.
+	 */
+	@Test
+	void appendAllTest08() {
+		${Type}DynamicList l = new ${Type}DynamicList();
+		${type}[] src = { 1, 2, 3 };
+
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.appendAll(src, 2, 2);
+		});
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.appendAll(src, -1, 1);
+		});
+		assertEquals(0, l.size());
+	}
+
+	/**
+	 * Inserting a list into the middle of a list.
+	 */
+	@Test
+	void insertAllTest01() {
+		${Type}DynamicList l = new ${Type}DynamicList();
+		l.append(v(0));
+		l.append(v(4));
+		${Type}DynamicList other = new ${Type}DynamicList();
+		other.append(v(1));
+		other.append(v(2));
+		other.append(v(3));
+		l.insertAll(1, other);
+
+		assertEquals(5, l.size());
+		for (int i = 0; i < l.size(); i++)
+			assertEquals(v(i), l.get(i));
+	}
+
+	/**
+	 * Inserting 1000 elements at the front of a list. Guarantees a resize.
+	 */
+	@Test
+	void insertAllTest02() {
+		${Type}DynamicList l = new ${Type}DynamicList();
+		l.append(v(1000));
+		${type}[] src = new ${type}[1000];
+		for (int i = 0; i < 1000; i++)
+			src[i] = v(i);
+		l.insertAll(0, src, 0, 1000);
+
+		assertEquals(1001, l.size());
+		for (int i = 0; i < l.size(); i++)
+			assertEquals(v(i), l.get(i));
+	}
+
+	/**
+	 * Inserting a list into itself.
+	 */
+	@Test
+	void insertAllTest03() {
+		${Type}DynamicList l = new ${Type}DynamicList();
+		l.append(v(0));
+		l.append(v(1));
+		l.insertAll(1, l);
+
+		${type}[] expected = { 0, 0, 1, 1 };
+		assertArrayEquals(expected, l.toArray());
+	}
+
+	/**
+	 * Inserting at an invalid index throws an exception.
+	 */
+	@Test
+	void insertAllTest04() {
+		${Type}DynamicList l = new ${Type}DynamicList();
+		${Type}DynamicList other = new ${Type}DynamicList();
+		other.append(v(1));
+
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.insertAll(1, other);
+		});
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.insertAll(-1, other);
+		});
+	}
+
+	/**
+	 * Appending or inserting a slice of the list itself copies the slice before
+	 * making room for it.
+	 */
+	@Test
+	void insertAllTest05() {
+		${Type}DynamicList l = bigList(5, false);
+		l.appendAll(l.slice(0, 2));
+
+		${type}[] expected = { 0, 1, 2, 3, 4, 0, 1 };
+		assertArrayEquals(expected, l.toArray());
+
+		${Type}DynamicList m = bigList(5, false);
+		m.insertAll(0, m.slice(3, 5));
+
+		${type}[] expectedInserted = { 3, 4, 0, 1, 2, 3, 4 };
+		assertArrayEquals(expectedInserted, m.toArray());
+	}
+
+	/**
+	 * toArray(dest, destOff) fills the given array without touching the rest of it.
+	 */
+	@Test
+	void toArrayTest01() {
+		${Type}DynamicList l = new ${Type}DynamicList();
+		l.append(v(1));
+		l.append(v(2));
+		${type}[] dest = { 9, 9, 9, 9 };
+
+		assertSame(dest, l.toArray(dest, 1));
+		${type}[] expected = { 9, 1, 2, 9 };
+		assertArrayEquals(expected, dest);
+	}
+
+	/**
+	 * toArray(dest, destOff) throws an exception if the list does not fit.
+	 */
+	@Test
+	void toArrayTest02() {
+		${Type}DynamicList l = new ${Type}DynamicList();
+		l.append(v(1));
+		l.append(v(2));
+		${type}[] dest = new ${type}[2];
+
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.toArray(dest, 1);
+		});
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.toArray(dest, -1);
+		});
+	}
+
+	/**
+	 * copyRange copies part of the list.
+	 */
+	@Test
+	void copyRangeTest01() {
+		${Type}DynamicList l = new ${Type}DynamicList();
+		for (int i = 0; i < 10; i++)
+			l.append(v(i));
+		${type}[] dest = new ${type}[5];
+		l.copyRange(3, 6, dest, 2);
+
+		${type}[] expected = { 0, 0, 3, 4, 5 };
+		assertArrayEquals(expected, dest);
+	}
+
+	/**
+	 * copyRange with an empty range or a range outside the list.
+	 */
+	@Test
+	void copyRangeTest02() {
+		${Type}DynamicList l = new ${Type}DynamicList();
+		l.append(v(1));
+		${type}[] dest = new ${type}[0];
+
+		assertSame(dest, l.copyRange(1, 1, dest, 0));
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.copyRange(0, 2, new ${type}[2], 0);
+		});
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.copyRange(1, 0, new ${type}[2], 0);
+		});
+	}
+
+	/**
+	 * A slice sees the parent's elements in its range, and set writes through in
+	 * both directions.
+	 */
+	@Test
+	void sliceTest01() {
+		${Type}DynamicList l = new ${Type}DynamicList();
+		for (int i = 0; i < 20; i++)
+			l.append(v(i));
+		${Type}List s = l.slice(5, 15);
+
+		assertEquals(10, s.size());
+		assertEquals(v(5), s.get(0));
+		assertEquals(3, s.indexOf(v(8)));
+		assertEquals(9, s.lastIndexOf(v(14)));
+		assertEquals(-1, s.indexOf(v(15)));
+		assertFalse(s.contains(v(4)));
+
+		s.set(0, v(50));
+		assertEquals(v(50), l.get(5));
+		l.set(14, v(60));
+		assertEquals(v(60), s.get(9));
+	}
+
+	/**
+	 * Inserting and removing through a slice changes the parent too.
+	 */
+	@Test
+	void sliceTest02() {
+		${Type}DynamicList l = new ${Type}DynamicList();
+		for (int i = 0; i < 6; i++)
+			l.append(v(i));
+		${Type}List s = l.slice(2, 4);
+
+		s.append(v(9));
+		s.prepend(v(8));
+		assertEquals(v(3), s.remove(2));
+		${type}[] expected = { 0, 1, 8, 2, 9, 4, 5 };
+		assertArrayEquals(expected, l.toArray());
+		${type}[] expectedSlice = { 8, 2, 9 };
+		assertArrayEquals(expectedSlice, s.toArray());
+
+		s.clear();
+		${type}[] expectedCleared = { 0, 1, 4, 5 };
+		assertArrayEquals(expectedCleared, l.toArray());
+		assertTrue(s.isEmpty());
+	}
+
+	/**
+	 * A slice can't be used after the parent is resized, but can after set.
+	 */
+	@Test
+	void sliceTest03() {
+		${Type}DynamicList l = new ${Type}DynamicList();
+		for (int i = 0; i < 6; i++)
+			l.append(v(i));
+		${Type}List s = l.slice(2, 4);
+
+		l.set(0, v(7));
+		assertEquals(2, s.size());
+		l.append(v(6));
+		assertThrows(ConcurrentModificationException.class, () -> {
+			s.get(0);
+		});
+		assertThrows(ConcurrentModificationException.class, () -> {
+			s.size();
+		});
+	}
+
+	/**
+	 * A slice equals lists with the same values, and slice ranges are checked.
+	 */
+	@Test
+	void sliceTest04() {
+		${Type}DynamicList l = new ${Type}DynamicList();
+		${Type}DynamicList other = new ${Type}DynamicList();
+		for (int i = 0; i < 6; i++)
+			l.append(v(i));
+		for (int i = 1; i < 4; i++)
+			other.append(v(i));
+
+		assertTrue(l.slice(1, 4).equals(other));
+		assertTrue(l.slice(1, 4).equals(l.slice(1, 4)));
+		assertFalse(l.slice(1, 5).equals(other));
+		assertEquals(0, l.slice(6, 6).size());
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.slice(3, 2);
+		});
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.slice(0, 7);
+		});
+	}
+
+	/**
+	 * Makes a list of n values that repeat every 100.
+	 * 
+	 * @param n
+	 * @param parallel Whether bulk operations on the list should be split up.
+	 * @return
+	 */
+	static ${Type}DynamicList bigList(int n, boolean parallel) {
+		${Type}DynamicList l = new ${Type}DynamicList(n);
+		for (int i = 0; i < n; i++)
+			l.append(v(i % 100));
+		if (parallel)
+			l.setParallelThreshold(0);
+
+		return l;
+	}
+
+	/**
+	 * Parallel searches find the same, first, occurrences as sequential ones.
+	 */
+	@Test
+	void parallelTest01() {
+		${Type}DynamicList seq = bigList(100_000, false);
+		${Type}DynamicList par = bigList(100_000, true);
+		par.set(90_000, v(101));
+
+		assertEquals(42, par.indexOf(v(42)));
+		assertEquals(seq.lastIndexOf(v(42)), par.lastIndexOf(v(42)));
+		assertEquals(90_000, par.indexOf(v(101)));
+		assertEquals(-1, par.indexOf(v(102)));
+		assertTrue(par.contains(v(99)));
+		assertFalse(par.contains(v(100)));
+		assertEquals(90_000, par.slice(1, 100_000).indexOf(v(101)) + 1);
+	}
+
+	/**
+	 * Parallel equals and toArray agree with the sequential versions.
+	 */
+	@Test
+	void parallelTest02() {
+		${Type}DynamicList seq = bigList(100_000, false);
+		${Type}DynamicList par = bigList(100_000, true);
+
+		assertTrue(par.equals(seq));
+		assertArrayEquals(seq.toArray(), par.toArray());
+
+		seq.set(99_999, v(100));
+		assertFalse(par.equals(seq));
+		seq.set(99_999, v(99));
+		seq.set(3, v(100));
+		assertFalse(par.equals(seq));
+	}
+
+	/**
+	 * fill and replaceAll change every element, in parallel or not.
+	 */
+	@Test
+	void parallelTest03() {
+		${Type}DynamicList seq = bigList(100_000, false);
+		${Type}DynamicList par = bigList(100_000, true);
+
+		seq.replaceAll(x -> x + 1);
+		par.replaceAll(x -> x + 1);
+		assertTrue(seq.equals(par));
+		assertEquals(v(1), par.get(0));
+		assertEquals(v(100), par.get(99_999));
+
+		par.fill(v(7));
+		assertEquals(100_000, par.size());
+		assertEquals(-1, par.indexOf(v(1)));
+		assertEquals(v(7), par.get(54_321));
+	}
+
+	/**
+	 * sum, min and max give the same results in parallel.
+	 */
+	@Test
+	void parallelTest04() {
+		${Type}DynamicList seq = bigList(100_000, false);
+		${Type}DynamicList par = bigList(100_000, true);
+		par.set(77_777, v(-5));
+		seq.set(77_777, v(-5));
+
+		assertEquals(seq.sum(), par.sum());
+		assertEquals(v(-5), par.min());
+		assertEquals(v(99), par.max());
+		assertEquals(seq.min(), par.min());
+		assertEquals(seq.max(), par.max());
+	}
+
+	/**
+	 * sum of an empty list is 0, and min and max throw exceptions.
+	 */
+	@Test
+	void sumTest01() {
+		${Type}DynamicList l = new ${Type}DynamicList();
+
+		assertEquals(0, l.sum());
+		assertThrows(NoSuchElementException.class, () -> {
+			l.min();
+		});
+		assertThrows(NoSuchElementException.class, () -> {
+			l.max();
+		});
+		l.append(v(3));
+		l.append(v(-4));
+		assertEquals(-1, l.sum());
+		assertEquals(v(-4), l.min());
+		assertEquals(v(3), l.max());
+	}
+
+	/**
+	 * The parallel threshold can't be negative.
+	 */
+	@Test
+	void parallelThresholdTest01() {
+		${Type}DynamicList l = new ${Type}DynamicList();
+		assertEquals(Integer.MAX_VALUE, l.getParallelThreshold());
+		l.setParallelThreshold(1000);
+		assertEquals(1000, l.getParallelThreshold());
+
+		assertThrows(IllegalArgumentException.class, () -> {
+			l.setParallelThreshold(-1);
+		});
+	}
+
+	/**
+	 * The stream sees every value in order, sequential or parallel.
+	 */
+	@Test
+	void streamTest01() {
+		${Type}DynamicList l = bigList(100_000, false);
+
+		assertEquals(100_000, l.${fn}Stream().count());
+		assertEquals(l.sum(), l.${fn}Stream().sum());
+		assertEquals(l.sum(), l.${fn}Stream().parallel().sum());
+		assertEquals(v(42), l.${fn}Stream().skip(142).toArray()[0]);
+		assertEquals(l.${fn}Stream().boxed().toList(), l.${fn}Stream().parallel().boxed().toList());
+	}
+
+	/**
+	 * The spliterator splits evenly and reports exact sizes.
+	 */
+	@Test
+	void spliteratorTest01() {
+		${Type}DynamicList l = bigList(10, false);
+		Spliterator.Of${Fn} right = l.spliterator();
+		Spliterator.Of${Fn} left = right.trySplit();
+
+		assertTrue(right.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+		assertEquals(5, left.estimateSize());
+		assertEquals(5, right.estimateSize());
+		assertTrue(left.tryAdvance((${fn} x) -> assertEquals(v(0), x)));
+		assertEquals(4, left.estimateSize());
+		assertTrue(right.tryAdvance((${fn} x) -> assertEquals(v(5), x)));
+	}
+
+	/**
+	 * A spliterator over an empty list can't split or advance.
+	 */
+	@Test
+	void spliteratorTest02() {
+		Spliterator.Of${Fn} s = new ${Type}DynamicList().spliterator();
+
+		assertNull(s.trySplit());
+		assertFalse(s.tryAdvance((${fn} x) -> fail()));
+		assertEquals(0, s.estimateSize());
+	}
+
+	/**
+	 * A stream fails if the list's size changes while it runs.
+	 */
+	@Test
+	void streamTest02() {
+		${Type}DynamicList l = bigList(10, false);
+
+		assertThrows(ConcurrentModificationException.class, () -> {
+			l.${fn}Stream().forEach(x -> l.append(v(0)));
+		});
+	}
+
+	/**
+	 * Turning the index on builds it from the current values, and turning it off
+	 * goes back to scanning.
+	 */
+	@Test
+	void indexedTest01() {
+		${Type}DynamicList l = bigList(10, false);
+		l.append(v(3));
+		assertFalse(l.isIndexed());
+
+		l.setIndexed(true);
+		assertTrue(l.isIndexed());
+		assertEquals(3, l.indexOf(v(3)));
+		assertEquals(10, l.lastIndexOf(v(3)));
+		assertTrue(l.contains(v(9)));
+		assertFalse(l.contains(v(10)));
+		assertEquals(-1, l.indexOf(v(10)));
+
+		l.clear();
+		assertFalse(l.contains(v(3)));
+		l.append(v(10));
+		assertEquals(0, l.indexOf(v(10)));
+
+		l.setIndexed(false);
+		assertFalse(l.isIndexed());
+		assertEquals(0, l.lastIndexOf(v(10)));
+	}
+
+	/**
+	 * An indexed list answers contains, indexOf and lastIndexOf the same as an
+	 * unindexed one through a random mix of changes.
+	 */
+	@Test
+	void indexedTest02() {
+		Random random = new Random(23);
+		${Type}DynamicList indexed = new ${Type}DynamicList();
+		${Type}DynamicList plain = new ${Type}DynamicList();
+		indexed.setIndexed(true);
+
+		for (int step = 0; step < 3000; step++) {
+			${type} val = v(random.nextInt(20));
+			int op = random.nextInt(9);
+
+			if (op == 0) {
+				indexed.prepend(val);
+				plain.prepend(val);
+			} else if (op == 1 && plain.size() > 0) {
+				int index = random.nextInt(plain.size());
+				indexed.set(index, val);
+				plain.set(index, val);
+			} else if (op == 2 && plain.size() > 0) {
+				int index = random.nextBoolean() ? 0 : plain.size() - 1;
+				assertEquals(plain.remove(index), indexed.remove(index));
+			} else if (op == 3 && plain.size() > 0) {
+				int index = random.nextInt(plain.size());
+				assertEquals(plain.remove(index), indexed.remove(index));
+			} else if (op == 4) {
+				int index = random.nextInt(plain.size() + 1);
+				indexed.insert(index, val);
+				plain.insert(index, val);
+			} else if (op == 5) {
+				${type}[] batch = { val, v(random.nextInt(20)), val };
+				int index = random.nextBoolean() ? plain.size() : random.nextInt(plain.size() + 1);
+				indexed.insertAll(index, batch, 0, batch.length);
+				plain.insertAll(index, batch, 0, batch.length);
+			} else if (op == 6 && plain.size() > 4) {
+				int from = random.nextInt(plain.size() - 4);
+				indexed.slice(from, from + 3).clear();
+				plain.slice(from, from + 3).clear();
+			} else if (op == 7 && random.nextInt(50) == 0) {
+				indexed.clear();
+				plain.clear();
+			} else {
+				indexed.append(val);
+				plain.append(val);
+			}
+
+			${type} probe = v(random.nextInt(21));
+			assertEquals(plain.contains(probe), indexed.contains(probe));
+			if (random.nextInt(4) == 0) { // Let some changes pile up between lookups
+				assertEquals(plain.indexOf(probe), indexed.indexOf(probe));
+				assertEquals(plain.lastIndexOf(probe), indexed.lastIndexOf(probe));
+			}
+		}
+
+		for (int i = 0; i <= 20; i++) {
+			assertEquals(plain.indexOf(v(i)), indexed.indexOf(v(i)));
+			assertEquals(plain.lastIndexOf(v(i)), indexed.lastIndexOf(v(i)));
+		}
+	}
+
+	/**
+	 * fill and replaceAll rebuild the index.
+	 */
+	@Test
+	void indexedTest03() {
+		${Type}DynamicList l = bigList(10, false);
+		l.setIndexed(true);
+
+		l.replaceAll(x -> x + 10);
+		assertEquals(-1, l.indexOf(v(0)));
+		assertEquals(9, l.indexOf(v(19)));
+
+		l.fill(v(7));
+		assertEquals(0, l.indexOf(v(7)));
+		assertEquals(9, l.lastIndexOf(v(7)));
+		assertFalse(l.contains(v(10)));
+	}
+
+	/**
+	 * Lookups only read the index, so after inserts and removes in the middle
+	 * several threads can look up values at once and all get the right answers.
+	 */
+	@Test
+	void indexedTest04() {
+		${Type}DynamicList l = bigList(5000, false);
+		l.setIndexed(true);
+		l.insert(2500, v(100));
+		l.remove(10);
+		l.insert(4000, v(3));
+		${Type}DynamicList plain = new ${Type}DynamicList(l.toArray());
+
+		for (int round = 0; round < 20; round++)
+			assertTrue(IntStream.range(0, 102).parallel().allMatch(i -> l.indexOf(v(i)) == plain.indexOf(v(i))
+					&& l.lastIndexOf(v(i)) == plain.lastIndexOf(v(i))));
+	}
+
+	/**
+	 * sort, radixSort and parallelSort all give the same result as Arrays.sort
+	 * on random values, including negative ones.
+	 */
+	@Test
+	void sortTest01() {
+		Random random = new Random(25);
+		${Type}DynamicList l = new ${Type}DynamicList();
+		for (int i = 0; i < 5000; i++)
+			l.append(v(random.nextInt()));
+
+		${type}[] expected = l.toArray();
+		Arrays.sort(expected);
+
+		${Type}DynamicList sorted = new ${Type}DynamicList(l.toArray());
+		sorted.sort();
+		assertArrayEquals(expected, sorted.toArray());
+
+		${Type}DynamicList radixSorted = new ${Type}DynamicList(l.toArray());
+		radixSorted.radixSort();
+		assertArrayEquals(expected, radixSorted.toArray());
+
+		${Type}DynamicList parallelSorted = new ${Type}DynamicList(l.toArray());
+		parallelSorted.parallelSort();
+		assertArrayEquals(expected, parallelSorted.toArray());
+
+		${Type}DynamicList thresholdSorted = new ${Type}DynamicList(l.toArray());
+		thresholdSorted.setParallelThreshold(0);
+		thresholdSorted.sort();
+		assertArrayEquals(expected, thresholdSorted.toArray());
+	}
+
+	/**
+	 * radixSort orders the extreme values the same way as Arrays.sort, and
+	 * handles lists that are too short to sort.
+	 */
+	@Test
+	void sortTest02() {
+		${type}[] values = { v(3), ${fromDouble}Double.NaN, ${fromDouble}-0.0, v(0), ${Box}.MIN_VALUE, ${Box}.MAX_VALUE,
+				${fromDouble}-Double.MAX_VALUE, v(-2) };
+		${Type}DynamicList l = new ${Type}DynamicList(values.clone());
+		l.radixSort();
+
+		Arrays.sort(values);
+		assertArrayEquals(values, l.toArray());
+
+		${Type}DynamicList one = new ${Type}DynamicList();
+		one.radixSort();
+		one.append(v(1));
+		one.radixSort();
+		assertEquals(v(1), one.get(0));
+	}
+
+	/**
+	 * Sorting an indexed list keeps its lookups right.
+	 */
+	@Test
+	void sortTest03() {
+		${Type}DynamicList l = bigList(300, false);
+		l.setIndexed(true);
+		assertEquals(0, l.indexOf(v(0)));
+		assertEquals(299, l.lastIndexOf(v(99)));
+
+		l.radixSort();
+		assertEquals(0, l.indexOf(v(0)));
+		assertEquals(2, l.lastIndexOf(v(0)));
+		assertEquals(297, l.indexOf(v(99)));
+	}
+
+}
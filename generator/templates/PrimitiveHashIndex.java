@@ -0,0 +1,454 @@
+package dynamicList;
+
+/**
+ * <p>
+ * A hash index over the values of a ${Type}DynamicList, kept up to date as the
+ * list changes so that contains, indexOf and lastIndexOf don't have to scan
+ * it. Every distinct value maps to how often it occurs and to the indexes of
+ * its first and last occurrence. The map is an open-addressing table with
+ * linear probing, stored in primitive arrays, so values are never boxed.
+ * </p>
+ * <p>
+ * The counts and positions are always exact, and only the writers change
+ * them, so lookups never modify the index. Appends, prepends and removals at
+ * either end update it in O(1). Inserting or removing in the middle moves the
+ * positions of every value on one side of the change, so the index updates
+ * the values on the shorter side, O(min(index, size - index)) probes, the
+ * same order as the copy that makes room in the list. Removing or replacing
+ * the first or last occurrence of a repeated value also scans the list to its
+ * next occurrence.
+ * </p>
+ */
+final class ${Type}HashIndex {
+
+	private static final int MIN_CAPACITY = 8;
+
+	private ${type}[] keys;
+
+	/**
+	 * How often each key occurs. 0 marks an empty slot.
+	 */
+	private int[] counts;
+
+	private int[] firsts;
+	private int[] lasts;
+	private int distinct;
+	private int hashShift;
+
+	/**
+	 * The positions are stored as list index + base, so a change that moves
+	 * every value the same distance only has to change base.
+	 */
+	private int base;
+
+	/**
+	 * Creates an index of the first size values of data.
+	 *
+	 * @param data
+	 * @param size
+	 */
+	${Type}HashIndex(${type}[] data, int size) {
+		rebuild(data, size);
+	}
+
+	/**
+	 * Updates the index after a value was inserted at the given index.
+	 *
+	 * @param index
+	 * @param data
+	 * @param size  The size of the list after the insert.
+	 */
+	void added(int index, ${type}[] data, int size) {
+		addedRange(index, index + 1, data, size);
+	}
+
+	/**
+	 * Updates the index after the values from index from (inclusive) to index to
+	 * (exclusive) were inserted.
+	 *
+	 * @param from
+	 * @param to
+	 * @param data
+	 * @param size The size of the list after the insert.
+	 */
+	void addedRange(int from, int to, ${type}[] data, int size) {
+		int len = to - from;
+
+		if (from < size - to) { // Fewer values before the new ones than after them
+			base -= len;
+			for (int i = 0; i < from; i++)
+				move(data[i], i + len, i);
+		} else {
+			for (int i = size - 1; i >= to; i--)
+				move(data[i], i - len, i);
+		}
+
+		for (int i = from; i < to; i++)
+			place(increment(data[i]), i);
+	}
+
+	/**
+	 * Removes every value from the index.
+	 */
+	void clear() {
+		allocate(MIN_CAPACITY);
+	}
+
+	/**
+	 * Returns how often val occurs in the list.
+	 *
+	 * @param val
+	 * @return
+	 */
+	int count(${type} val) {
+		int slot = find(val);
+
+		return slot == -1 ? 0 : counts[slot];
+	}
+
+	/**
+	 * Returns the index of the first occurrence of val, or -1 if it isn't there.
+	 *
+	 * @param val
+	 * @return
+	 */
+	int first(${type} val) {
+		int slot = find(val);
+
+		return slot == -1 ? -1 : firsts[slot] - base;
+	}
+
+	/**
+	 * Returns the index of the last occurrence of val, or -1 if it isn't there.
+	 *
+	 * @param val
+	 * @return
+	 */
+	int last(${type} val) {
+		int slot = find(val);
+
+		return slot == -1 ? -1 : lasts[slot] - base;
+	}
+
+	/**
+	 * Replaces the whole index with an index of the first size values of data.
+	 *
+	 * @param data
+	 * @param size
+	 */
+	void rebuild(${type}[] data, int size) {
+		allocate(capacityFor(size));
+
+		for (int i = 0; i < size; i++)
+			place(increment(data[i]), i);
+	}
+
+	/**
+	 * Updates the index after the value val at the given index was removed.
+	 *
+	 * @param index
+	 * @param val
+	 * @param data
+	 * @param size  The size of the list after the removal.
+	 */
+	void removed(int index, ${type} val, ${type}[] data, int size) {
+		int slot = find(val);
+
+		if (--counts[slot] == 0) {
+			delete(slot);
+		} else {
+			// The next occurrence is recorded where it was before the removal, so
+			// that moving the values after index below moves it too
+			if (firsts[slot] - base == index)
+				firsts[slot] = next(val, index, data) + 1 + base;
+			if (lasts[slot] - base == index)
+				lasts[slot] = previous(val, index - 1, data) + base;
+		}
+
+		if (index < size - index) { // Fewer values before index than after it
+			base++;
+			for (int i = index - 1; i >= 0; i--)
+				move(data[i], i - 1, i);
+		} else {
+			for (int i = index; i < size; i++)
+				move(data[i], i + 1, i);
+		}
+	}
+
+	/**
+	 * Recomputes every stored position after the list's values were moved around
+	 * without any being added or removed.
+	 *
+	 * @param data
+	 * @param size
+	 */
+	void reordered(${type}[] data, int size) {
+		base = 0;
+
+		for (int i = size - 1; i >= 0; i--)
+			firsts[find(data[i])] = i;
+		for (int i = 0; i < size; i++)
+			lasts[find(data[i])] = i;
+	}
+
+	/**
+	 * Updates the index after the value at the given index was changed from
+	 * oldVal to the value now in data.
+	 *
+	 * @param index
+	 * @param oldVal
+	 * @param data
+	 */
+	void replaced(int index, ${type} oldVal, ${type}[] data) {
+		${type} val = data[index];
+		if (same(oldVal, val))
+			return;
+
+		int slot = find(oldVal);
+		if (--counts[slot] == 0) {
+			delete(slot);
+		} else {
+			if (firsts[slot] - base == index)
+				firsts[slot] = next(oldVal, index + 1, data) + base;
+			if (lasts[slot] - base == index)
+				lasts[slot] = previous(oldVal, index - 1, data) + base;
+		}
+
+		place(increment(val), index);
+	}
+
+	/**
+	 * Updates the stored positions of val after its occurrence at index from
+	 * moved to index to.
+	 *
+	 * @param val
+	 * @param from
+	 * @param to
+	 */
+	private void move(${type} val, int from, int to) {
+		int slot = find(val);
+
+		if (firsts[slot] - base == from)
+			firsts[slot] = to + base;
+		if (lasts[slot] - base == from)
+			lasts[slot] = to + base;
+	}
+
+	/**
+	 * Returns the first index from the given one on that holds val. val must
+	 * occur there.
+	 *
+	 * @param val
+	 * @param from
+	 * @param data
+	 * @return
+	 */
+	private static int next(${type} val, int from, ${type}[] data) {
+		int i = from;
+		while (!same(data[i], val))
+			i++;
+
+		return i;
+	}
+
+	/**
+	 * Records an occurrence of the value in the given slot at the given index,
+	 * after its count was raised.
+	 *
+	 * @param slot
+	 * @param index
+	 */
+	private void place(int slot, int index) {
+		if (counts[slot] == 1) {
+			firsts[slot] = index + base;
+			lasts[slot] = index + base;
+			return;
+		}
+
+		if (index < firsts[slot] - base)
+			firsts[slot] = index + base;
+		if (index > lasts[slot] - base)
+			lasts[slot] = index + base;
+	}
+
+	/**
+	 * Returns the last index up to the given one that holds val. val must occur
+	 * there.
+	 *
+	 * @param val
+	 * @param from
+	 * @param data
+	 * @return
+	 */
+	private static int previous(${type} val, int from, ${type}[] data) {
+		int i = from;
+		while (!same(data[i], val))
+			i--;
+
+		return i;
+	}
+
+	/**
+	 * Raises the count of val, adding it if it isn't in the table yet.
+	 *
+	 * @param val
+	 * @return The slot that holds val.
+	 */
+	private int increment(${type} val) {
+		int mask = counts.length - 1;
+		int i = hash(val);
+
+		for (; counts[i] != 0; i = (i + 1) & mask) {
+			if (same(keys[i], val)) {
+				counts[i]++;
+				return i;
+			}
+		}
+
+		if (distinct + 1 > maxDistinct()) {
+			grow();
+			return increment(val);
+		}
+
+		keys[i] = val;
+		counts[i] = 1;
+		distinct++;
+
+		return i;
+	}
+
+	/**
+	 * Returns the slot that holds val, or -1 if it isn't in the table.
+	 *
+	 * @param val
+	 * @return
+	 */
+	private int find(${type} val) {
+		int mask = counts.length - 1;
+
+		for (int i = hash(val); counts[i] != 0; i = (i + 1) & mask)
+			if (same(keys[i], val))
+				return i;
+
+		return -1;
+	}
+
+	/**
+	 * Empties the given slot, moving later entries of the same probe run back so
+	 * that every entry can still be found without tombstones.
+	 *
+	 * @param slot
+	 */
+	private void delete(int slot) {
+		int mask = counts.length - 1;
+		int hole = slot;
+
+		for (int i = (slot + 1) & mask; counts[i] != 0; i = (i + 1) & mask) {
+			int home = hash(keys[i]);
+
+			if (((i - home) & mask) >= ((i - hole) & mask)) { // The hole is between home and i
+				keys[hole] = keys[i];
+				counts[hole] = counts[i];
+				firsts[hole] = firsts[i];
+				lasts[hole] = lasts[i];
+				hole = i;
+			}
+		}
+
+		counts[hole] = 0;
+		distinct--;
+	}
+
+	/**
+	 * Doubles the table, putting every entry back in its new place.
+	 */
+	private void grow() {
+		${type}[] oldKeys = keys;
+		int[] oldCounts = counts;
+		int[] oldFirsts = firsts;
+		int[] oldLasts = lasts;
+		int oldBase = base;
+
+		allocate(oldCounts.length * 2);
+		base = oldBase;
+
+		int mask = counts.length - 1;
+		for (int j = 0; j < oldCounts.length; j++) {
+			if (oldCounts[j] == 0)
+				continue;
+
+			int i = hash(oldKeys[j]);
+			while (counts[i] != 0)
+				i = (i + 1) & mask;
+
+			keys[i] = oldKeys[j];
+			counts[i] = oldCounts[j];
+			firsts[i] = oldFirsts[j];
+			lasts[i] = oldLasts[j];
+			distinct++;
+		}
+	}
+
+	/**
+	 * Replaces the table with an empty one with the given capacity, which must be
+	 * a power of two.
+	 *
+	 * @param capacity
+	 */
+	private void allocate(int capacity) {
+		keys = new ${type}[capacity];
+		counts = new int[capacity];
+		firsts = new int[capacity];
+		lasts = new int[capacity];
+		distinct = 0;
+		hashShift = Integer.numberOfLeadingZeros(capacity) + 1;
+		base = 0;
+	}
+
+	/**
+	 * Returns the most distinct values the table holds before it grows, keeping
+	 * at least a quarter of the slots empty so probe runs stay short.
+	 *
+	 * @return
+	 */
+	private int maxDistinct() {
+		return counts.length - (counts.length >>> 2);
+	}
+
+	/**
+	 * Returns a table capacity with room for the given number of distinct values.
+	 *
+	 * @param distinctValues
+	 * @return
+	 */
+	private static int capacityFor(int distinctValues) {
+		int capacity = MIN_CAPACITY;
+		while (capacity < 1 << 30 && capacity - (capacity >>> 2) < distinctValues)
+			capacity <<= 1;
+
+		return capacity;
+	}
+
+	/**
+	 * Returns the home slot of val. The hash is spread with a multiplication so
+	 * that runs of consecutive values don't land in one probe run.
+	 *
+	 * @param val
+	 * @return
+	 */
+	private int hash(${type} val) {
+		return (${Box}.hashCode(val) * 0x9E3779B9) >>> hashShift;
+	}
+
+	/**
+	 * Checks if two values are the same. ${sameDoc}
+	 *
+	 * @param a
+	 * @param b
+	 * @return
+	 */
+	private static boolean same(${type} a, ${type} b) {
+		return ${sameBody};
+	}
+
+}
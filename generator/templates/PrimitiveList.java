@@ -0,0 +1,161 @@
+package dynamicList;
+
+/**
+ * <p>
+ * An ordered list of ${type} values, indexed from 0. The values are stored as
+ * ${type}s, so they are never boxed.
+ * </p>
+ * <p>
+ * Methods that take an index throw an IndexOutOfBoundsException if it is out
+ * of range. Implementations that can't support a change, such as read-only
+ * views or append-only lists, throw an UnsupportedOperationException instead.
+ * </p>
+ */
+public interface ${Type}List {
+
+	/**
+	 * Appends the given value to the end of this list.
+	 * 
+	 * @param value
+	 */
+	public void append(${type} value);
+
+	/**
+	 * Appends all of the values in the given list to this list.
+	 * 
+	 * @param vals
+	 */
+	public void appendAll(${Type}List vals);
+
+	/**
+	 * Removes all elements from this list.
+	 */
+	public void clear();
+
+	/**
+	 * Checks if the given value is in this list.
+	 * 
+	 * @param val
+	 * @return True if the value is in the list. False otherwise.
+	 */
+	public boolean contains(${type} val);
+
+	/**
+	 * Checks if the given list is the same as this list, i.e. has the same values
+	 * in the same order. If <i>other</i> is null, return false instead of throwing
+	 * an exception.
+	 * 
+	 * @param other
+	 * @return
+	 */
+	public boolean equals(${Type}List other);
+
+	/**
+	 * Returns the value stored at the given index.
+	 * 
+	 * @param index
+	 * @return
+	 * @throws IndexOutOfBoundsException if the given index is not between 0 and
+	 *                                   (size - 1) inclusive.
+	 */
+	public ${type} get(int index);
+
+	/**
+	 * Returns the index of the <i>first</i> occurrence of the given value or -1 if
+	 * the list does not contain the value.
+	 * 
+	 * @param val
+	 * @return
+	 */
+	public int indexOf(${type} val);
+
+	/**
+	 * <p>
+	 * Inserts the value at the given index. All values after this index (including
+	 * the value originally at this index) are shifted one to the right. The value
+	 * may be inserted at the very end of the list (at index "size").
+	 * </p>
+	 * <p>
+	 * e.g. If a = [0, 1, 3, 4], a.insert(2, 2) would make it [0, 1, 2, 3, 4].
+	 * a.insert(5, 5) would make it [0, 1, 2, 3, 4, 5].
+	 * </p>
+	 * 
+	 * @param index
+	 * @param val
+	 * @throws IndexOutOfBoundsException if the given index is not between 0 and
+	 *                                   size inclusive.
+	 */
+	public void insert(int index, ${type} val);
+
+	/**
+	 * Returns true if the list is empty. False otherwise.
+	 * 
+	 * @return
+	 */
+	public boolean isEmpty();
+
+	/**
+	 * Returns the index of the <i>last</i> occurrence of the given value or -1 if
+	 * the list does not contain the value.
+	 * 
+	 * @param val
+	 * @return
+	 */
+	public int lastIndexOf(${type} val);
+
+	/**
+	 * Inserts the given value at the beginning of the list (index 0).
+	 * 
+	 * @param val
+	 */
+	public void prepend(${type} val);
+
+	/**
+	 * <p>
+	 * Removes the value at the given index, shifting all subsequent values one to
+	 * the left.
+	 * </p>
+	 * <p>
+	 * e.g. If a = [0, 1, 2, 3], a.remove(2) would make a = [0, 1, 3] and return 2.
+	 * </p>
+	 * 
+	 * @param index
+	 * @return
+	 * @throws IndexOutOfBoundsException if the given index is not between 0 and
+	 *                                   (size - 1) inclusive.
+	 */
+	public ${type} remove(int index);
+
+	/**
+	 * Changes the value at the given index to the given value. Returns the value
+	 * previously stored there.
+	 * 
+	 * @param index
+	 * @param val
+	 * @return The original value at the index.
+	 * @throws IndexOutOfBoundsException if the given index is not between 0 and
+	 *                                   (size - 1) inclusive.
+	 */
+	public ${type} set(int index, ${type} val);
+
+	/**
+	 * Returns the size of the list.
+	 * 
+	 * @return
+	 */
+	public int size();
+
+	/**
+	 * Returns an array containing all of the elements in this list in proper
+	 * sequence (from first to last element).
+	 * 
+	 * @return
+	 */
+	public ${type}[] toArray();
+
+	/**
+	 * Trims the capacity of the backing array to match the list's current size.
+	 */
+	public void trimToSize();
+
+}
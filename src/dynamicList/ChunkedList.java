@@ -0,0 +1,311 @@
+package dynamicList;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * A list stored in fixed-size blocks (a tiered vector). Every
+ * block except the last one is full, and each block is a small circular buffer
+ * with its own head offset.
+ * </p>
+ * <p>
+ * Inserting or removing in the middle shifts elements inside one block, then
+ * moves a single element between each pair of following blocks by adjusting
+ * their head offsets, so it costs O(b + n / b) for a block size b: O(sqrt n)
+ * while b is near the square root of the list's size. The block size is fixed
+ * when the list is created, so growing only adds a new block and existing
+ * blocks are never copied, but a list that grows far beyond b * b pays the
+ * O(n / b) walk over the following blocks on every edit in the middle. get
+ * and set stay O(1).
+ * </p>
+ *
+ * @param <T> The type of objects stored in this list.
+ */
+public class ChunkedList<T> implements List<T> {
+
+	/**
+	 * The block size used by the no-argument constructor, which suits lists of up
+	 * to about a million elements.
+	 */
+	public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+	private T[][] blocks;
+	private int[] heads;
+	private int blockCount;
+	private int size;
+	private final int shift;
+	private final int mask;
+
+	public ChunkedList() {
+		this(DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * Creates an empty list that stores its elements in blocks of the given size.
+	 * The block size never changes, so pick it for the largest size the list will
+	 * reach: lists that will hold about n elements do best with a block size near
+	 * sqrt(n).
+	 *
+	 * @param blockSize
+	 * @throws IllegalArgumentException if blockSize is not a power of two greater
+	 *                                  than 1.
+	 */
+	@SuppressWarnings("unchecked")
+	public ChunkedList(int blockSize) {
+		if (blockSize < 2 || Integer.bitCount(blockSize) != 1)
+			throw new IllegalArgumentException();
+
+		this.blocks = (T[][]) new Object[4][];
+		this.heads = new int[4];
+		this.blockCount = 0;
+		this.size = 0;
+		this.shift = Integer.numberOfTrailingZeros(blockSize);
+		this.mask = blockSize - 1;
+	}
+
+	@Override
+	public void append(T e) {
+		insert(size, e);
+	}
+
+	@Override
+	public void appendAll(List<T> list) {
+		int len = list.size(); // Read once in case list is this list
+
+		for (int i = 0; i < len; i++)
+			append(list.get(i));
+	}
+
+	@Override
+	public void clear() {
+		for (int k = 0; k < blockCount; k++)
+			blocks[k] = null;
+
+		blockCount = 0;
+		size = 0;
+	}
+
+	@Override
+	public boolean contains(T e) {
+		return indexOf(e) != -1;
+	}
+
+	@Override
+	public boolean equals(List<T> other) {
+		if (other == null)
+			return false;
+
+		if (this.size != other.size())
+			return false;
+
+		for (int i = 0; i < size; i++)
+			if (!areEqual(at(i), other.get(i)))
+				return false;
+
+		return true;
+	}
+
+	@Override
+	public T get(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException();
+
+		return at(index);
+	}
+
+	@Override
+	public int indexOf(T e) {
+		for (int i = 0; i < size; i++)
+			if (areEqual(at(i), e))
+				return i;
+
+		return -1;
+	}
+
+	@Override
+	public void insert(int index, T e) {
+		if (index < 0 || index > size)
+			throw new IndexOutOfBoundsException();
+
+		if (size == blockCount << shift)
+			addBlock();
+
+		int k = index >>> shift;
+		int last = size >>> shift;
+
+		// Move the last element of each full block to the front of the next one
+		for (int j = last; j > k; j--) {
+			heads[j] = (heads[j] - 1) & mask;
+			blocks[j][heads[j]] = blocks[j - 1][slot(j - 1, mask)];
+		}
+
+		int count = k == last ? size - (k << shift) : mask;
+		for (int i = count; i > (index & mask); i--)
+			blocks[k][slot(k, i)] = blocks[k][slot(k, i - 1)];
+
+		blocks[k][slot(k, index & mask)] = e;
+		size++;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public int lastIndexOf(T e) {
+		for (int i = size - 1; i >= 0; i--)
+			if (areEqual(at(i), e))
+				return i;
+
+		return -1;
+	}
+
+	@Override
+	public void prepend(T e) {
+		insert(0, e);
+	}
+
+	@Override
+	public T remove(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException();
+
+		int k = index >>> shift;
+		int last = (size - 1) >>> shift;
+		T oldVal = at(index);
+
+		int count = k == last ? size - (k << shift) : mask + 1;
+		for (int i = index & mask; i < count - 1; i++)
+			blocks[k][slot(k, i)] = blocks[k][slot(k, i + 1)];
+
+		// Move the first element of each following block to the end of the previous
+		for (int j = k + 1; j <= last; j++) {
+			blocks[j - 1][slot(j - 1, mask)] = blocks[j][heads[j]];
+			heads[j] = (heads[j] + 1) & mask;
+		}
+
+		if (k == last) // Clear the slot that is no longer used
+			blocks[last][slot(last, count - 1)] = null;
+		else
+			blocks[last][(heads[last] - 1) & mask] = null;
+
+		size--;
+		releaseSpareBlocks(1);
+
+		return oldVal;
+	}
+
+	@Override
+	public T set(int index, T e) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException();
+
+		T oldVal = at(index);
+
+		blocks[index >>> shift][slot(index >>> shift, index & mask)] = e;
+
+		return oldVal;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public T[] toArray() {
+		T[] arr = (T[]) new Object[size];
+
+		for (int k = 0; k << shift < size; k++) {
+			int count = Math.min(mask + 1, size - (k << shift));
+			int firstLen = Math.min(count, mask + 1 - heads[k]);
+
+			System.arraycopy(blocks[k], heads[k], arr, k << shift, firstLen);
+			System.arraycopy(blocks[k], 0, arr, (k << shift) + firstLen, count - firstLen);
+		}
+
+		return arr;
+	}
+
+	/**
+	 * Releases every block that holds no elements. The last block keeps its fixed
+	 * size even if it is only partly used.
+	 */
+	@Override
+	public void trimToSize() {
+		releaseSpareBlocks(0);
+
+		blocks = Arrays.copyOf(blocks, blockCount);
+		heads = Arrays.copyOf(heads, blockCount);
+	}
+
+	/**
+	 * Checks if two elements are equal, treating null values as equal.
+	 *
+	 * @param e1
+	 * @param e2
+	 * @return
+	 */
+	private boolean areEqual(T e1, T e2) {
+		if (e1 == null)
+			return e2 == null;
+		return e1.equals(e2);
+	}
+
+	/**
+	 * Returns the element at the given index without checking it.
+	 *
+	 * @param index
+	 * @return
+	 */
+	private T at(int index) {
+		int k = index >>> shift;
+
+		return blocks[k][slot(k, index & mask)];
+	}
+
+	/**
+	 * Returns the position inside block k of the element at the given offset from
+	 * the start of the block.
+	 *
+	 * @param k
+	 * @param offset
+	 * @return
+	 */
+	private int slot(int k, int offset) {
+		return (heads[k] + offset) & mask;
+	}
+
+	/**
+	 * Adds an empty block to the end of the list. Only the array of block
+	 * references is ever copied, never the blocks themselves.
+	 */
+	@SuppressWarnings("unchecked")
+	private void addBlock() {
+		if (blockCount == blocks.length) {
+			blocks = Arrays.copyOf(blocks, Math.max(blockCount * 2, 4));
+			heads = Arrays.copyOf(heads, blocks.length);
+		}
+
+		blocks[blockCount] = (T[]) new Object[mask + 1];
+		heads[blockCount] = 0;
+		blockCount++;
+	}
+
+	/**
+	 * Drops empty blocks from the end of the list until at most <i>spare</i> of
+	 * them are left. Keeping one spare block stops a list that hovers around a
+	 * block boundary from allocating a new block on every other insert.
+	 *
+	 * @param spare
+	 */
+	private void releaseSpareBlocks(int spare) {
+		while (blockCount > 0 && size <= (blockCount - 1 - spare) << shift) {
+			blockCount--;
+			blocks[blockCount] = null;
+		}
+	}
+
+}
@@ -0,0 +1,42 @@
+package dynamicList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs every GenericListTests test against ChunkedList. A tiny block size is
+ * used so that even short lists span several blocks.
+ */
+class ChunkedListTests extends GenericListTests {
+
+	@Override
+	<E> List<E> newList() {
+		return new ChunkedList<E>(4);
+	}
+
+	/**
+	 * Random inserts and removals give the same list as DynamicList.
+	 */
+	@Test
+	void randomEditTest01() {
+		ChunkedList<Integer> l = new ChunkedList<Integer>(8);
+		DynamicList<Integer> expected = new DynamicList<Integer>();
+		Random random = new Random(1);
+		for (int i = 0; i < 5000; i++) {
+			if (expected.size() > 0 && random.nextInt(3) == 0) {
+				int index = random.nextInt(expected.size());
+				assertEquals(expected.remove(index), l.remove(index));
+			} else {
+				int index = random.nextInt(expected.size() + 1);
+				expected.insert(index, i);
+				l.insert(index, i);
+			}
+		}
+
+		assertArrayEquals(expected.toArray(), l.toArray());
+	}
+
+}
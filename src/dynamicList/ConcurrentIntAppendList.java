@@ -0,0 +1,402 @@
+package dynamicList;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>
+ * A list of integers that any number of threads can append to at the same
+ * time without locking. Elements can only be appended; insert, prepend,
+ * remove, set and clear throw an UnsupportedOperationException.
+ * </p>
+ * <p>
+ * Each append reserves its index by incrementing a shared counter, so
+ * appending threads never wait for each other. The elements are stored in
+ * segments that double in size, which are never moved or copied once they
+ * exist, so growing never blocks an append that is already writing.
+ * </p>
+ * <p>
+ * Readers only see the <i>published</i> prefix of the list: the longest run of
+ * elements, starting at index 0, that have all been completely written. size()
+ * returns the length of that prefix, and every element below it can be read
+ * by any thread. An element whose append is still in progress, or that comes
+ * after one that is, is not visible yet.
+ * </p>
+ */
+public class ConcurrentIntAppendList implements IntList {
+
+	private static final int FIRST_SEGMENT_SHIFT = 4;
+
+	/**
+	 * The number of elements in the first segment. Segment k holds
+	 * FIRST_SEGMENT_SIZE &lt;&lt; k elements.
+	 */
+	private static final int FIRST_SEGMENT_SIZE = 1 << FIRST_SEGMENT_SHIFT;
+
+	/**
+	 * The most elements a concurrent list can hold.
+	 */
+	public static final int MAX_CAPACITY = Integer.MAX_VALUE - FIRST_SEGMENT_SIZE + 1;
+
+	private static final VarHandle READY = MethodHandles.arrayElementVarHandle(byte[].class);
+	private static final VarHandle PUBLISHED;
+
+	static {
+		try {
+			PUBLISHED = MethodHandles.lookup().findVarHandle(ConcurrentIntAppendList.class, "published", int.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private final AtomicReferenceArray<Segment> segments;
+
+	/**
+	 * The most elements this list can hold.
+	 */
+	private final int capacity;
+
+	/**
+	 * The number of indexes handed out to appends so far.
+	 */
+	private final AtomicInteger reserved;
+
+	/**
+	 * The length of the prefix of the list that has been completely written.
+	 */
+	private volatile int published;
+
+	public ConcurrentIntAppendList() {
+		this(MAX_CAPACITY);
+	}
+
+	/**
+	 * Creates a list that holds at most the given number of elements, so that
+	 * the tests can fill one up.
+	 *
+	 * @param capacity
+	 */
+	ConcurrentIntAppendList(int capacity) {
+		this.segments = new AtomicReferenceArray<Segment>(32 - FIRST_SEGMENT_SHIFT);
+		this.capacity = capacity;
+		this.reserved = new AtomicInteger();
+		this.published = 0;
+	}
+
+	/**
+	 * Appends the given value. The value becomes visible to readers once every
+	 * append that reserved an earlier index has finished as well.
+	 *
+	 * @param value
+	 * @throws IllegalStateException if the list is full.
+	 */
+	@Override
+	public void append(int value) {
+		int index = reserve(1);
+
+		Segment segment = segmentFor(index);
+		int offset = offset(index);
+
+		segment.values[offset] = value;
+		READY.setVolatile(segment.ready, offset, (byte) 1);
+
+		publish();
+	}
+
+	/**
+	 * Appends all of the values in the given list. The values get consecutive
+	 * indexes, even if other threads are appending at the same time.
+	 *
+	 * @param vals
+	 * @throws IllegalStateException if there is no room for the values.
+	 */
+	@Override
+	public void appendAll(IntList vals) {
+		// Copied before reserving, so that a source that throws can't leave
+		// reserved indexes that never become ready and stall every later append
+		int[] arr = vals.toArray();
+		int len = arr.length;
+		int start = reserve(len);
+
+		for (int i = 0; i < len; i++) {
+			Segment segment = segmentFor(start + i);
+			segment.values[offset(start + i)] = arr[i];
+		}
+
+		for (int i = 0; i < len; i++)
+			READY.setVolatile(segmentFor(start + i).ready, offset(start + i), (byte) 1);
+
+		publish();
+	}
+
+	/**
+	 * Not supported, since the list is append-only.
+	 *
+	 * @throws UnsupportedOperationException always.
+	 */
+	@Override
+	public void clear() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean contains(int val) {
+		return indexOf(val) != -1;
+	}
+
+	@Override
+	public boolean equals(IntList other) {
+		if (other == null)
+			return false;
+
+		int size = published;
+		if (size != other.size())
+			return false;
+
+		for (int i = 0; i < size; i++)
+			if (at(i) != other.get(i))
+				return false;
+
+		return true;
+	}
+
+	@Override
+	public int get(int index) {
+		if (index < 0 || index >= published)
+			throw new IndexOutOfBoundsException();
+
+		return at(index);
+	}
+
+	@Override
+	public int indexOf(int val) {
+		int size = published;
+
+		for (int i = 0; i < size; i++)
+			if (at(i) == val)
+				return i;
+
+		return -1;
+	}
+
+	/**
+	 * Not supported, since the list is append-only.
+	 *
+	 * @throws UnsupportedOperationException always.
+	 */
+	@Override
+	public void insert(int index, int val) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return published == 0;
+	}
+
+	@Override
+	public int lastIndexOf(int val) {
+		for (int i = published - 1; i >= 0; i--)
+			if (at(i) == val)
+				return i;
+
+		return -1;
+	}
+
+	/**
+	 * Not supported, since the list is append-only.
+	 *
+	 * @throws UnsupportedOperationException always.
+	 */
+	@Override
+	public void prepend(int val) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Not supported, since the list is append-only.
+	 *
+	 * @throws UnsupportedOperationException always.
+	 */
+	@Override
+	public int remove(int index) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Not supported, since the list is append-only.
+	 *
+	 * @throws UnsupportedOperationException always.
+	 */
+	@Override
+	public int set(int index, int val) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Returns the number of elements that have been completely appended and can
+	 * be read. Appends that are still in progress are not counted.
+	 *
+	 * @return
+	 */
+	@Override
+	public int size() {
+		return published;
+	}
+
+	/**
+	 * Returns the published prefix of the list, copying one segment at a time.
+	 *
+	 * @return
+	 */
+	@Override
+	public int[] toArray() {
+		int size = published;
+		int[] arr = new int[size];
+
+		for (int k = 0, start = 0; start < size; k++) {
+			int[] values = segments.get(k).values;
+			int len = Math.min(values.length, size - start);
+
+			System.arraycopy(values, 0, arr, start, len);
+			start += len;
+		}
+
+		return arr;
+	}
+
+	/**
+	 * Does nothing. Segments are never moved, so there is nothing to trim.
+	 */
+	@Override
+	public void trimToSize() {
+	}
+
+	/**
+	 * Returns the element at the given index without checking it. The index must
+	 * be below published.
+	 *
+	 * @param index
+	 * @return
+	 */
+	private int at(int index) {
+		return segments.get(segmentIndex(index)).values[offset(index)];
+	}
+
+	/**
+	 * Reserves len consecutive indexes and returns the first one. The capacity is
+	 * checked before the indexes are taken, so a request that doesn't fit takes
+	 * none and can't leave a gap that would hold up publishing forever.
+	 *
+	 * @param len
+	 * @return
+	 * @throws IllegalStateException if there is no room for len more elements.
+	 */
+	private int reserve(int len) {
+		int start;
+		do {
+			start = reserved.get();
+			if (start > capacity - len)
+				throw new IllegalStateException("Concurrent list is full");
+		} while (!reserved.compareAndSet(start, start + len));
+
+		return start;
+	}
+
+	/**
+	 * Moves the published prefix forward over every element that is ready. Any
+	 * thread that finishes writing an element calls this, so the thread that
+	 * fills the last gap always carries the prefix past the elements behind it.
+	 * The whole run of ready elements is found first and then published with one
+	 * compare-and-set.
+	 */
+	private void publish() {
+		int p = published;
+
+		while (true) {
+			int limit = reserved.get();
+			int end = p;
+			while (end < limit && isReady(end))
+				end++;
+
+			if (end == p)
+				return;
+
+			if (PUBLISHED.compareAndSet(this, p, end))
+				p = end;
+			else
+				p = published;
+		}
+	}
+
+	/**
+	 * Checks if the element at the given index has been written.
+	 *
+	 * @param index
+	 * @return
+	 */
+	private boolean isReady(int index) {
+		Segment segment = segments.get(segmentIndex(index));
+
+		return segment != null && (byte) READY.getVolatile(segment.ready, offset(index)) != 0;
+	}
+
+	/**
+	 * Returns the segment that holds the given index, adding it if no thread has
+	 * yet.
+	 *
+	 * @param index
+	 * @return
+	 */
+	private Segment segmentFor(int index) {
+		int k = segmentIndex(index);
+		Segment segment = segments.get(k);
+
+		if (segment == null) {
+			segments.compareAndSet(k, null, new Segment(FIRST_SEGMENT_SIZE << k));
+			segment = segments.get(k);
+		}
+
+		return segment;
+	}
+
+	/**
+	 * Returns which segment holds the given index.
+	 *
+	 * @param index
+	 * @return
+	 */
+	private static int segmentIndex(int index) {
+		return 31 - Integer.numberOfLeadingZeros(index + FIRST_SEGMENT_SIZE) - FIRST_SEGMENT_SHIFT;
+	}
+
+	/**
+	 * Returns the position of the given index inside its segment.
+	 *
+	 * @param index
+	 * @return
+	 */
+	private static int offset(int index) {
+		int n = index + FIRST_SEGMENT_SIZE;
+
+		return n - Integer.highestOneBit(n);
+	}
+
+	/**
+	 * A block of elements, with a flag for each one that is set once the element
+	 * has been written.
+	 */
+	private static final class Segment {
+
+		final int[] values;
+		final byte[] ready;
+
+		Segment(int size) {
+			this.values = new int[size];
+			this.ready = new byte[size];
+		}
+	}
+
+}
@@ -0,0 +1,241 @@
+package dynamicList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for ConcurrentIntAppendList. The memory-ordering guarantees are
+ * checked by the jcstress tests in the stress project; these check that the
+ * list works as a list, and that appends from many threads are never lost.
+ */
+class ConcurrentIntAppendListTests {
+
+	/**
+	 * Appends are read back in order across several segments.
+	 */
+	@Test
+	void appendTest01() {
+		ConcurrentIntAppendList l = new ConcurrentIntAppendList();
+		for (int i = 0; i < 1000; i++)
+			l.append(i);
+
+		assertEquals(1000, l.size());
+		for (int i = 0; i < 1000; i++)
+			assertEquals(i, l.get(i));
+
+		int[] expected = new int[1000];
+		Arrays.setAll(expected, i -> i);
+		assertArrayEquals(expected, l.toArray());
+	}
+
+	/**
+	 * An empty list has nothing to read.
+	 */
+	@Test
+	void appendTest02() {
+		ConcurrentIntAppendList l = new ConcurrentIntAppendList();
+
+		assertTrue(l.isEmpty());
+		assertArrayEquals(new int[0], l.toArray());
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.get(0);
+		});
+	}
+
+	/**
+	 * appendAll adds a whole list, including the list itself.
+	 */
+	@Test
+	void appendAllTest01() {
+		ConcurrentIntAppendList l = new ConcurrentIntAppendList();
+		IntDynamicList other = new IntDynamicList();
+		for (int i = 0; i < 20; i++)
+			other.append(i);
+
+		l.appendAll(other);
+		l.appendAll(l);
+
+		assertEquals(40, l.size());
+		assertEquals(19, l.get(39));
+		assertEquals(0, l.get(20));
+	}
+
+	/**
+	 * A source that throws during appendAll adds nothing and doesn't hold up
+	 * later appends.
+	 */
+	@Test
+	void appendAllTest02() {
+		ConcurrentIntAppendList l = new ConcurrentIntAppendList();
+		l.append(1);
+		IntDynamicList broken = new IntDynamicList() {
+
+			@Override
+			public int get(int index) {
+				throw new IllegalStateException();
+			}
+
+			@Override
+			public int[] toArray() {
+				throw new IllegalStateException();
+			}
+		};
+		broken.append(2);
+		broken.append(3);
+
+		assertThrows(IllegalStateException.class, () -> {
+			l.appendAll(broken);
+		});
+
+		l.append(4);
+		assertEquals(2, l.size());
+		assertArrayEquals(new int[] { 1, 4 }, l.toArray());
+	}
+
+	/**
+	 * An appendAll that doesn't fit is rejected without taking any indexes, so
+	 * the appends after it still fill the list and get published.
+	 */
+	@Test
+	void appendAllTest03() {
+		ConcurrentIntAppendList l = new ConcurrentIntAppendList(40);
+		IntDynamicList big = new IntDynamicList();
+		for (int i = 0; i < 30; i++)
+			big.append(i);
+
+		l.appendAll(big);
+		assertThrows(IllegalStateException.class, () -> {
+			l.appendAll(big);
+		});
+
+		for (int i = 30; i < 40; i++)
+			l.append(i);
+		assertThrows(IllegalStateException.class, () -> {
+			l.append(40);
+		});
+
+		assertEquals(40, l.size());
+		assertEquals(39, l.get(39));
+	}
+
+	/**
+	 * indexOf, lastIndexOf, contains and equals search the published elements.
+	 */
+	@Test
+	void searchTest01() {
+		ConcurrentIntAppendList l = new ConcurrentIntAppendList();
+		IntDynamicList other = new IntDynamicList();
+		for (int i = 0; i < 50; i++) {
+			l.append(i % 10);
+			other.append(i % 10);
+		}
+
+		assertEquals(3, l.indexOf(3));
+		assertEquals(43, l.lastIndexOf(3));
+		assertFalse(l.contains(10));
+		assertTrue(l.equals(other));
+		other.set(49, 0);
+		assertFalse(l.equals(other));
+		assertFalse(l.equals(null));
+	}
+
+	/**
+	 * Everything but appending is unsupported.
+	 */
+	@Test
+	void unsupportedTest01() {
+		ConcurrentIntAppendList l = new ConcurrentIntAppendList();
+		l.append(1);
+
+		assertThrows(UnsupportedOperationException.class, () -> {
+			l.insert(0, 1);
+		});
+		assertThrows(UnsupportedOperationException.class, () -> {
+			l.prepend(1);
+		});
+		assertThrows(UnsupportedOperationException.class, () -> {
+			l.remove(0);
+		});
+		assertThrows(UnsupportedOperationException.class, () -> {
+			l.set(0, 1);
+		});
+		assertThrows(UnsupportedOperationException.class, () -> {
+			l.clear();
+		});
+		l.trimToSize();
+		assertEquals(1, l.size());
+	}
+
+	/**
+	 * Appends from many threads at once are all published exactly once.
+	 *
+	 * @throws InterruptedException
+	 */
+	@Test
+	void concurrentTest01() throws InterruptedException {
+		ConcurrentIntAppendList l = new ConcurrentIntAppendList();
+		int threads = 8;
+		int perThread = 50_000;
+		ArrayList<Thread> writers = new ArrayList<Thread>();
+
+		for (int t = 0; t < threads; t++) {
+			int base = t * perThread;
+			Thread writer = new Thread(() -> {
+				for (int i = 0; i < perThread; i++)
+					l.append(base + i);
+			});
+			writers.add(writer);
+			writer.start();
+		}
+
+		int lastSize = 0;
+		for (Thread writer : writers)
+			while (writer.isAlive()) {
+				int size = l.size(); // The published prefix only ever grows
+				assertTrue(size >= lastSize);
+				lastSize = size;
+			}
+		for (Thread writer : writers)
+			writer.join();
+
+		int[] arr = l.toArray();
+		assertEquals(threads * perThread, arr.length);
+		Arrays.sort(arr);
+		for (int i = 0; i < arr.length; i++)
+			assertEquals(i, arr[i]);
+	}
+
+	/**
+	 * Batches appended from many threads each stay in one piece.
+	 *
+	 * @throws InterruptedException
+	 */
+	@Test
+	void concurrentTest02() throws InterruptedException {
+		ConcurrentIntAppendList l = new ConcurrentIntAppendList();
+		IntDynamicList batch = new IntDynamicList();
+		for (int i = 0; i < 10; i++)
+			batch.append(i);
+		ArrayList<Thread> writers = new ArrayList<Thread>();
+
+		for (int t = 0; t < 4; t++) {
+			Thread writer = new Thread(() -> {
+				for (int i = 0; i < 1000; i++)
+					l.appendAll(batch);
+			});
+			writers.add(writer);
+			writer.start();
+		}
+		for (Thread writer : writers)
+			writer.join();
+
+		assertEquals(40_000, l.size());
+		for (int i = 0; i < l.size(); i++)
+			assertEquals(i % 10, l.get(i));
+	}
+
+}
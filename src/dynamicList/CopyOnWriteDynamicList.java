@@ -0,0 +1,306 @@
+package dynamicList;
+
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * A thread-safe list for data that many threads read and few threads change.
+ * Every change copies the list, changes the copy and then publishes it, so
+ * reads never lock and never see a change half done.
+ * </p>
+ * <p>
+ * Use {@link #batch(Consumer)} to make many changes with a single copy, and
+ * {@link #snapshot()} to get a view that keeps showing one version of the list
+ * no matter what is changed afterwards. Snapshots share the published array,
+ * so taking one costs nothing.
+ * </p>
+ */
+public class CopyOnWriteDynamicList<T> implements List<T> {
+
+	/**
+	 * Writers hold this while they copy and change the list.
+	 */
+	private final Object lock = new Object();
+
+	/**
+	 * The current version of the list. It is never changed once it is published
+	 * here.
+	 */
+	private volatile DynamicList<T> current;
+	private final Class<T> type;
+
+	@SuppressWarnings("unchecked")
+	public CopyOnWriteDynamicList() {
+		this((Class<T>) Object.class);
+	}
+
+	/**
+	 * Creates an empty list whose arrays, including every array returned by
+	 * toArray(), have the given component type.
+	 *
+	 * @param type
+	 */
+	public CopyOnWriteDynamicList(Class<T> type) {
+		if (type == null)
+			throw new NullPointerException();
+
+		this.type = type;
+		this.current = new DynamicList<T>(type, 0, GrowthPolicy.doubling());
+	}
+
+	@Override
+	public void append(T e) {
+		batch(list -> list.append(e), 1);
+	}
+
+	@Override
+	public void appendAll(List<T> other) {
+		batch(list -> list.appendAll(other == this ? current : other), other.size());
+	}
+
+	/**
+	 * Runs the given changes on a copy of the list, then publishes the copy, so
+	 * the whole batch costs one copy and readers see either none of the changes
+	 * or all of them. If the changes throw an exception, none of them are kept.
+	 * The changes must only use the list they are given.
+	 *
+	 * @param changes
+	 */
+	public void batch(Consumer<? super List<T>> changes) {
+		batch(changes, 0);
+	}
+
+	/**
+	 * Runs a batch on a copy with room for the given number of extra elements, so
+	 * that changes which know how much they add copy the list only once. The copy
+	 * grows if the changes add more than that, and is trimmed before it is
+	 * published, so no version keeps unused space.
+	 *
+	 * @param changes
+	 * @param extra
+	 */
+	private void batch(Consumer<? super List<T>> changes, int extra) {
+		synchronized (lock) {
+			int size = current.size();
+			// Too big for one array; the copy fails when it grows instead
+			int capacity = size + extra < 0 ? size : size + extra;
+			DynamicList<T> copy = new DynamicList<T>(type, capacity, GrowthPolicy.doubling());
+			copy.appendAll(current);
+
+			changes.accept(copy);
+			copy.trimToSize();
+			current = copy;
+		}
+	}
+
+	@Override
+	public void clear() {
+		synchronized (lock) {
+			current = new DynamicList<T>(type, 0, GrowthPolicy.doubling());
+		}
+	}
+
+	@Override
+	public boolean contains(T e) {
+		return current.contains(e);
+	}
+
+	@Override
+	public boolean equals(List<T> other) {
+		return current.equals(other == this ? current : other);
+	}
+
+	@Override
+	public T get(int index) {
+		return current.get(index);
+	}
+
+	@Override
+	public int indexOf(T e) {
+		return current.indexOf(e);
+	}
+
+	@Override
+	public void insert(int index, T e) {
+		batch(list -> list.insert(index, e), 1);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return current.isEmpty();
+	}
+
+	@Override
+	public int lastIndexOf(T e) {
+		return current.lastIndexOf(e);
+	}
+
+	@Override
+	public void prepend(T e) {
+		batch(list -> list.prepend(e), 1);
+	}
+
+	@Override
+	public T remove(int index) {
+		synchronized (lock) {
+			T oldVal = current.get(index);
+			batch(list -> list.remove(index));
+
+			return oldVal;
+		}
+	}
+
+	@Override
+	public T set(int index, T e) {
+		synchronized (lock) {
+			T oldVal = current.get(index);
+			batch(list -> list.set(index, e));
+
+			return oldVal;
+		}
+	}
+
+	@Override
+	public int size() {
+		return current.size();
+	}
+
+	/**
+	 * Returns a read-only view of the list as it is right now. Later changes to
+	 * this list don't show up in the view, and the view can't be changed itself.
+	 *
+	 * @return
+	 */
+	public List<T> snapshot() {
+		return new Snapshot<T>(current);
+	}
+
+	@Override
+	public T[] toArray() {
+		return current.toArray();
+	}
+
+	/**
+	 * Does nothing. Every version is trimmed before it is published.
+	 */
+	@Override
+	public void trimToSize() {
+	}
+
+	/**
+	 * A read-only view of one version of the list, returned by snapshot.
+	 */
+	private static final class Snapshot<T> implements List<T> {
+
+		private final DynamicList<T> list;
+
+		Snapshot(DynamicList<T> list) {
+			this.list = list;
+		}
+
+		/**
+		 * @throws UnsupportedOperationException always.
+		 */
+		@Override
+		public void append(T e) {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * @throws UnsupportedOperationException always.
+		 */
+		@Override
+		public void appendAll(List<T> other) {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * @throws UnsupportedOperationException always.
+		 */
+		@Override
+		public void clear() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean contains(T e) {
+			return list.contains(e);
+		}
+
+		@Override
+		public boolean equals(List<T> other) {
+			return list.equals(other);
+		}
+
+		@Override
+		public T get(int index) {
+			return list.get(index);
+		}
+
+		@Override
+		public int indexOf(T e) {
+			return list.indexOf(e);
+		}
+
+		/**
+		 * @throws UnsupportedOperationException always.
+		 */
+		@Override
+		public void insert(int index, T e) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return list.isEmpty();
+		}
+
+		@Override
+		public int lastIndexOf(T e) {
+			return list.lastIndexOf(e);
+		}
+
+		/**
+		 * @throws UnsupportedOperationException always.
+		 */
+		@Override
+		public void prepend(T e) {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * @throws UnsupportedOperationException always.
+		 */
+		@Override
+		public T remove(int index) {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * @throws UnsupportedOperationException always.
+		 */
+		@Override
+		public T set(int index, T e) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public int size() {
+			return list.size();
+		}
+
+		@Override
+		public T[] toArray() {
+			return list.toArray();
+		}
+
+		/**
+		 * Does nothing, since a snapshot can't be changed.
+		 */
+		@Override
+		public void trimToSize() {
+		}
+
+	}
+
+}
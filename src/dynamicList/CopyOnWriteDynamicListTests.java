@@ -0,0 +1,43 @@
+package dynamicList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs every GenericListTests test against CopyOnWriteDynamicList, plus tests
+ * for batches and snapshots.
+ */
+class CopyOnWriteDynamicListTests extends GenericListTests {
+
+	@Override
+	<E> List<E> newList() {
+		return new CopyOnWriteDynamicList<E>();
+	}
+
+	/**
+	 * A snapshot keeps showing the list as it was, and toArray keeps the
+	 * component type.
+	 */
+	@Test
+	void snapshotTest01() {
+		CopyOnWriteDynamicList<String> l = new CopyOnWriteDynamicList<String>(String.class);
+		l.batch(list -> {
+			list.append("a");
+			list.append("b");
+		});
+		List<String> snapshot = l.snapshot();
+
+		assertEquals("a", l.remove(0));
+		l.prepend("c");
+		String[] expected = { "a", "b" };
+		assertArrayEquals(expected, snapshot.toArray());
+		String[] expectedNow = { "c", "b" };
+		assertArrayEquals(expectedNow, l.toArray());
+
+		assertThrows(UnsupportedOperationException.class, () -> {
+			snapshot.clear();
+		});
+	}
+
+}
@@ -0,0 +1,290 @@
+package dynamicList;
+
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * A thread-safe list of integers for data that many threads read and few
+ * threads change. Every change copies the list, changes the copy and then
+ * publishes it, so reads never lock and never see a change half done.
+ * </p>
+ * <p>
+ * Use {@link #batch(Consumer)} to make many changes with a single copy, and
+ * {@link #snapshot()} to get a view that keeps showing one version of the list
+ * no matter what is changed afterwards. Snapshots share the published array,
+ * so taking one costs nothing.
+ * </p>
+ */
+public class CopyOnWriteIntList implements IntList {
+
+	/**
+	 * Writers hold this while they copy and change the list.
+	 */
+	private final Object lock = new Object();
+
+	/**
+	 * The current version of the list. It is never changed once it is published
+	 * here.
+	 */
+	private volatile IntDynamicList current;
+
+	public CopyOnWriteIntList() {
+		this.current = new IntDynamicList(0);
+	}
+
+	@Override
+	public void append(int value) {
+		batch(list -> list.append(value), 1);
+	}
+
+	@Override
+	public void appendAll(IntList vals) {
+		batch(list -> list.appendAll(vals == this ? current : vals), vals.size());
+	}
+
+	/**
+	 * Runs the given changes on a copy of the list, then publishes the copy, so
+	 * the whole batch costs one copy and readers see either none of the changes
+	 * or all of them. If the changes throw an exception, none of them are kept.
+	 * The changes must only use the list they are given.
+	 *
+	 * @param changes
+	 */
+	public void batch(Consumer<? super IntList> changes) {
+		batch(changes, 0);
+	}
+
+	/**
+	 * Runs a batch on a copy with room for the given number of extra elements, so
+	 * that changes which know how much they add copy the list only once. The copy
+	 * grows if the changes add more than that, and is trimmed before it is
+	 * published, so no version keeps unused space.
+	 *
+	 * @param changes
+	 * @param extra
+	 */
+	private void batch(Consumer<? super IntList> changes, int extra) {
+		synchronized (lock) {
+			int size = current.size();
+			// Too big for one array; the copy fails when it grows instead
+			int capacity = size + extra < 0 ? size : size + extra;
+			IntDynamicList copy = new IntDynamicList(capacity);
+			copy.appendAll(current);
+
+			changes.accept(copy);
+			copy.trimToSize();
+			current = copy;
+		}
+	}
+
+	@Override
+	public void clear() {
+		synchronized (lock) {
+			current = new IntDynamicList(0);
+		}
+	}
+
+	@Override
+	public boolean contains(int val) {
+		return current.contains(val);
+	}
+
+	@Override
+	public boolean equals(IntList other) {
+		return current.equals(other == this ? current : other);
+	}
+
+	@Override
+	public int get(int index) {
+		return current.get(index);
+	}
+
+	@Override
+	public int indexOf(int val) {
+		return current.indexOf(val);
+	}
+
+	@Override
+	public void insert(int index, int val) {
+		batch(list -> list.insert(index, val), 1);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return current.isEmpty();
+	}
+
+	@Override
+	public int lastIndexOf(int val) {
+		return current.lastIndexOf(val);
+	}
+
+	@Override
+	public void prepend(int val) {
+		batch(list -> list.prepend(val), 1);
+	}
+
+	@Override
+	public int remove(int index) {
+		synchronized (lock) {
+			int oldVal = current.get(index);
+			batch(list -> list.remove(index));
+
+			return oldVal;
+		}
+	}
+
+	@Override
+	public int set(int index, int val) {
+		synchronized (lock) {
+			int oldVal = current.get(index);
+			batch(list -> list.set(index, val));
+
+			return oldVal;
+		}
+	}
+
+	@Override
+	public int size() {
+		return current.size();
+	}
+
+	/**
+	 * Returns a read-only view of the list as it is right now. Later changes to
+	 * this list don't show up in the view, and the view can't be changed itself.
+	 *
+	 * @return
+	 */
+	public IntList snapshot() {
+		return new Snapshot(current);
+	}
+
+	@Override
+	public int[] toArray() {
+		return current.toArray();
+	}
+
+	/**
+	 * Does nothing. Every version is trimmed before it is published.
+	 */
+	@Override
+	public void trimToSize() {
+	}
+
+	/**
+	 * A read-only view of one version of the list, returned by snapshot.
+	 */
+	private static final class Snapshot implements IntList {
+
+		private final IntDynamicList list;
+
+		Snapshot(IntDynamicList list) {
+			this.list = list;
+		}
+
+		/**
+		 * @throws UnsupportedOperationException always.
+		 */
+		@Override
+		public void append(int value) {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * @throws UnsupportedOperationException always.
+		 */
+		@Override
+		public void appendAll(IntList vals) {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * @throws UnsupportedOperationException always.
+		 */
+		@Override
+		public void clear() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean contains(int val) {
+			return list.contains(val);
+		}
+
+		@Override
+		public boolean equals(IntList other) {
+			return list.equals(other);
+		}
+
+		@Override
+		public int get(int index) {
+			return list.get(index);
+		}
+
+		@Override
+		public int indexOf(int val) {
+			return list.indexOf(val);
+		}
+
+		/**
+		 * @throws UnsupportedOperationException always.
+		 */
+		@Override
+		public void insert(int index, int val) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return list.isEmpty();
+		}
+
+		@Override
+		public int lastIndexOf(int val) {
+			return list.lastIndexOf(val);
+		}
+
+		/**
+		 * @throws UnsupportedOperationException always.
+		 */
+		@Override
+		public void prepend(int val) {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * @throws UnsupportedOperationException always.
+		 */
+		@Override
+		public int remove(int index) {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * @throws UnsupportedOperationException always.
+		 */
+		@Override
+		public int set(int index, int val) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public int size() {
+			return list.size();
+		}
+
+		@Override
+		public int[] toArray() {
+			return list.toArray();
+		}
+
+		/**
+		 * Does nothing, since a snapshot can't be changed.
+		 */
+		@Override
+		public void trimToSize() {
+		}
+
+	}
+
+}
@@ -0,0 +1,116 @@
+package dynamicList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs every IntListTests test against CopyOnWriteIntList, plus tests for
+ * batches and snapshots.
+ */
+class CopyOnWriteIntListTests extends IntListTests {
+
+	@Override
+	IntList newList() {
+		return new CopyOnWriteIntList();
+	}
+
+	/**
+	 * A snapshot keeps showing the list as it was, and can't be changed.
+	 */
+	@Test
+	void snapshotTest01() {
+		CopyOnWriteIntList l = new CopyOnWriteIntList();
+		l.append(1);
+		l.append(2);
+		IntList snapshot = l.snapshot();
+
+		l.set(0, 5);
+		l.append(3);
+		int[] expected = { 1, 2 };
+		assertArrayEquals(expected, snapshot.toArray());
+		assertEquals(3, l.size());
+
+		assertThrows(UnsupportedOperationException.class, () -> {
+			snapshot.append(1);
+		});
+		assertThrows(UnsupportedOperationException.class, () -> {
+			snapshot.set(0, 1);
+		});
+	}
+
+	/**
+	 * A batch publishes all of its changes together, or none of them if it
+	 * throws.
+	 */
+	@Test
+	void batchTest01() {
+		CopyOnWriteIntList l = new CopyOnWriteIntList();
+		l.batch(list -> {
+			for (int i = 0; i < 100; i++)
+				list.append(i);
+		});
+		assertEquals(100, l.size());
+
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.batch(list -> {
+				list.clear();
+				list.remove(0);
+			});
+		});
+		assertEquals(100, l.size());
+		assertEquals(99, l.get(99));
+	}
+
+	/**
+	 * Readers racing with a writer only ever see whole batches: every batch
+	 * appends the same value twice.
+	 *
+	 * @throws InterruptedException
+	 */
+	@Test
+	void concurrentTest01() throws InterruptedException {
+		CopyOnWriteIntList l = new CopyOnWriteIntList();
+		Thread writer = new Thread(() -> {
+			for (int i = 0; i < 2000; i++) {
+				int val = i;
+				l.batch(list -> {
+					list.append(val);
+					list.append(val);
+				});
+			}
+		});
+		ArrayList<Throwable> failures = new ArrayList<Throwable>();
+		ArrayList<Thread> readers = new ArrayList<Thread>();
+
+		writer.start();
+		for (int t = 0; t < 3; t++) {
+			Thread reader = new Thread(() -> {
+				try {
+					while (writer.isAlive()) {
+						IntList snapshot = l.snapshot();
+						int size = snapshot.size();
+						assertEquals(0, size % 2);
+						if (size > 0)
+							assertEquals(snapshot.get(size - 1), snapshot.get(size - 2));
+					}
+				} catch (Throwable e) {
+					synchronized (failures) {
+						failures.add(e);
+					}
+				}
+			});
+			readers.add(reader);
+			reader.start();
+		}
+		writer.join();
+		for (Thread reader : readers)
+			reader.join();
+
+		assertTrue(failures.isEmpty(), () -> failures.toString());
+		assertEquals(4000, l.size());
+	}
+
+}
@@ -0,0 +1,1288 @@
+// Generated by PrimitiveListGenerator from generator/templates/PrimitiveListTests.java. Edit the template instead of this file.
+package dynamicList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/* NOTE: assertEquals(intList1, intList2) won't work since the equals methods are overloaded instead of overriden.
+ * You have to use assertTrue(intList1.equals(intList2)).
+ */
+
+class DoubleListTests {
+
+	/**
+	 * Creates the empty list that every test in this class runs against.
+	 * Subclasses override this to run the same tests on another implementation.
+	 * 
+	 * @return
+	 */
+	DoubleList newList() {
+		return new DoubleDynamicList();
+	}
+
+	/**
+	 * Converts an int from the test data to the element type of the list.
+	 * 
+	 * @param i
+	 * @return
+	 */
+	static double v(int i) {
+		return i;
+	}
+
+	/**
+	 * Tests appending a single element to an empty list.
+	 */
+	@Test
+	void appendTest01() {
+		DoubleList l = newList();
+		l.append(v(0));
+
+		assertEquals(1, l.size());
+		assertEquals(v(0), l.get(0));
+	}
+
+	/**
+	 * Tests appending two elements to an empty list.
+	 */
+	@Test
+	void appendTest02() {
+		DoubleList l = newList();
+		l.append(v(1));
+		l.append(v(2));
+
+		assertEquals(2, l.size());
+		assertEquals(v(1), l.get(0));
+		assertEquals(v(2), l.get(1));
+	}
+
+	/**
+	 * Append 1000 elements. This should guarantee a resize.
+	 */
+	@Test
+	void appendTest03() {
+		DoubleList l = newList();
+		for (int i = 0; i < 1000; i++)
+			l.append(v(i));
+
+		assertEquals(1000, l.size());
+		for (int i = 0; i < 1000; i++)
+			assertEquals(v(i), l.get(i));
+	}
+
+	/**
+	 * Tests appending a list to an empty list.
+	 */
+	@Test
+	void appendAllTest01() {
+		DoubleList l = newList();
+		DoubleList other = newList();
+		other.append(v(0));
+		other.append(v(1));
+		other.append(v(2));
+		l.appendAll(other);
+
+		assertTrue(l.equals(other));
+	}
+
+	/**
+	 * Tests appending a list to a non-empty list.
+	 */
+	@Test
+	void appendAllTest02() {
+		DoubleList l = newList();
+		l.append(v(0));
+		DoubleList other = newList();
+		other.append(v(1));
+		other.append(v(2));
+		other.append(v(3));
+		l.appendAll(other);
+
+		assertEquals(4, l.size());
+		for (int i = 0; i < l.size(); i++)
+			assertEquals(v(i), l.get(i));
+	}
+
+	/**
+	 * Append 1000 elements. This should guarantee a resize.
+	 */
+	@Test
+	void appendAllTest03() {
+		DoubleList l1 = newList();
+		for (int i = 0; i < 1000; i++)
+			l1.append(v(i));
+
+		DoubleList l2 = newList();
+		l2.appendAll(l1);
+
+		assertEquals(1000, l2.size());
+		for (int i = 0; i < 1000; i++)
+			assertEquals(v(i), l2.get(i));
+	}
+
+	/**
+	 * Append an empty to list to this list
+	 */
+	@Test
+	void appendAllTest04() {
+		DoubleList l1 = newList();
+		l1.append(v(0));
+
+		DoubleList l2 = newList();
+		l1.appendAll(l2);
+
+		double[] expected = { 0 };
+		assertArrayEquals(expected, l1.toArray());
+	}
+
+	/**
+	 * Append an empty to list to an empty list
+	 */
+	@Test
+	void appendAllTest05() {
+		DoubleList l1 = newList();
+
+		DoubleList l2 = newList();
+		l1.appendAll(l2);
+
+		double[] expected = {};
+		assertArrayEquals(expected, l1.toArray());
+	}
+
+	/**
+	 * Tests clearing an empty list
+	 */
+	@Test
+	void clearTest01() {
+		DoubleList l = newList();
+		l.clear();
+
+		assertEquals(0, l.size());
+	}
+
+	/**
+	 * Tests clearing a non-empty list. Attempting to access an element that was
+	 * cleared should throw an exception.
+	 */
+	@Test
+	void clearTest02() {
+		DoubleList l = newList();
+		l.append(v(0));
+		l.append(v(1));
+		l.clear();
+
+		assertEquals(0, l.size());
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.get(1);
+		});
+	}
+
+	/**
+	 * Tests finding an element in a list where the only element is the one being
+	 * searched for
+	 */
+	@Test
+	void containsTest01() {
+		DoubleList l = newList();
+		l.append(v(22));
+
+		assertTrue(l.contains(v(22)));
+	}
+
+	/**
+	 * Tests finding an element in an empty list
+	 */
+	@Test
+	void containsTest02() {
+		DoubleList l = newList();
+
+		assertFalse(l.contains(v(22)));
+	}
+
+	/**
+	 * Tests finding an element in an list with one occurrence of the element and
+	 * several occurrences of other elements
+	 */
+	@Test
+	void containsTest03() {
+		DoubleList l = newList();
+		l.append(v(0));
+		l.append(v(22));
+		l.append(v(100));
+		l.append(v(-1));
+
+		assertTrue(l.contains(v(22)));
+	}
+
+	/**
+	 * Tests finding an element in an list with several instances of the element and
+	 * several occurrences of other elements
+	 */
+	@Test
+	void containsTest04() {
+		DoubleList l = newList();
+		l.append(v(0));
+		l.append(v(22));
+		l.append(v(100));
+		l.append(v(-1));
+		l.append(v(22));
+		l.append(v(124));
+
+		assertTrue(l.contains(v(22)));
+	}
+
+	/**
+	 * Tests finding an element that isn't in the list
+	 */
+	@Test
+	void containsTest05() {
+		DoubleList l = newList();
+		l.append(v(0));
+		l.append(v(22));
+		l.append(v(100));
+		l.append(v(-1));
+		l.append(v(22));
+		l.append(v(124));
+
+		assertFalse(l.contains(v(1)));
+	}
+
+	/**
+	 * Tests finding an element at the beginning of the list
+	 */
+	@Test
+	void containsTest06() {
+		DoubleList l = newList();
+		l.append(v(0));
+		l.append(v(22));
+		l.append(v(100));
+
+		assertTrue(l.contains(v(0)));
+	}
+
+	/**
+	 * Tests finding an element at the end of the list
+	 */
+	@Test
+	void containsTest07() {
+		DoubleList l = newList();
+		l.append(v(0));
+		l.append(v(22));
+		l.append(v(100));
+
+		assertTrue(l.contains(v(100)));
+	}
+
+	/**
+	 * Tests if two empty lists are equal
+	 */
+	@Test
+	void equalsTest01() {
+		DoubleList l1 = newList();
+		DoubleList l2 = newList();
+
+		assertTrue(l1.equals(l2));
+	}
+
+	/**
+	 * Tests if an empty list equals itself
+	 */
+	@Test
+	void equalsTest02() {
+		DoubleList l1 = newList();
+
+		assertTrue(l1.equals(l1));
+	}
+
+	/**
+	 * Tests if two non-empty lists are equal
+	 */
+	@Test
+	void equalsTest03() {
+		DoubleList l1 = newList();
+		l1.append(v(0));
+		DoubleList l2 = newList();
+		l2.append(v(0));
+
+		assertTrue(l1.equals(l2));
+	}
+
+	/**
+	 * Tests if a non-empty list equals itself
+	 */
+	@Test
+	void equalsTest04() {
+		DoubleList l1 = newList();
+		l1.append(v(0));
+
+		assertTrue(l1.equals(l1));
+	}
+
+	/**
+	 * Tests that lists of the same size but different elements are not equal
+	 */
+	@Test
+	void equalsTest05() {
+		DoubleList l1 = newList();
+		l1.append(v(0));
+		DoubleList l2 = newList();
+		l2.append(v(1));
+
+		assertFalse(l1.equals(l2));
+	}
+
+	/**
+	 * This should be false. The first list has fewer elements than the second list,
+	 * but the first l1.size() elements are the same between them.
+	 */
+	@Test
+	void equalsTest06() {
+		DoubleList l1 = newList();
+		l1.append(v(0));
+		l1.append(v(1));
+		l1.append(v(2));
+		DoubleList l2 = newList();
+		l2.append(v(0));
+		l2.append(v(1));
+		l2.append(v(2));
+		l2.append(v(3));
+
+		assertFalse(l1.equals(l2));
+	}
+
+	/**
+	 * This should be false. The second list has fewer elements than the first list,
+	 * but the first l2.size() elements are the same between them.
+	 */
+	@Test
+	void equalsTest07() {
+		DoubleList l1 = newList();
+		l1.append(v(0));
+		l1.append(v(1));
+		l1.append(v(2));
+		l1.append(v(3));
+		DoubleList l2 = newList();
+		l2.append(v(0));
+		l2.append(v(1));
+		l2.append(v(2));
+
+		assertFalse(l1.equals(l2));
+	}
+
+	/**
+	 * Tests that an empty and non-empty list are unequal where the first list is
+	 * empty.
+	 */
+	@Test
+	void equalsTest08() {
+		DoubleList l1 = newList();
+		DoubleList l2 = newList();
+		l2.append(v(0));
+
+		assertFalse(l1.equals(l2));
+	}
+
+	/**
+	 * Tests that an empty and non-empty list are unequal where the second list is
+	 * empty.
+	 */
+	@Test
+	void equalsTest09() {
+		DoubleList l1 = newList();
+		l1.append(v(0));
+		DoubleList l2 = newList();
+
+		assertFalse(l1.equals(l2));
+	}
+
+	/**
+	 * Tests that an empty and null list are unequal.
+	 */
+	@Test
+	void equalsTest10() {
+		DoubleList l = newList();
+
+		assertFalse(l.equals(null));
+	}
+
+	/**
+	 * Tests that a non-empty and null list are unequal.
+	 */
+	@Test
+	void equalsTest11() {
+		DoubleList l = newList();
+		l.append(v(0));
+
+		assertFalse(l.equals(null));
+	}
+
+	/**
+	 * Tests that getting valid indexes from a list works.
+	 */
+	@Test
+	void getTest01() {
+		DoubleList l = newList();
+		l.append(v(10));
+		l.append(v(11));
+		l.append(v(12));
+		l.append(v(13));
+
+		for (int i = 0; i < l.size(); i++)
+			assertEquals(v(i + 10), l.get(i));
+	}
+
+	/**
+	 * Tests that getting a negative index from an empty list throws an exception.
+	 */
+	@Test
+	void getTest02() {
+		DoubleList l = newList();
+
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.get(-1);
+		});
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.get(-100);
+		});
+	}
+
+	/**
+	 * Tests that getting index 0 from an empty list throws an exception.
+	 */
+	@Test
+	void getTest03() {
+		DoubleList l = newList();
+
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.get(0);
+		});
+	}
+
+	/**
+	 * Tests that getting index l.size() for a non-empty list throws an exception.
+	 */
+	@Test
+	void getTest04() {
+		DoubleList l = newList();
+		l.append(v(10));
+		l.append(v(11));
+		l.append(v(12));
+		l.append(v(13));
+
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.get(4);
+		});
+	}
+
+	/**
+	 * Tests that getting index greater than l.size() for a non-empty list throws an
+	 * exception.
+	 */
+	@Test
+	void getTest05() {
+		DoubleList l = newList();
+		l.append(v(10));
+		l.append(v(11));
+		l.append(v(12));
+		l.append(v(13));
+
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.get(5);
+		});
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.get(500);
+		});
+	}
+
+	/**
+	 * If the list is empty, should return -1
+	 */
+	@Test
+	void indexOfTest01() {
+		DoubleList l = newList();
+
+		assertEquals(-1, l.indexOf(v(0)));
+		assertEquals(-1, l.indexOf(v(1)));
+		assertEquals(-1, l.indexOf(v(-1)));
+	}
+
+	/**
+	 * If a list of length 1 does not contain the element, should return -1
+	 */
+	@Test
+	void indexOfTest02() {
+		DoubleList l = newList();
+		l.append(v(0));
+
+		assertEquals(-1, l.indexOf(v(1)));
+	}
+
+	/**
+	 * If a list does not contain the element, should return -1
+	 */
+	@Test
+	void indexOfTest03() {
+		DoubleList l = newList();
+		l.append(v(4));
+		l.append(v(5));
+		l.append(v(6));
+
+		assertEquals(-1, l.indexOf(v(0)));
+	}
+
+	/**
+	 * Test on a length 1 list with an instance of the element being searched for
+	 */
+	@Test
+	void indexOfTest04() {
+		DoubleList l = newList();
+		l.append(v(4));
+
+		assertEquals(0, l.indexOf(v(4)));
+	}
+
+	/**
+	 * Test on a list that contains one of the given element
+	 */
+	@Test
+	void indexOfTest05() {
+		DoubleList l = newList();
+		l.append(v(1));
+		l.append(v(4));
+		l.append(v(0));
+
+		assertEquals(1, l.indexOf(v(4)));
+	}
+
+	/**
+	 * Test on a list that contains several of the given element
+	 */
+	@Test
+	void indexOfTest06() {
+		DoubleList l = newList();
+		l.append(v(1));
+		l.append(v(4));
+		l.append(v(0));
+		l.append(v(4));
+		l.append(v(4));
+		l.append(v(5));
+
+		assertEquals(1, l.indexOf(v(4)));
+	}
+
+	/**
+	 * Test on a list that contains the given element at the beginning
+	 */
+	@Test
+	void indexOfTest07() {
+		DoubleList l = newList();
+		l.append(v(4));
+		l.append(v(4));
+		l.append(v(0));
+		l.append(v(4));
+		l.append(v(4));
+		l.append(v(5));
+
+		assertEquals(0, l.indexOf(v(4)));
+	}
+
+	/**
+	 * Test on a list that only contains the given element at the end
+	 */
+	@Test
+	void indexOfTest08() {
+		DoubleList l = newList();
+		l.append(v(4));
+		l.append(v(4));
+		l.append(v(0));
+		l.append(v(4));
+		l.append(v(4));
+		l.append(v(5));
+
+		assertEquals(5, l.indexOf(v(5)));
+	}
+
+	/**
+	 * Inserting at index 0 into an empty list
+	 */
+	@Test
+	void insertTest01() {
+		DoubleList l = newList();
+		l.insert(0, v(1));
+
+		assertEquals(1, l.size());
+		assertEquals(v(1), l.get(0));
+	}
+
+	/**
+	 * Inserting several times at the end of a list
+	 */
+	@Test
+	void insertTest02() {
+		DoubleList l = newList();
+		for (int i = 0; i < 5; i++)
+			l.insert(i, v(i + 1));
+
+		assertEquals(5, l.size());
+		for (int i = 0; i < 5; i++)
+			assertEquals(v(i + 1), l.get(i));
+	}
+
+	/**
+	 * Inserting at index 0 into a non-empty list
+	 */
+	@Test
+	void insertTest03() {
+		DoubleList l = newList();
+		for (int i = 0; i < 5; i++)
+			l.insert(i, v(i + 1));
+		l.insert(0, v(0));
+
+		assertEquals(6, l.size());
+		for (int i = 0; i < 6; i++)
+			assertEquals(v(i), l.get(i));
+	}
+
+	/**
+	 * Inserting into the middle of a non-empty list
+	 */
+	@Test
+	void insertTest04() {
+		DoubleList l = newList();
+		l.append(v(0));
+		l.append(v(1));
+		l.append(v(2));
+		l.append(v(4));
+		l.insert(3, v(3));
+
+		assertEquals(5, l.size());
+		for (int i = 0; i < l.size(); i++)
+			assertEquals(v(i), l.get(i));
+	}
+
+	/**
+	 * Inserting into a negative index in an empty list
+	 */
+	@Test
+	void insertTest05() {
+		DoubleList l = newList();
+
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.insert(-1, v(0));
+		});
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.insert(-10, v(0));
+		});
+	}
+
+	/**
+	 * Inserting into a negative index in a non-empty list
+	 */
+	@Test
+	void insertTest06() {
+		DoubleList l = newList();
+		l.append(v(0));
+
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.insert(-1, v(0));
+		});
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.insert(-10, v(0));
+		});
+	}
+
+	/**
+	 * Inserting into an invalid index in an empty list
+	 */
+	@Test
+	void insertTest07() {
+		DoubleList l = newList();
+
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.insert(1, v(0));
+		});
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.insert(10, v(0));
+		});
+	}
+
+	/**
+	 * Inserting into an invalid index in a non-empty list
+	 */
+	@Test
+	void insertTest08() {
+		DoubleList l = newList();
+		l.append(v(0));
+
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.insert(2, v(0));
+		});
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.insert(20, v(0));
+		});
+	}
+
+	/**
+	 * Insert 1000 elements at the end. Guarantees a resize.
+	 */
+	@Test
+	void insertTest09() {
+		DoubleList l = newList();
+		double[] expected = new double[1000];
+		for (int i = 0; i < 1000; i++) {
+			l.insert(i, v(i));
+			expected[i] = v(i);
+		}
+
+		assertArrayEquals(expected, l.toArray());
+	}
+
+	/**
+	 * Insert 1000 elements at the beginning. Guarantees a resize.
+	 */
+	@Test
+	void insertTest10() {
+		DoubleList l = newList();
+		double[] expected = new double[1000];
+		for (int i = 0; i < 1000; i++) {
+			l.insert(0, v(i));
+			expected[999 - i] = v(i);
+		}
+
+		assertArrayEquals(expected, l.toArray());
+	}
+
+	/**
+	 * Insert 1000 elements at index 1 (after one element inserted). Guarantees a
+	 * resize.
+	 */
+	@Test
+	void insertTest11() {
+		DoubleList l = newList();
+		double[] expected = new double[1000];
+		l.append(v(999));
+		expected[0] = v(999);
+		for (int i = 0; i < 999; i++) {
+			l.insert(1, v(i));
+			expected[999 - i] = v(i);
+		}
+
+		assertArrayEquals(expected, l.toArray());
+	}
+
+	/**
+	 * Empty list
+	 */
+	@Test
+	void isEmptyTest01() {
+		DoubleList l = newList();
+
+		assertTrue(l.isEmpty());
+	}
+
+	/**
+	 * List with 1 element
+	 */
+	@Test
+	void isEmptyTest02() {
+		DoubleList l = newList();
+		l.append(v(0));
+
+		assertFalse(l.isEmpty());
+	}
+
+	/**
+	 * List with several elements
+	 */
+	@Test
+	void isEmptyTest03() {
+		DoubleList l = newList();
+		for (int i = 0; i < 5; i++)
+			l.append(v(i));
+
+		assertFalse(l.isEmpty());
+	}
+
+	/**
+	 * If the list is empty, should return -1
+	 */
+	@Test
+	void lastIndexOfTest01() {
+		DoubleList l = newList();
+
+		assertEquals(-1, l.lastIndexOf(v(0)));
+		assertEquals(-1, l.lastIndexOf(v(1)));
+		assertEquals(-1, l.lastIndexOf(v(-1)));
+	}
+
+	/**
+	 * If a list of length 1 does not contain the element, should return -1
+	 */
+	@Test
+	void lastIndexOfTest02() {
+		DoubleList l = newList();
+		l.append(v(0));
+
+		assertEquals(-1, l.lastIndexOf(v(1)));
+	}
+
+	/**
+	 * If a list does not contain the element, should return -1
+	 */
+	@Test
+	void lastIndexOfTest03() {
+		DoubleList l = newList();
+		l.append(v(4));
+		l.append(v(5));
+		l.append(v(6));
+
+		assertEquals(-1, l.lastIndexOf(v(0)));
+	}
+
+	/**
+	 * Test on a length 1 list with an instance of the element being searched for
+	 */
+	@Test
+	void lastIndexOfTest04() {
+		DoubleList l = newList();
+		l.append(v(4));
+
+		assertEquals(0, l.lastIndexOf(v(4)));
+	}
+
+	/**
+	 * Test on a list that contains one of the given element
+	 */
+	@Test
+	void lastIndexOfTest05() {
+		DoubleList l = newList();
+		l.append(v(1));
+		l.append(v(4));
+		l.append(v(0));
+
+		assertEquals(1, l.lastIndexOf(v(4)));
+	}
+
+	/**
+	 * Test on a list that contains several of the given element
+	 */
+	@Test
+	void lastIndexOfTest06() {
+		DoubleList l = newList();
+		l.append(v(1));
+		l.append(v(4));
+		l.append(v(0));
+		l.append(v(4));
+		l.append(v(4));
+		l.append(v(5));
+
+		assertEquals(4, l.lastIndexOf(v(4)));
+	}
+
+	/**
+	 * Test on a list that contains the given element only at the beginning
+	 */
+	@Test
+	void lastIndexOfTest07() {
+		DoubleList l = newList();
+		l.append(v(1));
+		l.append(v(4));
+		l.append(v(0));
+		l.append(v(4));
+		l.append(v(4));
+		l.append(v(5));
+
+		assertEquals(0, l.lastIndexOf(v(1)));
+	}
+
+	/**
+	 * Test on a list that contains the given element at the end
+	 */
+	@Test
+	void lastIndexOfTest08() {
+		DoubleList l = newList();
+		l.append(v(4));
+		l.append(v(4));
+		l.append(v(0));
+		l.append(v(4));
+		l.append(v(4));
+		l.append(v(4));
+
+		assertEquals(5, l.lastIndexOf(v(4)));
+	}
+
+	/**
+	 * Prepend a value in an empty list.
+	 */
+	@Test
+	void prependTest01() {
+		DoubleList l = newList();
+		l.prepend(v(1));
+
+		assertEquals(1, l.size());
+		assertEquals(v(1), l.get(0));
+	}
+
+	/**
+	 * Prepend a value in to a list of length 1.
+	 */
+	@Test
+	void prependTest02() {
+		DoubleList l = newList();
+		l.prepend(v(1));
+		l.prepend(v(2));
+
+		assertEquals(2, l.size());
+		assertEquals(v(2), l.get(0));
+		assertEquals(v(1), l.get(1));
+	}
+
+	/**
+	 * Prepend a value in to a list of length 2.
+	 */
+	@Test
+	void prependTest03() {
+		DoubleList l = newList();
+		l.prepend(v(1));
+		l.prepend(v(2));
+		l.prepend(v(3));
+
+		assertEquals(3, l.size());
+		assertEquals(v(3), l.get(0));
+		assertEquals(v(2), l.get(1));
+		assertEquals(v(1), l.get(2));
+	}
+	
+	/**
+	 * Prepend 1000 values. Guarantees a resize.
+	 */
+	@Test
+	void prependTest04() {
+		DoubleList l = newList();
+		double[] expected = new double[1000];
+		for (int i = 0; i < 1000; i++) {
+			l.prepend(v(i));
+			expected[999 - i] = v(i);
+		}
+		
+		assertArrayEquals(expected, l.toArray());
+	}
+
+	/**
+	 * Remove from a list of length 1.
+	 */
+	@Test
+	void removeTest01() {
+		DoubleList l = newList();
+		l.append(v(1));
+		l.remove(0);
+
+		assertEquals(0, l.size());
+	}
+
+	/**
+	 * Remove from the beginning of a list of length 2.
+	 */
+	@Test
+	void removeTest02() {
+		DoubleList l = newList();
+		l.append(v(1));
+		l.append(v(2));
+		l.remove(0);
+
+		assertEquals(1, l.size());
+		assertEquals(v(2), l.get(0));
+	}
+
+	/**
+	 * Remove from the end of a list of length 2.
+	 */
+	@Test
+	void removeTest03() {
+		DoubleList l = newList();
+		l.append(v(0));
+		l.append(v(1));
+		l.remove(1);
+
+		assertEquals(1, l.size());
+		assertEquals(v(0), l.get(0));
+	}
+
+	/**
+	 * Throws an exception when removing from an empty list. And size remains 0.
+	 */
+	@Test
+	void removeTest04() {
+		DoubleList l = newList();
+
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.remove(0);
+		});
+		assertEquals(0, l.size());
+	}
+
+	/**
+	 * Throws an exception when removing from an invalid index in a non-empty list.
+	 */
+	@Test
+	void removeTest05() {
+		DoubleList l = newList();
+		l.append(v(0));
+
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.remove(1);
+		});
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.remove(-1);
+		});
+	}
+
+	/**
+	 * Remove from the middle of a list of length 3.
+	 */
+	@Test
+	void removeTest06() {
+		DoubleList l = newList();
+		l.append(v(0));
+		l.append(v(1));
+		l.append(v(2));
+		l.remove(1);
+
+		assertEquals(2, l.size());
+		assertEquals(v(0), l.get(0));
+		assertEquals(v(2), l.get(1));
+	}
+
+	/**
+	 * Setting at an invalid index throws an exception.
+	 */
+	@Test
+	void setTest01() {
+		DoubleList l = newList();
+
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.set(0, v(0));
+		});
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.set(-1, v(0));
+		});
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.set(1, v(0));
+		});
+	}
+
+	/**
+	 * Set index 0 of a one element list.
+	 */
+	@Test
+	void setTest02() {
+		DoubleList l = newList();
+		l.append(v(0));
+		l.set(0, v(1));
+
+		assertEquals(v(1), l.get(0));
+		assertEquals(1, l.size());
+	}
+
+	/**
+	 * Set index several indexes of a large list.
+	 */
+	@Test
+	void setTest03() {
+		DoubleList l = newList();
+		l.append(v(0));
+		l.append(v(1));
+		l.append(v(2));
+		l.append(v(3));
+		l.append(v(4));
+		l.append(v(5));
+		l.set(0, v(6));
+		l.set(1, v(7));
+		l.set(2, v(8));
+		l.set(3, v(9));
+		l.set(4, v(10));
+		l.set(5, v(11));
+
+		double[] expected = { 6, 7, 8, 9, 10, 11 };
+		assertArrayEquals(expected, l.toArray());
+	}
+
+	/**
+	 * Size of empty list is 0
+	 */
+	@Test
+	void sizeTest01() {
+		DoubleList l = newList();
+
+		assertEquals(0, l.size());
+	}
+
+	/**
+	 * Length 1 list
+	 */
+	@Test
+	void sizeTest02() {
+		DoubleList l = newList();
+		l.append(v(0));
+
+		assertEquals(1, l.size());
+	}
+
+	/**
+	 * Length 0
+	 */
+	@Test
+	void toArrayTest01() {
+		DoubleList l = newList();
+
+		double[] expected = {};
+		assertArrayEquals(expected, l.toArray());
+	}
+
+	/**
+	 * Length 1
+	 */
+	@Test
+	void toArrayTest02() {
+		DoubleList l = newList();
+		l.append(v(1));
+
+		double[] expected = { 1 };
+		assertArrayEquals(expected, l.toArray());
+	}
+
+	/**
+	 * Length 5
+	 */
+	@Test
+	void toArrayTest03() {
+		DoubleList l = newList();
+		l.append(v(1));
+		l.append(v(3));
+		l.append(v(5));
+		l.append(v(7));
+		l.append(v(9));
+
+		double[] expected = { 1, 3, 5, 7, 9 };
+		assertArrayEquals(expected, l.toArray());
+	}
+
+	/**
+	 * Empty list. No exceptions thrown.
+	 */
+	@Test
+	void trimToSizeTest01() {
+		DoubleList l = newList();
+		l.trimToSize();
+
+		assertEquals(0, l.size());
+	}
+
+	/**
+	 * Append after empty trimToSize. No exceptions.
+	 */
+	@Test
+	void trimToSizeTest02() {
+		DoubleList l = newList();
+		l.trimToSize();
+		l.append(v(0));
+
+		double[] expected = { 0 };
+		assertArrayEquals(expected, l.toArray());
+	}
+
+	/**
+	 * Length 1 trim. Nothing changed.
+	 */
+	@Test
+	void trimToSizeTest03() {
+		DoubleList l = newList();
+		l.append(v(0));
+		l.trimToSize();
+
+		double[] expected = { 0 };
+		assertArrayEquals(expected, l.toArray());
+	}
+
+	/**
+	 * Length 5 trim. Nothing changed.
+	 */
+	@Test
+	void trimToSizeTest04() {
+		DoubleList l = newList();
+		for (int i = 0; i < 5; i++)
+			l.append(v(i));
+		l.trimToSize();
+
+		double[] expected = { 0, 1, 2, 3, 4 };
+		assertArrayEquals(expected, l.toArray());
+	}
+
+	/**
+	 * Appending a list to itself doubles it.
+	 */
+	@Test
+	void appendAllTest06() {
+		DoubleList l = newList();
+		l.append(v(0));
+		l.append(v(1));
+		l.append(v(2));
+		l.appendAll(l);
+
+		double[] expected = { 0, 1, 2, 0, 1, 2 };
+		assertArrayEquals(expected, l.toArray());
+	}
+
+	/**
+	 * Two long lists that differ only in their last element are not equal.
+	 */
+	@Test
+	void equalsTest12() {
+		DoubleList l1 = newList();
+		DoubleList l2 = newList();
+		for (int i = 0; i < 100; i++) {
+			l1.append(v(i));
+			l2.append(v(i));
+		}
+
+		assertTrue(l1.equals(l2));
+		l2.set(99, v(-1));
+		assertFalse(l1.equals(l2));
+	}
+
+	/**
+	 * Finds the first occurrence at every position of a list longer than one scan
+	 * block.
+	 */
+	@Test
+	void indexOfTest09() {
+		DoubleList l = newList();
+		for (int i = 0; i < 37; i++)
+			l.append(v(i));
+
+		for (int i = 0; i < 37; i++)
+			assertEquals(i, l.indexOf(v(i)));
+		assertEquals(-1, l.indexOf(v(37)));
+		l.append(v(20));
+		assertEquals(20, l.indexOf(v(20)));
+	}
+
+	/**
+	 * Finds the last occurrence at every position of a list longer than one scan
+	 * block.
+	 */
+	@Test
+	void lastIndexOfTest09() {
+		DoubleList l = newList();
+		for (int i = 0; i < 37; i++)
+			l.append(v(i));
+
+		for (int i = 0; i < 37; i++)
+			assertEquals(i, l.lastIndexOf(v(i)));
+		assertEquals(-1, l.lastIndexOf(v(37)));
+		l.prepend(v(20));
+		assertEquals(21, l.lastIndexOf(v(20)));
+	}
+
+}
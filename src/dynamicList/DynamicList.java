@@ -1,16 +1,146 @@
 package dynamicList;
 
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 public class DynamicList<T> implements List<T> {
 
 	private T[] data;
 	private int size;
+	private final GrowthPolicy policy;
+	private final Class<?> componentType;
+
+	/**
+	 * How many times the size of this list has changed, so that slices can tell
+	 * when the elements they cover have moved.
+	 */
+	private int modCount;
+
+	/**
+	 * Bulk operations on at least this many elements are split across the common
+	 * ForkJoinPool.
+	 */
+	private int parallelThreshold = Integer.MAX_VALUE;
+
+	/**
+	 * The hash index that contains, indexOf and lastIndexOf use, or null if the
+	 * list isn't indexed.
+	 */
+	private HashIndex<T> hashIndex;
 
-	@SuppressWarnings("unchecked")
 	public DynamicList() {
-		this.data = (T[]) new Object[10];
+		this(GrowthPolicy.doubling());
+	}
+
+	/**
+	 * Creates an empty list whose backing array grows (and possibly shrinks)
+	 * according to the given policy.
+	 * 
+	 * @param policy
+	 */
+	public DynamicList(GrowthPolicy policy) {
+		this(GrowthPolicy.DEFAULT_CAPACITY, policy);
+	}
+
+	/**
+	 * Creates an empty list with room for the given number of elements before the
+	 * backing array has to grow.
+	 * 
+	 * @param initialCapacity
+	 * @throws IllegalArgumentException if initialCapacity is negative.
+	 */
+	public DynamicList(int initialCapacity) {
+		this(initialCapacity, GrowthPolicy.doubling());
+	}
+
+	/**
+	 * Creates an empty list with room for the given number of elements, growing
+	 * according to the given policy after that.
+	 * 
+	 * @param initialCapacity
+	 * @param policy
+	 * @throws IllegalArgumentException if initialCapacity is negative.
+	 */
+	@SuppressWarnings("unchecked")
+	public DynamicList(int initialCapacity, GrowthPolicy policy) {
+		this((Class<T>) Object.class, initialCapacity, policy);
+	}
+
+	/**
+	 * Creates an empty list whose backing array, and every array returned by
+	 * toArray(), has the given component type. toArray() then returns a real
+	 * T[] (e.g. a String[]) instead of an Object[].
+	 * 
+	 * @param type
+	 * @throws IllegalArgumentException if type is a primitive type such as
+	 *                                  int.class, since a list can't hold
+	 *                                  primitives.
+	 */
+	public DynamicList(Class<T> type) {
+		this(type, GrowthPolicy.DEFAULT_CAPACITY, GrowthPolicy.doubling());
+	}
+
+	/**
+	 * Creates an empty list of arrays with the given component type, with room for
+	 * the given number of elements, growing according to the given policy after
+	 * that.
+	 * 
+	 * @param type
+	 * @param initialCapacity
+	 * @param policy
+	 * @throws IllegalArgumentException if initialCapacity is negative, or type is
+	 *                                  a primitive type such as int.class.
+	 */
+	public DynamicList(Class<T> type, int initialCapacity, GrowthPolicy policy) {
+		if (initialCapacity < 0)
+			throw new IllegalArgumentException();
+		if (type == null || policy == null)
+			throw new NullPointerException();
+		if (type.isPrimitive()) // int.class is a Class<Integer>, but it can't make an Integer[]
+			throw new IllegalArgumentException();
+
+		this.componentType = type;
+		this.policy = policy;
+		this.data = newArray(initialCapacity);
 		this.size = 0;
 	}
 
+	/**
+	 * Creates a list containing the elements of the given array. The array is used
+	 * as the backing array directly, without copying, so it must not be modified
+	 * by the caller afterwards. It is replaced once the list has to grow.
+	 * 
+	 * @param data
+	 */
+	public DynamicList(T[] data) {
+		this(data, GrowthPolicy.doubling());
+	}
+
+	/**
+	 * Creates a list that uses the given array as its backing array, without
+	 * copying, and grows according to the given policy. New arrays have the same
+	 * component type as the given array.
+	 * 
+	 * @param data
+	 * @param policy
+	 */
+	public DynamicList(T[] data, GrowthPolicy policy) {
+		if (data == null || policy == null)
+			throw new NullPointerException();
+
+		this.data = data;
+		this.size = data.length;
+		this.policy = policy;
+		this.componentType = data.getClass().getComponentType();
+	}
+
 	@Override
 	public void append(T e) {
 		insert(size, e);
@@ -18,20 +148,66 @@ public class DynamicList<T> implements List<T> {
 
 	@Override
 	public void appendAll(List<T> list) {
-		for (int i = 0; i < list.size(); i++)
-			insert(size, list.get(i));
+		insertAll(size, list);
+	}
+
+	/**
+	 * Appends len elements of the given array, starting at off, to the end of this
+	 * list.
+	 * 
+	 * @param src
+	 * @param off
+	 * @param len
+	 * @throws IndexOutOfBoundsException if off and len do not describe a range
+	 *                                   inside src.
+	 */
+	public void appendAll(T[] src, int off, int len) {
+		insertAll(size, src, off, len);
 	}
 
 	@Override
 	public void clear() {
 		size = 0;
+		modCount++;
+		shrinkIfNeeded();
+
+		if (hashIndex != null)
+			hashIndex.clear();
 	}
 
 	@Override
 	public boolean contains(T e) {
+		if (hashIndex != null)
+			return hashIndex.count(e) > 0;
+
 		return indexOf(e) != -1;
 	}
 
+	/**
+	 * Copies the elements from index <i>from</i> (inclusive) to index <i>to</i>
+	 * (exclusive) into the given array, starting at off, without allocating
+	 * anything.
+	 * 
+	 * @param from
+	 * @param to
+	 * @param dest
+	 * @param off
+	 * @return dest
+	 * @throws IndexOutOfBoundsException if from and to are not
+	 *                                   0 &lt;= from &lt;= to &lt;= size, or if the
+	 *                                   range does not fit in dest starting at off.
+	 */
+	public T[] copyRange(int from, int to, T[] dest, int off) {
+		if (from < 0 || from > to || to > size)
+			throw new IndexOutOfBoundsException();
+		if (off < 0 || off > dest.length - (to - from))
+			throw new IndexOutOfBoundsException();
+
+		System.arraycopy(data, from, dest, off, to - from);
+
+		return dest;
+	}
+
 	@Override
 	public boolean equals(List<T> other) {
 		if (other == null)
@@ -40,6 +216,17 @@ public class DynamicList<T> implements List<T> {
 		if (this.size != other.size())
 			return false;
 
+		if (other instanceof DynamicList && isParallel(size)) {
+			T[] otherData = ((DynamicList<T>) other).data;
+
+			return ForkJoinRanges.firstIndex(0, size, (from, to) -> {
+				for (int i = from; i < to; i++)
+					if (!areEqual(data[i], otherData[i]))
+						return i;
+				return -1;
+			}) == -1;
+		}
+
 		for (int i = 0; i < size; i++)
 			if (!areEqual(data[i], other.get(i)))
 				return false;
@@ -47,6 +234,17 @@ public class DynamicList<T> implements List<T> {
 		return true;
 	}
 
+	/**
+	 * Grows the backing array, if needed, so that it can hold at least the given
+	 * number of elements without growing again.
+	 * 
+	 * @param minCapacity
+	 */
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity > data.length)
+			changeBackingArray(policy.grow(data.length, minCapacity));
+	}
+
 	@Override
 	public T get(int index) {
 		if (index < 0 || index >= size)
@@ -55,13 +253,22 @@ public class DynamicList<T> implements List<T> {
 		return data[index];
 	}
 
+	/**
+	 * Returns how many elements a list needs before bulk operations are split
+	 * across the common ForkJoinPool.
+	 * 
+	 * @return
+	 */
+	public int getParallelThreshold() {
+		return parallelThreshold;
+	}
+
 	@Override
 	public int indexOf(T e) {
-		for (int i = 0; i < size; i++)
-			if (areEqual(data[i], e))
-				return i;
-		
-		return -1;
+		if (hashIndex != null)
+			return hashIndex.first(e);
+
+		return find(e, 0, size);
 	}
 
 	@Override
@@ -70,14 +277,63 @@ public class DynamicList<T> implements List<T> {
 			throw new IndexOutOfBoundsException();
 
 		if (size == data.length)
-			if (data.length != 0)
-				changeBackingArray(size * 2);
-			else // Special case
-				changeBackingArray(10);
+			changeBackingArray(policy.grow(data.length, size + 1));
 
 		size++;
-		shiftDataRight(index);
+		modCount++;
+		shiftDataRight(index, 1);
 		data[index] = e;
+
+		if (hashIndex != null)
+			hashIndex.added(index, data, size);
+	}
+
+	/**
+	 * Inserts all of the values in the given list at the given index, shifting the
+	 * values after it to the right once. Values are copied in bulk when the given
+	 * list is also a DynamicList.
+	 * 
+	 * @param index
+	 * @param list
+	 * @throws IndexOutOfBoundsException if the given index is not between 0 and
+	 *                                   size inclusive.
+	 */
+	public void insertAll(int index, List<T> list) {
+		if (list instanceof DynamicList) {
+			DynamicList<T> other = (DynamicList<T>) list;
+			insertAll(index, other.data, 0, other.size);
+			return;
+		}
+
+		T[] arr = list.toArray(); // Read before the gap opens; list may be a slice of this list
+		insertAll(index, arr, 0, arr.length);
+	}
+
+	/**
+	 * Inserts len elements of the given array, starting at off, at the given index.
+	 * 
+	 * @param index
+	 * @param src
+	 * @param off
+	 * @param len
+	 * @throws IndexOutOfBoundsException if the given index is not between 0 and
+	 *                                   size inclusive, or if off and len do not
+	 *                                   describe a range inside src.
+	 */
+	public void insertAll(int index, T[] src, int off, int len) {
+		if (off < 0 || len < 0 || off > src.length - len)
+			throw new IndexOutOfBoundsException();
+
+		if (src == data) { // Inserting this list's own data, which is about to move
+			src = Arrays.copyOfRange(src, off, off + len);
+			off = 0;
+		}
+
+		openGap(index, len);
+		System.arraycopy(src, off, data, index, len);
+
+		if (hashIndex != null)
+			hashIndex.addedRange(index, index + len, data, size);
 	}
 
 	@Override
@@ -85,13 +341,22 @@ public class DynamicList<T> implements List<T> {
 		return size == 0;
 	}
 
+	/**
+	 * Checks if this list keeps a hash index of its elements.
+	 * 
+	 * @return
+	 * @see #setIndexed(boolean)
+	 */
+	public boolean isIndexed() {
+		return hashIndex != null;
+	}
+
 	@Override
 	public int lastIndexOf(T e) {
-		for (int i = size - 1; i >= 0; i--)
-			if (areEqual(data[i], e))
-				return i;
-		
-		return -1;
+		if (hashIndex != null)
+			return hashIndex.last(e);
+
+		return lastIndexOfRange(e, 0, size);
 	}
 
 	@Override
@@ -107,7 +372,12 @@ public class DynamicList<T> implements List<T> {
 		T oldVal = data[index];
 
 		size--;
+		modCount++;
 		shiftDataLeft(index + 1);
+		shrinkIfNeeded();
+
+		if (hashIndex != null)
+			hashIndex.removed(index, oldVal, data, size);
 
 		return oldVal;
 	}
@@ -121,28 +391,195 @@ public class DynamicList<T> implements List<T> {
 
 		data[index] = e;
 
+		if (hashIndex != null)
+			hashIndex.replaced(index, oldVal, data);
+
 		return oldVal;
 	}
 
+	/**
+	 * <p>
+	 * Turns the hash index on or off. While it is on, the list keeps a hash map
+	 * from each distinct element to how often it occurs and where it first and
+	 * last occurs, so contains, indexOf and lastIndexOf are O(1). Lookups only
+	 * read the index, so like the list itself it can be read from several
+	 * threads as long as none of them changes the list.
+	 * </p>
+	 * <p>
+	 * The index relies on the elements' hashCode agreeing with equals, and on
+	 * elements not changing in ways that affect either while they are in the
+	 * list. Every change has to update it: an insert or remove in the middle
+	 * updates the positions of the elements on the shorter side of it, and a
+	 * removal of several elements at once or a sort rebuilds it. So it only pays
+	 * off for lists that are searched far more often than they are changed. It
+	 * is off by default. Turning it on builds it in one pass over the list.
+	 * </p>
+	 * 
+	 * @param indexed
+	 */
+	public void setIndexed(boolean indexed) {
+		if (!indexed)
+			hashIndex = null;
+		else if (hashIndex == null)
+			hashIndex = new HashIndex<T>(data, size);
+	}
+
+	/**
+	 * <p>
+	 * Sets how many elements this list must have before indexOf, contains, equals
+	 * and toArray split their work across the common ForkJoinPool. The results are
+	 * the same either way, but the elements' equals methods may be called from
+	 * several threads at once.
+	 * </p>
+	 * <p>
+	 * The default is Integer.MAX_VALUE, which keeps all the work on the calling
+	 * thread.
+	 * </p>
+	 * 
+	 * @param threshold
+	 * @throws IllegalArgumentException if threshold is negative.
+	 */
+	public void setParallelThreshold(int threshold) {
+		if (threshold < 0)
+			throw new IllegalArgumentException();
+
+		parallelThreshold = threshold;
+	}
+
 	@Override
 	public int size() {
 		return size;
 	}
 
-	@SuppressWarnings("unchecked")
+	/**
+	 * <p>
+	 * Returns a view of the elements from index <i>from</i> (inclusive) to index
+	 * <i>to</i> (exclusive). The view reads and writes this list's backing array
+	 * directly, so nothing is copied, and set on either one shows up in the other.
+	 * Inserting or removing through the view changes this list as well.
+	 * </p>
+	 * <p>
+	 * Once this list's size is changed other than through the view, the view
+	 * throws a ConcurrentModificationException on every call.
+	 * </p>
+	 * 
+	 * @param from
+	 * @param to
+	 * @return
+	 * @throws IndexOutOfBoundsException if from and to are not
+	 *                                   0 &lt;= from &lt;= to &lt;= size.
+	 */
+	public List<T> slice(int from, int to) {
+		if (from < 0 || from > to || to > size)
+			throw new IndexOutOfBoundsException();
+
+		return new Slice(from, to - from);
+	}
+
+	/**
+	 * Sorts this list in place in the backing array, in the order the given
+	 * comparator imposes, or in the elements' natural order if it is null. The
+	 * sort is stable: equal elements keep their order. Lists at least as big as
+	 * the parallel threshold are sorted with Arrays.parallelSort, which calls the
+	 * comparator from several threads at once.
+	 * 
+	 * @param c
+	 * @throws ClassCastException if c is null and the elements are not
+	 *                            Comparable.
+	 */
+	public void sort(Comparator<? super T> c) {
+		if (isParallel(size))
+			Arrays.parallelSort(data, 0, size, c);
+		else
+			Arrays.sort(data, 0, size, c);
+
+		if (hashIndex != null)
+			hashIndex.reordered(data, size);
+	}
+
+	/**
+	 * Returns a spliterator over the elements of this list, read straight from the
+	 * backing array. It always splits its range in half and knows the exact size
+	 * of every part, so a parallel stream divides the work evenly. Changing the
+	 * list's size while the spliterator is in use causes a
+	 * ConcurrentModificationException.
+	 * 
+	 * @return
+	 */
+	public Spliterator<T> spliterator() {
+		return new ArraySpliterator(0, size, modCount);
+	}
+
+	/**
+	 * Returns a sequential stream over the elements of this list, without copying
+	 * them. Call parallel() on it to work through the list on several threads.
+	 * 
+	 * @return
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+
 	@Override
 	public T[] toArray() {
-		T[] arr = (T[]) new Object[size];
+		if (isParallel(size)) {
+			T[] arr = newArray(size);
+			ForkJoinRanges.forEach(0, size, (from, to) -> System.arraycopy(data, from, arr, from, to - from));
+			return arr;
+		}
 
-		for (int i = 0; i < size; i++)
-			arr[i] = data[i];
+		return Arrays.copyOf(data, size);
+	}
 
-		return arr;
+	/**
+	 * Copies this list into the given array if it is big enough, and returns it.
+	 * Otherwise returns a new array with the same component type as dest. If dest
+	 * has room to spare, the element after the last copied one is set to null.
+	 * 
+	 * @param dest
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public T[] toArray(T[] dest) {
+		if (dest.length < size)
+			dest = (T[]) Array.newInstance(dest.getClass().getComponentType(), size);
+
+		System.arraycopy(data, 0, dest, 0, size);
+		if (dest.length > size)
+			dest[size] = null;
+
+		return dest;
+	}
+
+	/**
+	 * Copies this list into the given array, starting at destOff, without
+	 * allocating anything.
+	 * 
+	 * @param dest
+	 * @param destOff
+	 * @return dest
+	 * @throws IndexOutOfBoundsException if the list does not fit in dest starting
+	 *                                   at destOff.
+	 */
+	public T[] toArray(T[] dest, int destOff) {
+		return copyRange(0, size, dest, destOff);
+	}
+
+	/**
+	 * Copies this list into an array made by the given function, which is passed
+	 * the list's size. e.g. list.toArray(String[]::new)
+	 * 
+	 * @param generator
+	 * @return
+	 */
+	public T[] toArray(IntFunction<T[]> generator) {
+		return toArray(generator.apply(size));
 	}
 
 	@Override
 	public void trimToSize() {
-		changeBackingArray(size);
+		if (data.length != size)
+			changeBackingArray(size);
 	}
 
 	/**
@@ -158,31 +595,150 @@ public class DynamicList<T> implements List<T> {
 		return e1.equals(e2);
 	}
 	
+	/**
+	 * Checks if a bulk operation on the given number of elements should be split
+	 * across the common ForkJoinPool.
+	 * 
+	 * @param length
+	 * @return
+	 */
+	private boolean isParallel(int length) {
+		return length >= parallelThreshold;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of e between from (inclusive) and
+	 * to (exclusive), or -1 if it isn't there. Big ranges are searched in
+	 * parallel.
+	 * 
+	 * @param e
+	 * @param from
+	 * @param to
+	 * @return
+	 */
+	private int find(T e, int from, int to) {
+		if (isParallel(to - from))
+			return ForkJoinRanges.firstIndex(from, to, (start, end) -> indexOfRange(e, start, end));
+
+		return indexOfRange(e, from, to);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of e between from (inclusive) and
+	 * to (exclusive), or -1 if it isn't there.
+	 * 
+	 * @param e
+	 * @param from
+	 * @param to
+	 * @return
+	 */
+	private int indexOfRange(T e, int from, int to) {
+		for (int i = from; i < to; i++)
+			if (areEqual(data[i], e))
+				return i;
+
+		return -1;
+	}
+
+	/**
+	 * Returns the index of the last occurrence of e between from (inclusive) and
+	 * to (exclusive), or -1 if it isn't there.
+	 * 
+	 * @param e
+	 * @param from
+	 * @param to
+	 * @return
+	 */
+	private int lastIndexOfRange(T e, int from, int to) {
+		for (int i = to - 1; i >= from; i--)
+			if (areEqual(data[i], e))
+				return i;
+
+		return -1;
+	}
+
+	/**
+	 * Removes the elements from index from (inclusive) to index to (exclusive),
+	 * shifting the values after them to the left once.
+	 * 
+	 * @param from
+	 * @param to
+	 */
+	private void removeRange(int from, int to) {
+		System.arraycopy(data, to, data, from, size - to);
+		size -= to - from;
+		modCount++;
+		shrinkIfNeeded();
+
+		if (hashIndex != null)
+			hashIndex.rebuild(data, size);
+	}
+
+	/**
+	 * Creates an array with this list's component type.
+	 * 
+	 * @param length
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	private T[] newArray(int length) {
+		return (T[]) Array.newInstance(componentType, length);
+	}
+
 	/**
 	 * Changes the backing array to a new array with the given size. All data from
 	 * the old array is copied to the new array in order.
 	 * 
 	 * @param newSize
 	 */
-	@SuppressWarnings("unchecked")
 	private void changeBackingArray(int newSize) {
-		T[] newData = (T[]) new Object[newSize];
+		T[] newData = newArray(newSize);
 
-		for (int i = 0; i < size; i++)
-			newData[i] = data[i];
+		System.arraycopy(data, 0, newData, 0, size);
 
 		data = newData;
 	}
 
 	/**
-	 * Shifts data in the backing array one to the right, including the value at
-	 * startIndex. Assumes size has already been incremented.
+	 * Shrinks the backing array if the growth policy asks for it.
+	 */
+	private void shrinkIfNeeded() {
+		int newCapacity = policy.shrink(data.length, size);
+
+		if (newCapacity != data.length)
+			changeBackingArray(newCapacity);
+	}
+
+	/**
+	 * Makes room for len values at the given index: grows the backing array if
+	 * needed, increases size and shifts everything from index onwards to the right.
+	 * The values in the gap are left as they were.
+	 * 
+	 * @param index
+	 * @param len
+	 * @throws IndexOutOfBoundsException if the given index is not between 0 and
+	 *                                   size inclusive.
+	 */
+	private void openGap(int index, int len) {
+		if (index < 0 || index > size)
+			throw new IndexOutOfBoundsException();
+
+		ensureCapacity(size + len);
+		size += len;
+		modCount++;
+		shiftDataRight(index, len);
+	}
+
+	/**
+	 * Shifts data in the backing array <i>distance</i> places to the right,
+	 * including the value at startIndex. Assumes size has already been increased
+	 * by distance.
 	 * 
 	 * @param startIndex Where to start shifting
+	 * @param distance   How far to shift
 	 */
-	private void shiftDataRight(int startIndex) {
-		for (int i = size - 1; i > startIndex; i--)
-			data[i] = data[i - 1];
+	private void shiftDataRight(int startIndex, int distance) {
+		System.arraycopy(data, startIndex, data, startIndex + distance, size - distance - startIndex);
 	}
 
 	/**
@@ -194,8 +750,257 @@ public class DynamicList<T> implements List<T> {
 	 * @param startIndex Where to start shifting
 	 */
 	private void shiftDataLeft(int startIndex) {
-		for (int i = startIndex; i <= size; i++)
-			data[i - 1] = data[i];
+		System.arraycopy(data, startIndex, data, startIndex - 1, size - startIndex + 1);
+	}
+
+	/**
+	 * A view of part of the list, returned by slice.
+	 */
+	private class Slice implements List<T> {
+
+		private final int offset;
+		private int length;
+		private int expectedModCount;
+
+		Slice(int offset, int length) {
+			this.offset = offset;
+			this.length = length;
+			this.expectedModCount = modCount;
+		}
+
+		@Override
+		public void append(T e) {
+			insert(length, e);
+		}
+
+		@Override
+		public void appendAll(List<T> list) {
+			checkForComodification();
+
+			T[] arr = list.toArray(); // list may be this slice or the whole list
+			insertAll(offset + length, arr, 0, arr.length);
+			length += arr.length;
+			expectedModCount = modCount;
+		}
+
+		@Override
+		public void clear() {
+			checkForComodification();
+
+			removeRange(offset, offset + length);
+			length = 0;
+			expectedModCount = modCount;
+		}
+
+		@Override
+		public boolean contains(T e) {
+			return indexOf(e) != -1;
+		}
+
+		@Override
+		public boolean equals(List<T> other) {
+			checkForComodification();
+
+			if (other == null)
+				return false;
+
+			if (length != other.size())
+				return false;
+
+			for (int i = 0; i < length; i++)
+				if (!areEqual(data[offset + i], other.get(i)))
+					return false;
+
+			return true;
+		}
+
+		@Override
+		public T get(int index) {
+			checkForComodification();
+
+			if (index < 0 || index >= length)
+				throw new IndexOutOfBoundsException();
+
+			return data[offset + index];
+		}
+
+		@Override
+		public int indexOf(T e) {
+			checkForComodification();
+
+			int i = find(e, offset, offset + length);
+
+			return i == -1 ? -1 : i - offset;
+		}
+
+		@Override
+		public void insert(int index, T e) {
+			checkForComodification();
+
+			if (index < 0 || index > length)
+				throw new IndexOutOfBoundsException();
+
+			DynamicList.this.insert(offset + index, e);
+			length++;
+			expectedModCount = modCount;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			checkForComodification();
+
+			return length == 0;
+		}
+
+		@Override
+		public int lastIndexOf(T e) {
+			checkForComodification();
+
+			int i = lastIndexOfRange(e, offset, offset + length);
+
+			return i == -1 ? -1 : i - offset;
+		}
+
+		@Override
+		public void prepend(T e) {
+			insert(0, e);
+		}
+
+		@Override
+		public T remove(int index) {
+			checkForComodification();
+
+			if (index < 0 || index >= length)
+				throw new IndexOutOfBoundsException();
+
+			T oldVal = DynamicList.this.remove(offset + index);
+			length--;
+			expectedModCount = modCount;
+
+			return oldVal;
+		}
+
+		@Override
+		public T set(int index, T e) {
+			checkForComodification();
+
+			if (index < 0 || index >= length)
+				throw new IndexOutOfBoundsException();
+
+			return DynamicList.this.set(offset + index, e);
+		}
+
+		@Override
+		public int size() {
+			checkForComodification();
+
+			return length;
+		}
+
+		@Override
+		public T[] toArray() {
+			checkForComodification();
+
+			return Arrays.copyOfRange(data, offset, offset + length);
+		}
+
+		/**
+		 * Does nothing, since a slice has no backing array of its own.
+		 */
+		@Override
+		public void trimToSize() {
+			checkForComodification();
+		}
+
+		/**
+		 * Throws an exception if the list's size was changed other than through this
+		 * slice.
+		 * 
+		 * @throws ConcurrentModificationException if the list was changed.
+		 */
+		private void checkForComodification() {
+			if (modCount != expectedModCount)
+				throw new ConcurrentModificationException();
+		}
+
+	}
+
+	/**
+	 * A spliterator over part of the backing array, returned by spliterator.
+	 */
+	private class ArraySpliterator implements Spliterator<T> {
+
+		private int index;
+		private final int fence;
+		private final int expectedModCount;
+
+		ArraySpliterator(int index, int fence, int expectedModCount) {
+			this.index = index;
+			this.fence = fence;
+			this.expectedModCount = expectedModCount;
+		}
+
+		@Override
+		public int characteristics() {
+			return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+		}
+
+		@Override
+		public long estimateSize() {
+			return fence - index;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+			if (action == null)
+				throw new NullPointerException();
+
+			T[] arr = data;
+			for (int i = index; i < fence; i++)
+				action.accept(arr[i]);
+
+			index = fence;
+			checkForComodification();
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			if (action == null)
+				throw new NullPointerException();
+
+			if (index >= fence)
+				return false;
+
+			action.accept(data[index++]);
+			checkForComodification();
+
+			return true;
+		}
+
+		@Override
+		public ArraySpliterator trySplit() {
+			int mid = (index + fence) >>> 1;
+
+			if (mid <= index)
+				return null;
+
+			ArraySpliterator prefix = new ArraySpliterator(index, mid, expectedModCount);
+			index = mid;
+
+			return prefix;
+		}
+
+		/**
+		 * Throws an exception if the list's size was changed since this spliterator
+		 * was created.
+		 * 
+		 * @throws ConcurrentModificationException if the list was changed.
+		 */
+		private void checkForComodification() {
+			if (modCount != expectedModCount)
+				throw new ConcurrentModificationException();
+		}
+
 	}
 
 }
@@ -0,0 +1,609 @@
+package dynamicList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the parts of DynamicList that are not in the list interface.
+ */
+class DynamicListTests {
+
+	/**
+	 * A list created with an initial capacity starts empty and can grow past it.
+	 */
+	@Test
+	void constructorTest01() {
+		DynamicList<Integer> l = new DynamicList<Integer>(2);
+		assertEquals(0, l.size());
+		for (int i = 0; i < 100; i++)
+			l.append(i);
+
+		assertEquals(100, l.size());
+		for (int i = 0; i < 100; i++)
+			assertEquals(i, l.get(i));
+	}
+
+	/**
+	 * A list created with a capacity of 0 can still be appended to.
+	 */
+	@Test
+	void constructorTest02() {
+		DynamicList<Integer> l = new DynamicList<Integer>(0);
+		l.append(1);
+
+		assertEquals(1, l.size());
+		assertEquals(1, l.get(0));
+	}
+
+	/**
+	 * A negative initial capacity throws an exception.
+	 */
+	@Test
+	void constructorTest03() {
+		assertThrows(IllegalArgumentException.class, () -> {
+			new DynamicList<Integer>(-1);
+		});
+	}
+
+	/**
+	 * A list wrapping an array contains the array's elements, and writes through
+	 * the list are visible in the array until the list grows.
+	 */
+	@Test
+	void constructorTest04() {
+		Integer[] arr = { 1, 2, 3 };
+		DynamicList<Integer> l = new DynamicList<Integer>(arr);
+		l.set(0, 0);
+
+		assertEquals(3, l.size());
+		assertEquals(0, arr[0]);
+		l.append(4);
+		assertEquals(4, l.size());
+		assertEquals(4, l.get(3));
+	}
+
+	/**
+	 * A primitive component type is rejected, since it can't make an array of
+	 * the list's element type.
+	 */
+	@Test
+	void constructorTest05() {
+		assertThrows(IllegalArgumentException.class, () -> {
+			new DynamicList<Integer>(int.class);
+		});
+		assertThrows(IllegalArgumentException.class, () -> {
+			new DynamicList<Double>(double.class, 10, GrowthPolicy.doubling());
+		});
+	}
+
+	/**
+	 * ensureCapacity on an empty list, followed by appends.
+	 */
+	@Test
+	void ensureCapacityTest01() {
+		DynamicList<Integer> l = new DynamicList<Integer>();
+		l.ensureCapacity(1000);
+		for (int i = 0; i < 1000; i++)
+			l.append(i);
+
+		assertEquals(1000, l.size());
+		for (int i = 0; i < 1000; i++)
+			assertEquals(i, l.get(i));
+	}
+
+	/**
+	 * ensureCapacity with a smaller capacity than the list's keeps all elements.
+	 */
+	@Test
+	void ensureCapacityTest02() {
+		DynamicList<Integer> l = new DynamicList<Integer>();
+		l.append(0);
+		l.append(1);
+		l.ensureCapacity(1);
+
+		assertEquals(2, l.size());
+		assertEquals(0, l.get(0));
+		assertEquals(1, l.get(1));
+	}
+
+	/**
+	 * Appending a range of an array.
+	 */
+	@Test
+	void appendAllTest08() {
+		DynamicList<Integer> l = new DynamicList<Integer>();
+		l.append(0);
+		Integer[] src = { 9, 1, 2, 3, 9 };
+		l.appendAll(src, 1, 3);
+
+		Integer[] expected = { 0, 1, 2, 3 };
+		assertArrayEquals(expected, l.toArray());
+	}
+
+	/**
+	 * Appending a range that does not fit in the array throws an exception and
+	 * leaves the list unchanged.
+	 */
+	@Test
+	void appendAllTest09() {
+		DynamicList<Integer> l = new DynamicList<Integer>();
+		Integer[] src = { 1, 2, 3 };
+
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.appendAll(src, 2, 2);
+		});
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.appendAll(src, -1, 1);
+		});
+		assertEquals(0, l.size());
+	}
+
+	/**
+	 * Inserting a list into the middle of a list.
+	 */
+	@Test
+	void insertAllTest01() {
+		DynamicList<Integer> l = new DynamicList<Integer>();
+		l.append(0);
+		l.append(4);
+		DynamicList<Integer> other = new DynamicList<Integer>();
+		other.append(1);
+		other.append(2);
+		other.append(3);
+		l.insertAll(1, other);
+
+		assertEquals(5, l.size());
+		for (int i = 0; i < l.size(); i++)
+			assertEquals(i, l.get(i));
+	}
+
+	/**
+	 * Inserting 1000 elements at the front of a list. Guarantees a resize.
+	 */
+	@Test
+	void insertAllTest02() {
+		DynamicList<Integer> l = new DynamicList<Integer>();
+		l.append(1000);
+		Integer[] src = new Integer[1000];
+		for (int i = 0; i < 1000; i++)
+			src[i] = i;
+		l.insertAll(0, src, 0, 1000);
+
+		assertEquals(1001, l.size());
+		for (int i = 0; i < l.size(); i++)
+			assertEquals(i, l.get(i));
+	}
+
+	/**
+	 * Inserting a list into itself.
+	 */
+	@Test
+	void insertAllTest03() {
+		DynamicList<Integer> l = new DynamicList<Integer>();
+		l.append(0);
+		l.append(1);
+		l.insertAll(1, l);
+
+		Integer[] expected = { 0, 0, 1, 1 };
+		assertArrayEquals(expected, l.toArray());
+	}
+
+	/**
+	 * Inserting at an invalid index throws an exception.
+	 */
+	@Test
+	void insertAllTest04() {
+		DynamicList<Integer> l = new DynamicList<Integer>();
+		DynamicList<Integer> other = new DynamicList<Integer>();
+		other.append(1);
+
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.insertAll(1, other);
+		});
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.insertAll(-1, other);
+		});
+	}
+
+	/**
+	 * Appending or inserting a slice of the list itself copies the slice before
+	 * making room for it.
+	 */
+	@Test
+	void insertAllTest05() {
+		DynamicList<Integer> l = new DynamicList<Integer>(Integer.class);
+		for (int i = 0; i < 5; i++)
+			l.append(i);
+		l.appendAll(l.slice(0, 2));
+
+		Integer[] expected = { 0, 1, 2, 3, 4, 0, 1 };
+		assertArrayEquals(expected, l.toArray());
+
+		l.insertAll(0, l.slice(3, 5));
+
+		Integer[] expectedInserted = { 3, 4, 0, 1, 2, 3, 4, 0, 1 };
+		assertArrayEquals(expectedInserted, l.toArray());
+	}
+
+	/**
+	 * A list created with a Class returns a real array of that type.
+	 */
+	@Test
+	void toArrayTest01() {
+		DynamicList<String> l = new DynamicList<String>(String.class);
+		for (int i = 0; i < 20; i++)
+			l.append("" + i);
+
+		String[] arr = l.toArray();
+		assertEquals(String[].class, arr.getClass());
+		assertEquals(20, arr.length);
+		assertEquals("19", arr[19]);
+	}
+
+	/**
+	 * A list wrapping an array keeps that array's type after it grows.
+	 */
+	@Test
+	void toArrayTest02() {
+		Integer[] arr = { 1, 2 };
+		DynamicList<Integer> l = new DynamicList<Integer>(arr);
+		for (int i = 0; i < 20; i++)
+			l.append(i);
+
+		assertEquals(Integer[].class, l.toArray().getClass());
+	}
+
+	/**
+	 * toArray(dest) fills a big enough array, marks the end with null, and returns
+	 * the same array.
+	 */
+	@Test
+	void toArrayTest03() {
+		DynamicList<String> l = new DynamicList<String>();
+		l.append("a");
+		l.append("b");
+		String[] dest = { "x", "x", "x", "x" };
+
+		assertSame(dest, l.toArray(dest));
+		String[] expected = { "a", "b", null, "x" };
+		assertArrayEquals(expected, dest);
+	}
+
+	/**
+	 * toArray(dest) with a small array returns a new array of the same type.
+	 */
+	@Test
+	void toArrayTest04() {
+		DynamicList<String> l = new DynamicList<String>();
+		l.append("a");
+		l.append("b");
+		String[] dest = new String[1];
+		String[] arr = l.toArray(dest);
+
+		assertNotSame(dest, arr);
+		String[] expected = { "a", "b" };
+		assertArrayEquals(expected, arr);
+	}
+
+	/**
+	 * toArray(generator) returns an array made by the generator.
+	 */
+	@Test
+	void toArrayTest05() {
+		DynamicList<String> l = new DynamicList<String>();
+		l.append("a");
+		String[] arr = l.toArray(String[]::new);
+
+		assertEquals(String[].class, arr.getClass());
+		assertEquals(1, arr.length);
+		assertEquals("a", arr[0]);
+	}
+
+	/**
+	 * toArray(dest, destOff) fills the given array without touching the rest of it.
+	 */
+	@Test
+	void toArrayTest06() {
+		DynamicList<String> l = new DynamicList<String>();
+		l.append("a");
+		l.append("b");
+		String[] dest = { "x", "x", "x", "x" };
+
+		assertSame(dest, l.toArray(dest, 1));
+		String[] expected = { "x", "a", "b", "x" };
+		assertArrayEquals(expected, dest);
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.toArray(dest, 3);
+		});
+	}
+
+	/**
+	 * copyRange copies part of the list, and rejects ranges outside the list.
+	 */
+	@Test
+	void copyRangeTest01() {
+		DynamicList<Integer> l = new DynamicList<Integer>();
+		for (int i = 0; i < 10; i++)
+			l.append(i);
+		Integer[] dest = new Integer[3];
+		l.copyRange(7, 10, dest, 0);
+
+		Integer[] expected = { 7, 8, 9 };
+		assertArrayEquals(expected, dest);
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.copyRange(8, 11, dest, 0);
+		});
+	}
+
+	/**
+	 * A slice sees the parent's elements in its range, and changes through it show
+	 * up in the parent.
+	 */
+	@Test
+	void sliceTest01() {
+		DynamicList<String> l = new DynamicList<String>();
+		for (int i = 0; i < 6; i++)
+			l.append("" + i);
+		List<String> s = l.slice(2, 5);
+
+		assertEquals(1, s.indexOf("3"));
+		assertEquals(-1, s.indexOf("5"));
+		s.set(0, "a");
+		s.insert(3, "b");
+		assertEquals("3", s.remove(1));
+
+		String[] expected = { "0", "1", "a", "4", "b", "5" };
+		assertArrayEquals(expected, l.toArray());
+		String[] expectedSlice = { "a", "4", "b" };
+		assertArrayEquals(expectedSlice, s.toArray());
+	}
+
+	/**
+	 * A slice can't be used after the parent is resized.
+	 */
+	@Test
+	void sliceTest02() {
+		DynamicList<String> l = new DynamicList<String>();
+		for (int i = 0; i < 6; i++)
+			l.append("" + i);
+		List<String> s = l.slice(2, 5);
+
+		l.remove(0);
+		assertThrows(ConcurrentModificationException.class, () -> {
+			s.contains("2");
+		});
+	}
+
+	/**
+	 * Parallel indexOf, equals and toArray agree with the sequential versions.
+	 */
+	@Test
+	void parallelTest01() {
+		DynamicList<Integer> seq = new DynamicList<Integer>(Integer.class);
+		DynamicList<Integer> par = new DynamicList<Integer>(Integer.class);
+		for (int i = 0; i < 100_000; i++) {
+			seq.append(i % 100);
+			par.append(i % 100);
+		}
+		par.setParallelThreshold(0);
+		par.set(90_000, null);
+
+		assertEquals(42, par.indexOf(42));
+		assertEquals(90_000, par.indexOf(null));
+		assertFalse(par.contains(100));
+		assertFalse(par.equals(seq));
+		seq.set(90_000, null);
+		assertTrue(par.equals(seq));
+
+		Integer[] arr = par.toArray();
+		assertEquals(Integer[].class, arr.getClass());
+		assertArrayEquals(seq.toArray(), arr);
+	}
+
+	/**
+	 * The stream sees every element in order, sequential or parallel.
+	 */
+	@Test
+	void streamTest01() {
+		DynamicList<String> l = new DynamicList<String>();
+		for (int i = 0; i < 10_000; i++)
+			l.append("" + i);
+
+		assertEquals(10_000, l.stream().count());
+		assertEquals("0123", l.stream().limit(4).collect(Collectors.joining()));
+		assertEquals(l.stream().toList(), l.stream().parallel().toList());
+		assertEquals(10_000, l.stream().parallel().distinct().count());
+	}
+
+	/**
+	 * The spliterator splits evenly, and fails if the list's size changes.
+	 */
+	@Test
+	void spliteratorTest01() {
+		DynamicList<String> l = new DynamicList<String>();
+		for (int i = 0; i < 9; i++)
+			l.append("" + i);
+		Spliterator<String> right = l.spliterator();
+		Spliterator<String> left = right.trySplit();
+
+		assertEquals(4, left.estimateSize());
+		assertEquals(5, right.estimateSize());
+		assertTrue(right.tryAdvance(e -> assertEquals("4", e)));
+
+		l.remove(0);
+		assertThrows(ConcurrentModificationException.class, () -> {
+			left.forEachRemaining(e -> {
+			});
+		});
+	}
+
+	/**
+	 * An indexed list finds elements, including null, and keeps finding them
+	 * through changes at both ends.
+	 */
+	@Test
+	void indexedTest01() {
+		DynamicList<String> l = new DynamicList<String>();
+		l.append("a");
+		l.append(null);
+		l.setIndexed(true);
+		assertTrue(l.isIndexed());
+
+		l.append("a");
+		l.prepend("b");
+		assertEquals(0, l.indexOf("b"));
+		assertEquals(1, l.indexOf("a"));
+		assertEquals(3, l.lastIndexOf("a"));
+		assertEquals(2, l.indexOf(null));
+		assertTrue(l.contains(null));
+
+		l.remove(0);
+		l.set(1, "c");
+		assertFalse(l.contains("b"));
+		assertFalse(l.contains(null));
+		assertEquals(1, l.indexOf("c"));
+		assertEquals(0, l.indexOf(new String("a")));
+
+		l.setIndexed(false);
+		assertFalse(l.isIndexed());
+		assertEquals(2, l.lastIndexOf("a"));
+	}
+
+	/**
+	 * An indexed list answers contains, indexOf and lastIndexOf the same as an
+	 * unindexed one through a random mix of changes.
+	 */
+	@Test
+	void indexedTest02() {
+		Random random = new Random(23);
+		DynamicList<Integer> indexed = new DynamicList<Integer>();
+		DynamicList<Integer> plain = new DynamicList<Integer>();
+		indexed.setIndexed(true);
+
+		for (int step = 0; step < 3000; step++) {
+			Integer val = random.nextInt(20);
+			int op = random.nextInt(8);
+
+			if (op == 0) {
+				indexed.prepend(val);
+				plain.prepend(val);
+			} else if (op == 1 && plain.size() > 0) {
+				int index = random.nextInt(plain.size());
+				indexed.set(index, val);
+				plain.set(index, val);
+			} else if (op == 2 && plain.size() > 0) {
+				int index = random.nextBoolean() ? 0 : plain.size() - 1;
+				assertEquals(plain.remove(index), indexed.remove(index));
+			} else if (op == 3 && plain.size() > 0) {
+				int index = random.nextInt(plain.size());
+				assertEquals(plain.remove(index), indexed.remove(index));
+			} else if (op == 4) {
+				int index = random.nextInt(plain.size() + 1);
+				indexed.insert(index, val);
+				plain.insert(index, val);
+			} else if (op == 5) {
+				Integer[] batch = { val, random.nextInt(20), val };
+				int index = random.nextBoolean() ? plain.size() : random.nextInt(plain.size() + 1);
+				indexed.insertAll(index, batch, 0, batch.length);
+				plain.insertAll(index, batch, 0, batch.length);
+			} else if (op == 6 && plain.size() > 4) {
+				int from = random.nextInt(plain.size() - 4);
+				indexed.slice(from, from + 3).clear();
+				plain.slice(from, from + 3).clear();
+			} else {
+				indexed.append(val);
+				plain.append(val);
+			}
+
+			Integer probe = random.nextInt(21);
+			assertEquals(plain.contains(probe), indexed.contains(probe));
+			if (random.nextInt(4) == 0) { // Let some changes pile up between lookups
+				assertEquals(plain.indexOf(probe), indexed.indexOf(probe));
+				assertEquals(plain.lastIndexOf(probe), indexed.lastIndexOf(probe));
+			}
+		}
+
+		for (int i = 0; i <= 20; i++) {
+			assertEquals(plain.indexOf(i), indexed.indexOf(i));
+			assertEquals(plain.lastIndexOf(i), indexed.lastIndexOf(i));
+		}
+	}
+
+	/**
+	 * Lookups only read the index, so after inserts and removes in the middle
+	 * several threads can look up elements at once and all get the right answers.
+	 */
+	@Test
+	void indexedTest03() {
+		DynamicList<Integer> l = new DynamicList<Integer>();
+		for (int i = 0; i < 5000; i++)
+			l.append(i % 100);
+		l.setIndexed(true);
+		l.insert(2500, 100);
+		l.remove(10);
+		l.insert(4000, 3);
+		DynamicList<Integer> plain = new DynamicList<Integer>();
+		for (int i = 0; i < l.size(); i++)
+			plain.append(l.get(i));
+
+		for (int round = 0; round < 20; round++)
+			assertTrue(IntStream.range(0, 102).parallel().allMatch(i -> l.indexOf(i) == plain.indexOf(i)
+					&& l.lastIndexOf(i) == plain.lastIndexOf(i)));
+	}
+
+	/**
+	 * sort uses the comparator, or the natural order for null, and keeps equal
+	 * elements in order.
+	 */
+	@Test
+	void sortTest01() {
+		DynamicList<String> l = new DynamicList<String>(String.class);
+		for (String s : new String[] { "pear", "fig", "apple", "kiwi", "plum" })
+			l.append(s);
+
+		l.sort(null);
+		String[] natural = { "apple", "fig", "kiwi", "pear", "plum" };
+		assertArrayEquals(natural, l.toArray());
+
+		l.sort(Comparator.comparingInt(String::length));
+		String[] byLength = { "fig", "kiwi", "pear", "plum", "apple" };
+		assertArrayEquals(byLength, l.toArray());
+	}
+
+	/**
+	 * A parallel sort gives the same result, and an indexed list still finds
+	 * elements after sorting.
+	 */
+	@Test
+	void sortTest02() {
+		Random random = new Random(25);
+		DynamicList<Integer> seq = new DynamicList<Integer>();
+		DynamicList<Integer> par = new DynamicList<Integer>();
+		for (int i = 0; i < 10_000; i++) {
+			Integer val = random.nextInt(1000);
+			seq.append(val);
+			par.append(val);
+		}
+		par.setParallelThreshold(0);
+		seq.setIndexed(true);
+		seq.indexOf(0);
+
+		seq.sort(Comparator.reverseOrder());
+		par.sort(Comparator.reverseOrder());
+
+		assertTrue(seq.equals(par));
+		for (int i = 1; i < seq.size(); i++)
+			assertTrue(seq.get(i - 1) >= seq.get(i));
+		assertEquals(seq.size() - 1, seq.lastIndexOf(0));
+		assertEquals(0, seq.indexOf(seq.get(0)));
+	}
+
+}
@@ -0,0 +1,205 @@
+package dynamicList;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+/**
+ * Splits a range of indexes into chunks and works on them in the common
+ * ForkJoinPool. The lists use this for their parallel bulk operations; the
+ * callbacks do the actual work on one chunk at a time.
+ */
+final class ForkJoinRanges {
+
+	/**
+	 * The smallest chunk worth handing to another thread.
+	 */
+	static final int MIN_CHUNK = 1 << 12;
+
+	/**
+	 * Searches the indexes from <i>from</i> (inclusive) to <i>to</i> (exclusive).
+	 */
+	@FunctionalInterface
+	interface Search {
+		/**
+		 * @param from
+		 * @param to
+		 * @return The first index in the range that matches, or -1.
+		 */
+		int search(int from, int to);
+	}
+
+	/**
+	 * Does something to the indexes from <i>from</i> (inclusive) to <i>to</i>
+	 * (exclusive).
+	 */
+	@FunctionalInterface
+	interface Action {
+		void run(int from, int to);
+	}
+
+	/**
+	 * Computes a result for the indexes from <i>from</i> (inclusive) to
+	 * <i>to</i> (exclusive).
+	 *
+	 * @param <R>
+	 */
+	@FunctionalInterface
+	interface Reduction<R> {
+		R compute(int from, int to);
+	}
+
+	private ForkJoinRanges() {
+	}
+
+	/**
+	 * Returns the first index between from and to that the search finds, or -1.
+	 * Like a sequential scan, a match in an earlier chunk always wins over one in
+	 * a later chunk.
+	 *
+	 * @param from
+	 * @param to
+	 * @param search
+	 * @return
+	 */
+	static int firstIndex(int from, int to, Search search) {
+		return ForkJoinPool.commonPool().invoke(new SearchTask(from, to, chunkSize(to - from), search));
+	}
+
+	/**
+	 * Runs the action on chunks of the range from <i>from</i> to <i>to</i> and
+	 * waits for all of them to finish.
+	 *
+	 * @param from
+	 * @param to
+	 * @param action
+	 */
+	static void forEach(int from, int to, Action action) {
+		ForkJoinPool.commonPool().invoke(new ActionTask(from, to, chunkSize(to - from), action));
+	}
+
+	/**
+	 * Computes a result for each chunk of the range from <i>from</i> to <i>to</i>
+	 * and combines them in order, left to right.
+	 *
+	 * @param <R>
+	 * @param from
+	 * @param to
+	 * @param reduction
+	 * @param combine
+	 * @return
+	 */
+	static <R> R reduce(int from, int to, Reduction<R> reduction, BinaryOperator<R> combine) {
+		return ForkJoinPool.commonPool()
+				.invoke(new ReductionTask<R>(from, to, chunkSize(to - from), reduction, combine));
+	}
+
+	/**
+	 * Picks a chunk size that gives each worker a few chunks, so a slow chunk
+	 * doesn't hold the others up.
+	 *
+	 * @param length
+	 * @return
+	 */
+	private static int chunkSize(int length) {
+		return Math.max(MIN_CHUNK, length / (ForkJoinPool.getCommonPoolParallelism() * 4));
+	}
+
+	private static final class SearchTask extends RecursiveTask<Integer> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int from;
+		private final int to;
+		private final int chunk;
+		private final Search search;
+
+		SearchTask(int from, int to, int chunk, Search search) {
+			this.from = from;
+			this.to = to;
+			this.chunk = chunk;
+			this.search = search;
+		}
+
+		@Override
+		protected Integer compute() {
+			if (to - from <= chunk)
+				return search.search(from, to);
+
+			int mid = (from + to) >>> 1;
+			SearchTask right = new SearchTask(mid, to, chunk, search);
+			right.fork();
+
+			int left = new SearchTask(from, mid, chunk, search).compute();
+			if (left != -1) {
+				right.cancel(false);
+				return left;
+			}
+
+			return right.join();
+		}
+	}
+
+	private static final class ActionTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int from;
+		private final int to;
+		private final int chunk;
+		private final Action action;
+
+		ActionTask(int from, int to, int chunk, Action action) {
+			this.from = from;
+			this.to = to;
+			this.chunk = chunk;
+			this.action = action;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= chunk) {
+				action.run(from, to);
+				return;
+			}
+
+			int mid = (from + to) >>> 1;
+			invokeAll(new ActionTask(from, mid, chunk, action), new ActionTask(mid, to, chunk, action));
+		}
+	}
+
+	private static final class ReductionTask<R> extends RecursiveTask<R> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int from;
+		private final int to;
+		private final int chunk;
+		private final Reduction<R> reduction;
+		private final BinaryOperator<R> combine;
+
+		ReductionTask(int from, int to, int chunk, Reduction<R> reduction, BinaryOperator<R> combine) {
+			this.from = from;
+			this.to = to;
+			this.chunk = chunk;
+			this.reduction = reduction;
+			this.combine = combine;
+		}
+
+		@Override
+		protected R compute() {
+			if (to - from <= chunk)
+				return reduction.compute(from, to);
+
+			int mid = (from + to) >>> 1;
+			ReductionTask<R> right = new ReductionTask<R>(mid, to, chunk, reduction, combine);
+			right.fork();
+
+			R left = new ReductionTask<R>(from, mid, chunk, reduction, combine).compute();
+
+			return combine.apply(left, right.join());
+		}
+	}
+
+}
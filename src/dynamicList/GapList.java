@@ -0,0 +1,297 @@
+package dynamicList;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * A list stored in a gap buffer. The unused part of the backing
+ * array is kept as a gap that sits wherever the last insert or removal
+ * happened, so the elements before the gap start at index 0 of the array and
+ * the elements after it end at the last index of the array.
+ * </p>
+ * <p>
+ * The gap is only moved when an edit happens somewhere else, and moving it only
+ * copies the elements between its old and new position. A run of inserts and
+ * removals at nearby indexes is therefore amortized O(1) per edit, the way a
+ * text editor's buffer works. get and set stay O(1).
+ * </p>
+ *
+ * @param <T> The type of objects stored in this list.
+ */
+public class GapList<T> implements List<T> {
+
+	private T[] data;
+	private int gapStart;
+	private int gapEnd;
+	private final GrowthPolicy policy;
+
+	public GapList() {
+		this(GrowthPolicy.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty list with room for the given number of elements before the
+	 * backing array has to grow.
+	 *
+	 * @param initialCapacity
+	 * @throws IllegalArgumentException if initialCapacity is negative.
+	 */
+	public GapList(int initialCapacity) {
+		this(initialCapacity, GrowthPolicy.doubling());
+	}
+
+	/**
+	 * Creates an empty list with room for the given number of elements, growing
+	 * according to the given policy after that.
+	 *
+	 * @param initialCapacity
+	 * @param policy
+	 * @throws IllegalArgumentException if initialCapacity is negative.
+	 */
+	@SuppressWarnings("unchecked")
+	public GapList(int initialCapacity, GrowthPolicy policy) {
+		if (initialCapacity < 0)
+			throw new IllegalArgumentException();
+		if (policy == null)
+			throw new NullPointerException();
+
+		this.data = (T[]) new Object[initialCapacity];
+		this.gapStart = 0;
+		this.gapEnd = initialCapacity;
+		this.policy = policy;
+	}
+
+	@Override
+	public void append(T e) {
+		insert(size(), e);
+	}
+
+	@Override
+	public void appendAll(List<T> list) {
+		int len = list.size(); // Read once in case list is this list
+
+		if (len > gapEnd - gapStart)
+			changeBackingArray(policy.grow(data.length, size() + len));
+
+		for (int i = 0; i < len; i++)
+			append(list.get(i));
+	}
+
+	@Override
+	public void clear() {
+		for (int i = 0; i < size(); i++)
+			data[physical(i)] = null;
+
+		gapStart = 0;
+		gapEnd = data.length;
+		shrinkIfNeeded();
+	}
+
+	@Override
+	public boolean contains(T e) {
+		return indexOf(e) != -1;
+	}
+
+	@Override
+	public boolean equals(List<T> other) {
+		if (other == null)
+			return false;
+
+		if (this.size() != other.size())
+			return false;
+
+		for (int i = 0; i < size(); i++)
+			if (!areEqual(data[physical(i)], other.get(i)))
+				return false;
+
+		return true;
+	}
+
+	@Override
+	public T get(int index) {
+		if (index < 0 || index >= size())
+			throw new IndexOutOfBoundsException();
+
+		return data[physical(index)];
+	}
+
+	@Override
+	public int indexOf(T e) {
+		for (int i = 0; i < gapStart; i++)
+			if (areEqual(data[i], e))
+				return i;
+
+		for (int i = gapEnd; i < data.length; i++)
+			if (areEqual(data[i], e))
+				return i - (gapEnd - gapStart);
+
+		return -1;
+	}
+
+	@Override
+	public void insert(int index, T e) {
+		if (index < 0 || index > size())
+			throw new IndexOutOfBoundsException();
+
+		if (gapStart == gapEnd)
+			changeBackingArray(policy.grow(data.length, size() + 1));
+
+		moveGap(index);
+		data[gapStart] = e;
+		gapStart++;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	@Override
+	public int lastIndexOf(T e) {
+		for (int i = data.length - 1; i >= gapEnd; i--)
+			if (areEqual(data[i], e))
+				return i - (gapEnd - gapStart);
+
+		for (int i = gapStart - 1; i >= 0; i--)
+			if (areEqual(data[i], e))
+				return i;
+
+		return -1;
+	}
+
+	@Override
+	public void prepend(T e) {
+		insert(0, e);
+	}
+
+	@Override
+	public T remove(int index) {
+		if (index < 0 || index >= size())
+			throw new IndexOutOfBoundsException();
+
+		moveGap(index);
+		T oldVal = data[gapEnd];
+		data[gapEnd] = null;
+		gapEnd++;
+
+		shrinkIfNeeded();
+
+		return oldVal;
+	}
+
+	@Override
+	public T set(int index, T e) {
+		if (index < 0 || index >= size())
+			throw new IndexOutOfBoundsException();
+
+		T oldVal = data[physical(index)];
+
+		data[physical(index)] = e;
+
+		return oldVal;
+	}
+
+	@Override
+	public int size() {
+		return data.length - (gapEnd - gapStart);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public T[] toArray() {
+		T[] arr = (T[]) new Object[size()];
+
+		System.arraycopy(data, 0, arr, 0, gapStart);
+		System.arraycopy(data, gapEnd, arr, gapStart, data.length - gapEnd);
+
+		return arr;
+	}
+
+	@Override
+	public void trimToSize() {
+		changeBackingArray(size());
+	}
+
+	/**
+	 * Checks if two elements are equal, treating null values as equal.
+	 *
+	 * @param e1
+	 * @param e2
+	 * @return
+	 */
+	private boolean areEqual(T e1, T e2) {
+		if (e1 == null)
+			return e2 == null;
+		return e1.equals(e2);
+	}
+
+	/**
+	 * Returns the position in the backing array of the element at the given list
+	 * index.
+	 *
+	 * @param index
+	 * @return
+	 */
+	private int physical(int index) {
+		if (index < gapStart)
+			return index;
+
+		return index + (gapEnd - gapStart);
+	}
+
+	/**
+	 * Moves the gap so that it starts at the given list index. Only the elements
+	 * between the gap's old and new position are copied, and the slots they
+	 * leave behind in the gap are cleared so the list doesn't keep removed
+	 * elements alive.
+	 *
+	 * @param index
+	 */
+	private void moveGap(int index) {
+		if (index < gapStart) {
+			int len = gapStart - index;
+			int oldGapStart = gapStart;
+			System.arraycopy(data, index, data, gapEnd - len, len);
+			gapStart -= len;
+			gapEnd -= len;
+			Arrays.fill(data, gapStart, Math.min(oldGapStart, gapEnd), null);
+		} else if (index > gapStart) {
+			int len = index - gapStart;
+			int oldGapEnd = gapEnd;
+			System.arraycopy(data, gapEnd, data, gapStart, len);
+			gapStart += len;
+			gapEnd += len;
+			Arrays.fill(data, Math.max(oldGapEnd, gapStart), gapEnd, null);
+		}
+	}
+
+	/**
+	 * Changes the backing array to a new array with the given size. The elements
+	 * before the gap stay at the start of the array and the elements after the gap
+	 * are copied to the end, so the gap takes up all of the new space.
+	 *
+	 * @param newSize
+	 */
+	@SuppressWarnings("unchecked")
+	private void changeBackingArray(int newSize) {
+		T[] newData = (T[]) new Object[newSize];
+		int tailLen = data.length - gapEnd;
+
+		System.arraycopy(data, 0, newData, 0, gapStart);
+		System.arraycopy(data, gapEnd, newData, newSize - tailLen, tailLen);
+
+		data = newData;
+		gapEnd = newSize - tailLen;
+	}
+
+	/**
+	 * Shrinks the backing array if the growth policy asks for it.
+	 */
+	private void shrinkIfNeeded() {
+		int newCapacity = policy.shrink(data.length, size());
+
+		if (newCapacity != data.length)
+			changeBackingArray(newCapacity);
+	}
+
+}
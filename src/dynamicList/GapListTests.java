@@ -0,0 +1,67 @@
+package dynamicList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Field;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs every GenericListTests test against GapList, plus tests that move the
+ * gap around.
+ */
+class GapListTests extends GenericListTests {
+
+	@Override
+	<E> List<E> newList() {
+		return new GapList<E>();
+	}
+
+	/**
+	 * Edits that jump back and forth across the list keep every element in order.
+	 */
+	@Test
+	void gapTest01() {
+		GapList<String> l = new GapList<String>(4);
+		for (int i = 0; i < 5; i++)
+			l.append("" + i);
+		l.insert(3, null);
+		l.insert(0, "a");
+		l.insert(7, "b");
+		assertEquals("1", l.remove(2));
+
+		String[] expected = { "a", "0", "2", null, "3", "4", "b" };
+		assertArrayEquals(expected, l.toArray());
+		assertEquals(3, l.indexOf(null));
+		assertEquals(3, l.lastIndexOf(null));
+	}
+
+	/**
+	 * Moving the gap leaves no references to removed elements in the backing
+	 * array.
+	 */
+	@Test
+	void gapTest02() throws ReflectiveOperationException {
+		GapList<String> l = new GapList<String>(8);
+		l.append("a");
+		l.append("b");
+		l.append("c");
+		l.insert(0, "x");
+		for (int i = 0; i < 3; i++)
+			l.remove(1);
+		l.append("y");
+		l.insert(0, "z");
+
+		Field field = GapList.class.getDeclaredField("data");
+		field.setAccessible(true);
+		int references = 0;
+		for (Object e : (Object[]) field.get(l))
+			if (e != null)
+				references++;
+
+		assertEquals(l.size(), references);
+		String[] expected = { "z", "x", "y" };
+		assertArrayEquals(expected, l.toArray());
+	}
+
+}
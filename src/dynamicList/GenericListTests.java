@@ -10,12 +10,22 @@ import org.junit.jupiter.api.Test;
 
 class GenericListTests {
 
+	/**
+	 * Creates the empty list that every test in this class runs against.
+	 * Subclasses override this to run the same tests on another implementation.
+	 * 
+	 * @return
+	 */
+	<E> List<E> newList() {
+		return new DynamicList<E>();
+	}
+
 	/**
 	 * Tests appending a single element to an empty list.
 	 */
 	@Test
 	void appendTest01() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(0);
 
 		assertEquals(1, l.size());
@@ -27,7 +37,7 @@ class GenericListTests {
 	 */
 	@Test
 	void appendTest02() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(1);
 		l.append(2);
 
@@ -41,7 +51,7 @@ class GenericListTests {
 	 */
 	@Test
 	void appendTest03() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		for (int i = 0; i < 1000; i++)
 			l.append(i);
 
@@ -55,7 +65,7 @@ class GenericListTests {
 	 */
 	@Test
 	void appendTest04() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(1);
 		l.append(null);
 
@@ -69,8 +79,8 @@ class GenericListTests {
 	 */
 	@Test
 	void appendAllTest01() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
-		DynamicList<Integer> other = new DynamicList<Integer>();
+		List<Integer> l = newList();
+		List<Integer> other = newList();
 		other.append(0);
 		other.append(1);
 		other.append(2);
@@ -84,9 +94,9 @@ class GenericListTests {
 	 */
 	@Test
 	void appendAllTest02() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(0);
-		DynamicList<Integer> other = new DynamicList<Integer>();
+		List<Integer> other = newList();
 		other.append(1);
 		other.append(2);
 		other.append(3);
@@ -102,11 +112,11 @@ class GenericListTests {
 	 */
 	@Test
 	void appendAllTest03() {
-		DynamicList<Integer> l1 = new DynamicList<Integer>();
+		List<Integer> l1 = newList();
 		for (int i = 0; i < 1000; i++)
 			l1.append(i);
 
-		DynamicList<Integer> l2 = new DynamicList<Integer>();
+		List<Integer> l2 = newList();
 		l2.appendAll(l1);
 
 		assertEquals(1000, l2.size());
@@ -119,10 +129,10 @@ class GenericListTests {
 	 */
 	@Test
 	void appendAllTest04() {
-		DynamicList<Integer> l1 = new DynamicList<Integer>();
+		List<Integer> l1 = newList();
 		l1.append(0);
 
-		DynamicList<Integer> l2 = new DynamicList<Integer>();
+		List<Integer> l2 = newList();
 		l1.appendAll(l2);
 
 		Integer[] expected = { 0 };
@@ -134,9 +144,9 @@ class GenericListTests {
 	 */
 	@Test
 	void appendAllTest05() {
-		DynamicList<Integer> l1 = new DynamicList<Integer>();
+		List<Integer> l1 = newList();
 
-		DynamicList<Integer> l2 = new DynamicList<Integer>();
+		List<Integer> l2 = newList();
 		l1.appendAll(l2);
 
 		Integer[] expected = {};
@@ -148,10 +158,10 @@ class GenericListTests {
 	 */
 	@Test
 	void appendAllTest06() {
-		DynamicList<Integer> l1 = new DynamicList<Integer>();
+		List<Integer> l1 = newList();
 		l1.append(0);
 
-		DynamicList<Integer> l2 = new DynamicList<Integer>();
+		List<Integer> l2 = newList();
 		l2.append(null);
 		l1.appendAll(l2);
 
@@ -164,7 +174,7 @@ class GenericListTests {
 	 */
 	@Test
 	void clearTest01() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.clear();
 
 		assertEquals(0, l.size());
@@ -176,7 +186,7 @@ class GenericListTests {
 	 */
 	@Test
 	void clearTest02() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(0);
 		l.append(1);
 		l.clear();
@@ -193,7 +203,7 @@ class GenericListTests {
 	 */
 	@Test
 	void containsTest01() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(22);
 
 		assertTrue(l.contains(22));
@@ -204,7 +214,7 @@ class GenericListTests {
 	 */
 	@Test
 	void containsTest02() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 
 		assertFalse(l.contains(22));
 	}
@@ -215,7 +225,7 @@ class GenericListTests {
 	 */
 	@Test
 	void containsTest03() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(0);
 		l.append(22);
 		l.append(100);
@@ -230,7 +240,7 @@ class GenericListTests {
 	 */
 	@Test
 	void containsTest04() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(0);
 		l.append(22);
 		l.append(100);
@@ -246,7 +256,7 @@ class GenericListTests {
 	 */
 	@Test
 	void containsTest05() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(0);
 		l.append(22);
 		l.append(100);
@@ -262,7 +272,7 @@ class GenericListTests {
 	 */
 	@Test
 	void containsTest06() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(0);
 		l.append(22);
 		l.append(100);
@@ -275,7 +285,7 @@ class GenericListTests {
 	 */
 	@Test
 	void containsTest07() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(0);
 		l.append(22);
 		l.append(100);
@@ -288,7 +298,7 @@ class GenericListTests {
 	 */
 	@Test
 	void containsTest08() {
-		DynamicList<String> l = new DynamicList<String>();
+		List<String> l = newList();
 		l.append("a");
 		l.append("b");
 		l.append("c");
@@ -301,7 +311,7 @@ class GenericListTests {
 	 */
 	@Test
 	void containsTest09() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(null);
 
 		assertTrue(l.contains(null));
@@ -312,7 +322,7 @@ class GenericListTests {
 	 */
 	@Test
 	void containsTest10() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(10);
 
 		assertFalse(l.contains(null));
@@ -323,8 +333,8 @@ class GenericListTests {
 	 */
 	@Test
 	void equalsTest01() {
-		DynamicList<Integer> l1 = new DynamicList<Integer>();
-		DynamicList<Integer> l2 = new DynamicList<Integer>();
+		List<Integer> l1 = newList();
+		List<Integer> l2 = newList();
 
 		assertTrue(l1.equals(l2));
 	}
@@ -334,7 +344,7 @@ class GenericListTests {
 	 */
 	@Test
 	void equalsTest02() {
-		DynamicList<Integer> l1 = new DynamicList<Integer>();
+		List<Integer> l1 = newList();
 
 		assertTrue(l1.equals(l1));
 	}
@@ -344,9 +354,9 @@ class GenericListTests {
 	 */
 	@Test
 	void equalsTest03() {
-		DynamicList<Integer> l1 = new DynamicList<Integer>();
+		List<Integer> l1 = newList();
 		l1.append(0);
-		DynamicList<Integer> l2 = new DynamicList<Integer>();
+		List<Integer> l2 = newList();
 		l2.append(0);
 
 		assertTrue(l1.equals(l2));
@@ -357,7 +367,7 @@ class GenericListTests {
 	 */
 	@Test
 	void equalsTest04() {
-		DynamicList<Integer> l1 = new DynamicList<Integer>();
+		List<Integer> l1 = newList();
 		l1.append(0);
 
 		assertTrue(l1.equals(l1));
@@ -368,9 +378,9 @@ class GenericListTests {
 	 */
 	@Test
 	void equalsTest05() {
-		DynamicList<Integer> l1 = new DynamicList<Integer>();
+		List<Integer> l1 = newList();
 		l1.append(0);
-		DynamicList<Integer> l2 = new DynamicList<Integer>();
+		List<Integer> l2 = newList();
 		l2.append(1);
 
 		assertFalse(l1.equals(l2));
@@ -382,11 +392,11 @@ class GenericListTests {
 	 */
 	@Test
 	void equalsTest06() {
-		DynamicList<Integer> l1 = new DynamicList<Integer>();
+		List<Integer> l1 = newList();
 		l1.append(0);
 		l1.append(1);
 		l1.append(2);
-		DynamicList<Integer> l2 = new DynamicList<Integer>();
+		List<Integer> l2 = newList();
 		l2.append(0);
 		l2.append(1);
 		l2.append(2);
@@ -401,12 +411,12 @@ class GenericListTests {
 	 */
 	@Test
 	void equalsTest07() {
-		DynamicList<Integer> l1 = new DynamicList<Integer>();
+		List<Integer> l1 = newList();
 		l1.append(0);
 		l1.append(1);
 		l1.append(2);
 		l1.append(3);
-		DynamicList<Integer> l2 = new DynamicList<Integer>();
+		List<Integer> l2 = newList();
 		l2.append(0);
 		l2.append(1);
 		l2.append(2);
@@ -420,8 +430,8 @@ class GenericListTests {
 	 */
 	@Test
 	void equalsTest08() {
-		DynamicList<Integer> l1 = new DynamicList<Integer>();
-		DynamicList<Integer> l2 = new DynamicList<Integer>();
+		List<Integer> l1 = newList();
+		List<Integer> l2 = newList();
 		l2.append(0);
 
 		assertFalse(l1.equals(l2));
@@ -433,9 +443,9 @@ class GenericListTests {
 	 */
 	@Test
 	void equalsTest09() {
-		DynamicList<Integer> l1 = new DynamicList<Integer>();
+		List<Integer> l1 = newList();
 		l1.append(0);
-		DynamicList<Integer> l2 = new DynamicList<Integer>();
+		List<Integer> l2 = newList();
 
 		assertFalse(l1.equals(l2));
 	}
@@ -445,7 +455,7 @@ class GenericListTests {
 	 */
 	@Test
 	void equalsTest10() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 
 		assertFalse(l.equals(null));
 	}
@@ -455,7 +465,7 @@ class GenericListTests {
 	 */
 	@Test
 	void equalsTest11() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(0);
 
 		assertFalse(l.equals(null));
@@ -466,9 +476,9 @@ class GenericListTests {
 	 */
 	@Test
 	void equalsTest12() {
-		DynamicList<String> l1 = new DynamicList<String>();
+		List<String> l1 = newList();
 		l1.append("a");
-		DynamicList<String> l2 = new DynamicList<String>();
+		List<String> l2 = newList();
 		l2.append(new String("a"));
 
 		assertTrue(l1.equals(l2));
@@ -479,10 +489,10 @@ class GenericListTests {
 	 */
 	@Test
 	void equalsTest13() {
-		DynamicList<String> l1 = new DynamicList<String>();
+		List<String> l1 = newList();
 		l1.append(null);
 		l1.append("b");
-		DynamicList<String> l2 = new DynamicList<String>();
+		List<String> l2 = newList();
 		l2.append("a");
 		l2.append("b");
 
@@ -494,10 +504,10 @@ class GenericListTests {
 	 */
 	@Test
 	void equalsTest14() {
-		DynamicList<String> l1 = new DynamicList<String>();
+		List<String> l1 = newList();
 		l1.append("a");
 		l1.append("b");
-		DynamicList<String> l2 = new DynamicList<String>();
+		List<String> l2 = newList();
 		l2.append("a");
 		l2.append(null);
 
@@ -509,10 +519,10 @@ class GenericListTests {
 	 */
 	@Test
 	void equalsTest15() {
-		DynamicList<String> l1 = new DynamicList<String>();
+		List<String> l1 = newList();
 		l1.append("a");
 		l1.append(null);
-		DynamicList<String> l2 = new DynamicList<String>();
+		List<String> l2 = newList();
 		l2.append("a");
 		l2.append(null);
 
@@ -524,7 +534,7 @@ class GenericListTests {
 	 */
 	@Test
 	void getTest01() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(10);
 		l.append(11);
 		l.append(12);
@@ -539,7 +549,7 @@ class GenericListTests {
 	 */
 	@Test
 	void getTest02() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 
 		assertThrows(IndexOutOfBoundsException.class, () -> {
 			l.get(-1);
@@ -554,7 +564,7 @@ class GenericListTests {
 	 */
 	@Test
 	void getTest03() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 
 		assertThrows(IndexOutOfBoundsException.class, () -> {
 			l.get(0);
@@ -566,7 +576,7 @@ class GenericListTests {
 	 */
 	@Test
 	void getTest04() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(10);
 		l.append(11);
 		l.append(12);
@@ -583,7 +593,7 @@ class GenericListTests {
 	 */
 	@Test
 	void getTest05() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(10);
 		l.append(11);
 		l.append(12);
@@ -602,7 +612,7 @@ class GenericListTests {
 	 */
 	@Test
 	void getTest06() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(null);
 
 		assertEquals(null, l.get(0));
@@ -613,7 +623,7 @@ class GenericListTests {
 	 */
 	@Test
 	void indexOfTest01() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 
 		assertEquals(-1, l.indexOf(0));
 		assertEquals(-1, l.indexOf(1));
@@ -625,7 +635,7 @@ class GenericListTests {
 	 */
 	@Test
 	void indexOfTest02() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(0);
 
 		assertEquals(-1, l.indexOf(1));
@@ -636,7 +646,7 @@ class GenericListTests {
 	 */
 	@Test
 	void indexOfTest03() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(4);
 		l.append(5);
 		l.append(6);
@@ -649,7 +659,7 @@ class GenericListTests {
 	 */
 	@Test
 	void indexOfTest04() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(4);
 
 		assertEquals(0, l.indexOf(4));
@@ -660,7 +670,7 @@ class GenericListTests {
 	 */
 	@Test
 	void indexOfTest05() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(1);
 		l.append(4);
 		l.append(0);
@@ -673,7 +683,7 @@ class GenericListTests {
 	 */
 	@Test
 	void indexOfTest06() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(1);
 		l.append(4);
 		l.append(0);
@@ -689,7 +699,7 @@ class GenericListTests {
 	 */
 	@Test
 	void indexOfTest07() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(4);
 		l.append(4);
 		l.append(0);
@@ -705,7 +715,7 @@ class GenericListTests {
 	 */
 	@Test
 	void indexOfTest08() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(4);
 		l.append(4);
 		l.append(0);
@@ -721,7 +731,7 @@ class GenericListTests {
 	 */
 	@Test
 	void indexOfTest09() {
-		DynamicList<String> l = new DynamicList<String>();
+		List<String> l = newList();
 		l.append("a");
 		l.append("b");
 		l.append("c");
@@ -734,7 +744,7 @@ class GenericListTests {
 	 */
 	@Test
 	void indexOfTest10() {
-		DynamicList<String> l = new DynamicList<String>();
+		List<String> l = newList();
 		l.append(null);
 		l.append("b");
 		l.append("c");
@@ -747,7 +757,7 @@ class GenericListTests {
 	 */
 	@Test
 	void indexOfTest11() {
-		DynamicList<String> l = new DynamicList<String>();
+		List<String> l = newList();
 		l.append("a");
 		l.append("b");
 		l.append("c");
@@ -760,7 +770,7 @@ class GenericListTests {
 	 */
 	@Test
 	void indexOfTest12() {
-		DynamicList<String> l = new DynamicList<String>();
+		List<String> l = newList();
 		l.append("a");
 		l.append(null);
 		l.append("c");
@@ -773,7 +783,7 @@ class GenericListTests {
 	 */
 	@Test
 	void insertTest01() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.insert(0, 1);
 
 		assertEquals(1, l.size());
@@ -785,7 +795,7 @@ class GenericListTests {
 	 */
 	@Test
 	void insertTest02() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		for (int i = 0; i < 5; i++)
 			l.insert(i, i + 1);
 
@@ -799,7 +809,7 @@ class GenericListTests {
 	 */
 	@Test
 	void insertTest03() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		for (int i = 0; i < 5; i++)
 			l.insert(i, i + 1);
 		l.insert(0, 0);
@@ -814,7 +824,7 @@ class GenericListTests {
 	 */
 	@Test
 	void insertTest04() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(0);
 		l.append(1);
 		l.append(2);
@@ -831,7 +841,7 @@ class GenericListTests {
 	 */
 	@Test
 	void insertTest05() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 
 		assertThrows(IndexOutOfBoundsException.class, () -> {
 			l.insert(-1, 0);
@@ -846,7 +856,7 @@ class GenericListTests {
 	 */
 	@Test
 	void insertTest06() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(0);
 
 		assertThrows(IndexOutOfBoundsException.class, () -> {
@@ -862,7 +872,7 @@ class GenericListTests {
 	 */
 	@Test
 	void insertTest07() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 
 		assertThrows(IndexOutOfBoundsException.class, () -> {
 			l.insert(1, 0);
@@ -877,7 +887,7 @@ class GenericListTests {
 	 */
 	@Test
 	void insertTest08() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(0);
 
 		assertThrows(IndexOutOfBoundsException.class, () -> {
@@ -893,7 +903,7 @@ class GenericListTests {
 	 */
 	@Test
 	void insertTest09() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		Integer[] expected = new Integer[1000];
 		for (int i = 0; i < 1000; i++) {
 			l.insert(i, i);
@@ -908,7 +918,7 @@ class GenericListTests {
 	 */
 	@Test
 	void insertTest10() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		Integer[] expected = new Integer[1000];
 		for (int i = 0; i < 1000; i++) {
 			l.insert(0, i);
@@ -924,7 +934,7 @@ class GenericListTests {
 	 */
 	@Test
 	void insertTest11() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		Integer[] expected = new Integer[1000];
 		l.append(999);
 		expected[0] = 999;
@@ -941,7 +951,7 @@ class GenericListTests {
 	 */
 	@Test
 	void insertTest12() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.insert(0, null);
 		l.insert(1, null);
 		
@@ -955,7 +965,7 @@ class GenericListTests {
 	 */
 	@Test
 	void insertTest13() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.insert(0, null);
 		l.insert(0, null);
 		
@@ -969,7 +979,7 @@ class GenericListTests {
 	 */
 	@Test
 	void insertTest14() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.insert(0, 0);
 		l.insert(1, 2);
 		l.insert(1, null);
@@ -984,7 +994,7 @@ class GenericListTests {
 	 */
 	@Test
 	void isEmptyTest01() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 
 		assertTrue(l.isEmpty());
 	}
@@ -994,7 +1004,7 @@ class GenericListTests {
 	 */
 	@Test
 	void isEmptyTest02() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(0);
 
 		assertFalse(l.isEmpty());
@@ -1005,7 +1015,7 @@ class GenericListTests {
 	 */
 	@Test
 	void isEmptyTest03() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		for (int i = 0; i < 5; i++)
 			l.append(i);
 
@@ -1017,7 +1027,7 @@ class GenericListTests {
 	 */
 	@Test
 	void lastIndexOfTest01() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 
 		assertEquals(-1, l.lastIndexOf(0));
 		assertEquals(-1, l.lastIndexOf(1));
@@ -1029,7 +1039,7 @@ class GenericListTests {
 	 */
 	@Test
 	void lastIndexOfTest02() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(0);
 
 		assertEquals(-1, l.lastIndexOf(1));
@@ -1040,7 +1050,7 @@ class GenericListTests {
 	 */
 	@Test
 	void lastIndexOfTest03() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(4);
 		l.append(5);
 		l.append(6);
@@ -1053,7 +1063,7 @@ class GenericListTests {
 	 */
 	@Test
 	void lastIndexOfTest04() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(4);
 
 		assertEquals(0, l.lastIndexOf(4));
@@ -1064,7 +1074,7 @@ class GenericListTests {
 	 */
 	@Test
 	void lastIndexOfTest05() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(1);
 		l.append(4);
 		l.append(0);
@@ -1077,7 +1087,7 @@ class GenericListTests {
 	 */
 	@Test
 	void lastIndexOfTest06() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(1);
 		l.append(4);
 		l.append(0);
@@ -1093,7 +1103,7 @@ class GenericListTests {
 	 */
 	@Test
 	void lastIndexOfTest07() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(1);
 		l.append(4);
 		l.append(0);
@@ -1109,7 +1119,7 @@ class GenericListTests {
 	 */
 	@Test
 	void lastIndexOfTest08() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(4);
 		l.append(4);
 		l.append(0);
@@ -1125,7 +1135,7 @@ class GenericListTests {
 	 */
 	@Test
 	void lastIndexOfTest09() {
-		DynamicList<String> l = new DynamicList<String>();
+		List<String> l = newList();
 		l.append("a");
 		l.append("b");
 		l.append("c");
@@ -1138,7 +1148,7 @@ class GenericListTests {
 	 */
 	@Test
 	void lastIndexOfTest10() {
-		DynamicList<String> l = new DynamicList<String>();
+		List<String> l = newList();
 		l.append(null);
 		l.append("b");
 		l.append("c");
@@ -1151,7 +1161,7 @@ class GenericListTests {
 	 */
 	@Test
 	void lastIndexOfTest11() {
-		DynamicList<String> l = new DynamicList<String>();
+		List<String> l = newList();
 		l.append("a");
 		l.append("b");
 		l.append("c");
@@ -1164,7 +1174,7 @@ class GenericListTests {
 	 */
 	@Test
 	void lastIndexOfTest12() {
-		DynamicList<String> l = new DynamicList<String>();
+		List<String> l = newList();
 		l.append("a");
 		l.append(null);
 		l.append("c");
@@ -1177,7 +1187,7 @@ class GenericListTests {
 	 */
 	@Test
 	void prependTest01() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.prepend(1);
 
 		assertEquals(1, l.size());
@@ -1189,7 +1199,7 @@ class GenericListTests {
 	 */
 	@Test
 	void prependTest02() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.prepend(1);
 		l.prepend(2);
 
@@ -1203,7 +1213,7 @@ class GenericListTests {
 	 */
 	@Test
 	void prependTest03() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.prepend(1);
 		l.prepend(2);
 		l.prepend(3);
@@ -1219,7 +1229,7 @@ class GenericListTests {
 	 */
 	@Test
 	void prependTest04() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		Integer[] expected = new Integer[1000];
 		for (int i = 0; i < 1000; i++) {
 			l.prepend(i);
@@ -1234,7 +1244,7 @@ class GenericListTests {
 	 */
 	@Test
 	void prependTest05() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.prepend(null);
 		l.prepend(2);
 		l.prepend(null);
@@ -1249,7 +1259,7 @@ class GenericListTests {
 	 */
 	@Test
 	void removeTest01() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(1);
 		l.remove(0);
 
@@ -1261,7 +1271,7 @@ class GenericListTests {
 	 */
 	@Test
 	void removeTest02() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(1);
 		l.append(2);
 		l.remove(0);
@@ -1275,7 +1285,7 @@ class GenericListTests {
 	 */
 	@Test
 	void removeTest03() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(0);
 		l.append(1);
 		l.remove(1);
@@ -1289,7 +1299,7 @@ class GenericListTests {
 	 */
 	@Test
 	void removeTest04() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 
 		assertThrows(IndexOutOfBoundsException.class, () -> {
 			l.remove(0);
@@ -1302,7 +1312,7 @@ class GenericListTests {
 	 */
 	@Test
 	void removeTest05() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(0);
 
 		assertThrows(IndexOutOfBoundsException.class, () -> {
@@ -1318,7 +1328,7 @@ class GenericListTests {
 	 */
 	@Test
 	void removeTest06() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(0);
 		l.append(1);
 		l.append(2);
@@ -1334,7 +1344,7 @@ class GenericListTests {
 	 */
 	@Test
 	void removeTest07() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(0);
 		l.append(1);
 		l.append(null);
@@ -1350,7 +1360,7 @@ class GenericListTests {
 	 */
 	@Test
 	void setTest01() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 
 		assertThrows(IndexOutOfBoundsException.class, () -> {
 			l.set(0, 0);
@@ -1368,7 +1378,7 @@ class GenericListTests {
 	 */
 	@Test
 	void setTest02() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(0);
 		l.set(0, 1);
 
@@ -1381,7 +1391,7 @@ class GenericListTests {
 	 */
 	@Test
 	void setTest03() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(0);
 		l.append(1);
 		l.append(2);
@@ -1404,7 +1414,7 @@ class GenericListTests {
 	 */
 	@Test
 	void setTest04() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(0);
 		l.set(0, null);
 
@@ -1417,7 +1427,7 @@ class GenericListTests {
 	 */
 	@Test
 	void sizeTest01() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 
 		assertEquals(0, l.size());
 	}
@@ -1427,7 +1437,7 @@ class GenericListTests {
 	 */
 	@Test
 	void sizeTest02() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(0);
 
 		assertEquals(1, l.size());
@@ -1438,7 +1448,7 @@ class GenericListTests {
 	 */
 	@Test
 	void toArrayTest01() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 
 		Integer[] expected = {};
 		assertArrayEquals(expected, l.toArray());
@@ -1449,7 +1459,7 @@ class GenericListTests {
 	 */
 	@Test
 	void toArrayTest02() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(1);
 
 		Integer[] expected = { 1 };
@@ -1461,7 +1471,7 @@ class GenericListTests {
 	 */
 	@Test
 	void toArrayTest03() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(1);
 		l.append(3);
 		l.append(5);
@@ -1477,7 +1487,7 @@ class GenericListTests {
 	 */
 	@Test
 	void toArrayTest04() {
-		DynamicList<String> l = new DynamicList<String>();
+		List<String> l = newList();
 		l.append("a");
 		l.append("b");
 		l.append("c");
@@ -1491,7 +1501,7 @@ class GenericListTests {
 	 */
 	@Test
 	void toArrayTest05() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(1);
 		l.append(3);
 		l.append(null);
@@ -1507,7 +1517,7 @@ class GenericListTests {
 	 */
 	@Test
 	void trimToSizeTest01() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.trimToSize();
 
 		assertEquals(0, l.size());
@@ -1518,7 +1528,7 @@ class GenericListTests {
 	 */
 	@Test
 	void trimToSizeTest02() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.trimToSize();
 		l.append(0);
 
@@ -1531,7 +1541,7 @@ class GenericListTests {
 	 */
 	@Test
 	void trimToSizeTest03() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		l.append(0);
 		l.trimToSize();
 
@@ -1544,7 +1554,7 @@ class GenericListTests {
 	 */
 	@Test
 	void trimToSizeTest04() {
-		DynamicList<Integer> l = new DynamicList<Integer>();
+		List<Integer> l = newList();
 		for (int i = 0; i < 5; i++)
 			l.append(i);
 		l.trimToSize();
@@ -1553,4 +1563,19 @@ class GenericListTests {
 		assertArrayEquals(expected, l.toArray());
 	}
 
+	/**
+	 * Appending a list to itself doubles it.
+	 */
+	@Test
+	void appendAllTest07() {
+		List<Integer> l = newList();
+		l.append(0);
+		l.append(1);
+		l.append(2);
+		l.appendAll(l);
+
+		Integer[] expected = { 0, 1, 2, 0, 1, 2 };
+		assertArrayEquals(expected, l.toArray());
+	}
+
 }
@@ -0,0 +1,129 @@
+package dynamicList;
+
+/**
+ * <p>
+ * Decides how big a list's backing array should be when it runs out of room,
+ * and optionally when it should give memory back after elements are removed.
+ * </p>
+ * <p>
+ * Policies only deal with capacities. The list is responsible for actually
+ * copying its data into an array of the returned size.
+ * </p>
+ */
+public interface GrowthPolicy {
+
+	/**
+	 * The capacity used when growing an empty backing array.
+	 */
+	public static final int DEFAULT_CAPACITY = 10;
+
+	/**
+	 * Returns the capacity the backing array should grow to. The result must be at
+	 * least minCapacity.
+	 *
+	 * @param capacity    The current length of the backing array.
+	 * @param minCapacity The smallest capacity that can hold the list.
+	 * @return
+	 */
+	public int grow(int capacity, int minCapacity);
+
+	/**
+	 * Returns the capacity the backing array should shrink to after a removal, or
+	 * <i>capacity</i> if it should stay the same. The result must be at least
+	 * size. By default lists never shrink on their own.
+	 *
+	 * @param capacity The current length of the backing array.
+	 * @param size     The number of elements in the list.
+	 * @return
+	 */
+	public default int shrink(int capacity, int size) {
+		return capacity;
+	}
+
+	/**
+	 * Returns a policy that grows like this one, but also shrinks the backing array
+	 * to twice the list's size once the list drops to a quarter of its capacity.
+	 * The gap between the two thresholds keeps a list that hovers around one size
+	 * from repeatedly growing and shrinking.
+	 *
+	 * @return
+	 */
+	public default GrowthPolicy withShrink() {
+		GrowthPolicy growth = this;
+
+		return new GrowthPolicy() {
+			@Override
+			public int grow(int capacity, int minCapacity) {
+				return growth.grow(capacity, minCapacity);
+			}
+
+			@Override
+			public int shrink(int capacity, int size) {
+				if (capacity <= DEFAULT_CAPACITY || size > capacity / 4)
+					return capacity;
+
+				return Math.max(size * 2, DEFAULT_CAPACITY);
+			}
+		};
+	}
+
+	/**
+	 * Doubles the capacity. This is the policy lists use by default.
+	 *
+	 * @return
+	 */
+	public static GrowthPolicy doubling() {
+		return (capacity, minCapacity) -> atLeast(capacity * 2, minCapacity);
+	}
+
+	/**
+	 * Grows the capacity by half. Less memory is wasted than with doubling at the
+	 * cost of more frequent copying.
+	 *
+	 * @return
+	 */
+	public static GrowthPolicy oneAndAHalf() {
+		return (capacity, minCapacity) -> atLeast(capacity + (capacity >> 1), minCapacity);
+	}
+
+	/**
+	 * Grows the capacity by the same amount every time.
+	 *
+	 * @param chunkSize
+	 * @return
+	 * @throws IllegalArgumentException if chunkSize is not positive.
+	 */
+	public static GrowthPolicy fixedChunk(int chunkSize) {
+		if (chunkSize <= 0)
+			throw new IllegalArgumentException();
+
+		return (capacity, minCapacity) -> atLeast(capacity + chunkSize, minCapacity);
+	}
+
+	/**
+	 * Doubles the capacity, but never grows by more than maxIncrement at a time.
+	 *
+	 * @param maxIncrement
+	 * @return
+	 * @throws IllegalArgumentException if maxIncrement is not positive.
+	 */
+	public static GrowthPolicy cappedDoubling(int maxIncrement) {
+		if (maxIncrement <= 0)
+			throw new IllegalArgumentException();
+
+		return (capacity, minCapacity) -> atLeast(capacity + Math.min(capacity, maxIncrement), minCapacity);
+	}
+
+	/**
+	 * Returns newCapacity, raised to minCapacity and DEFAULT_CAPACITY if needed.
+	 * Also covers newCapacity overflowing to a negative number.
+	 *
+	 * @param newCapacity
+	 * @param minCapacity
+	 * @return
+	 */
+	private static int atLeast(int newCapacity, int minCapacity) {
+		return Math.max(Math.max(newCapacity, minCapacity), DEFAULT_CAPACITY);
+	}
+
+}
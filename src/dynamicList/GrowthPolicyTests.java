@@ -0,0 +1,143 @@
+package dynamicList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class GrowthPolicyTests {
+
+	/**
+	 * Doubling grows an empty array to the default capacity, then doubles.
+	 */
+	@Test
+	void doublingTest01() {
+		GrowthPolicy p = GrowthPolicy.doubling();
+
+		assertEquals(GrowthPolicy.DEFAULT_CAPACITY, p.grow(0, 1));
+		assertEquals(20, p.grow(10, 11));
+		assertEquals(2000, p.grow(1000, 1001));
+	}
+
+	/**
+	 * Doubling past Integer.MAX_VALUE falls back to the minimum capacity instead of
+	 * going negative.
+	 */
+	@Test
+	void doublingTest02() {
+		GrowthPolicy p = GrowthPolicy.doubling();
+
+		assertEquals(Integer.MAX_VALUE / 2 + 2, p.grow(Integer.MAX_VALUE / 2 + 1, Integer.MAX_VALUE / 2 + 2));
+	}
+
+	/**
+	 * Grows by half of the current capacity.
+	 */
+	@Test
+	void oneAndAHalfTest01() {
+		GrowthPolicy p = GrowthPolicy.oneAndAHalf();
+
+		assertEquals(GrowthPolicy.DEFAULT_CAPACITY, p.grow(0, 1));
+		assertEquals(15, p.grow(10, 11));
+		assertEquals(1500, p.grow(1000, 1001));
+	}
+
+	/**
+	 * Grows by the same amount each time.
+	 */
+	@Test
+	void fixedChunkTest01() {
+		GrowthPolicy p = GrowthPolicy.fixedChunk(100);
+
+		assertEquals(100, p.grow(0, 1));
+		assertEquals(110, p.grow(10, 11));
+		assertEquals(1100, p.grow(1000, 1001));
+	}
+
+	/**
+	 * A non-positive chunk size is rejected.
+	 */
+	@Test
+	void fixedChunkTest02() {
+		assertThrows(IllegalArgumentException.class, () -> {
+			GrowthPolicy.fixedChunk(0);
+		});
+	}
+
+	/**
+	 * Doubles until the increment would exceed the cap.
+	 */
+	@Test
+	void cappedDoublingTest01() {
+		GrowthPolicy p = GrowthPolicy.cappedDoubling(500);
+
+		assertEquals(GrowthPolicy.DEFAULT_CAPACITY, p.grow(0, 1));
+		assertEquals(20, p.grow(10, 11));
+		assertEquals(1500, p.grow(1000, 1001));
+	}
+
+	/**
+	 * Plain policies never shrink.
+	 */
+	@Test
+	void shrinkTest01() {
+		GrowthPolicy p = GrowthPolicy.doubling();
+
+		assertEquals(1000, p.shrink(1000, 0));
+	}
+
+	/**
+	 * Shrinking only happens once the list is at a quarter of its capacity, and then
+	 * leaves room for the list to double.
+	 */
+	@Test
+	void shrinkTest02() {
+		GrowthPolicy p = GrowthPolicy.doubling().withShrink();
+
+		assertEquals(1000, p.shrink(1000, 251));
+		assertEquals(500, p.shrink(1000, 250));
+		assertEquals(GrowthPolicy.DEFAULT_CAPACITY, p.shrink(1000, 0));
+		assertEquals(20, p.grow(10, 11));
+	}
+
+	/**
+	 * An int list that fills up and drains keeps its contents through each resize.
+	 */
+	@Test
+	void intListTest01() {
+		IntDynamicList l = new IntDynamicList(GrowthPolicy.fixedChunk(7).withShrink());
+		for (int i = 0; i < 1000; i++)
+			l.append(i);
+		for (int i = 0; i < 990; i++)
+			assertEquals(i, l.remove(0));
+
+		assertEquals(10, l.size());
+		for (int i = 0; i < 10; i++)
+			assertEquals(990 + i, l.get(i));
+	}
+
+	/**
+	 * A generic list that fills up and is cleared can be reused.
+	 */
+	@Test
+	void genericListTest01() {
+		DynamicList<Integer> l = new DynamicList<Integer>(GrowthPolicy.oneAndAHalf().withShrink());
+		for (int i = 0; i < 1000; i++)
+			l.append(i);
+		l.clear();
+		l.append(5);
+
+		assertEquals(1, l.size());
+		assertEquals(5, l.get(0));
+	}
+
+	/**
+	 * A null policy is rejected.
+	 */
+	@Test
+	void nullPolicyTest01() {
+		assertThrows(NullPointerException.class, () -> {
+			new IntDynamicList((GrowthPolicy) null);
+		});
+	}
+
+}
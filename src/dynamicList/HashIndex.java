@@ -0,0 +1,302 @@
+package dynamicList;
+
+import java.util.HashMap;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A hash index over the elements of a DynamicList, kept up to date as the
+ * list changes so that contains, indexOf and lastIndexOf don't have to scan
+ * it. Every distinct element maps to how often it occurs and to the indexes of
+ * its first and last occurrence. Elements are matched with equals and
+ * hashCode, and null is allowed.
+ * </p>
+ * <p>
+ * The counts and positions are always exact, and only the writers change
+ * them, so lookups never modify the index. Appends, prepends and removals at
+ * either end update it in O(1). Inserting or removing in the middle moves the
+ * positions of every element on one side of the change, so the index updates
+ * the elements on the shorter side, O(min(index, size - index)) map lookups,
+ * the same order as the copy that makes room in the list. Removing or
+ * replacing the first or last occurrence of a repeated element also scans the
+ * list to its next occurrence.
+ * </p>
+ *
+ * @param <T>
+ */
+final class HashIndex<T> {
+
+	private HashMap<T, Entry> entries;
+
+	/**
+	 * The positions are stored as list index + base, so a change that moves
+	 * every element the same distance only has to change base.
+	 */
+	private int base;
+
+	/**
+	 * Creates an index of the first size elements of data.
+	 *
+	 * @param data
+	 * @param size
+	 */
+	HashIndex(T[] data, int size) {
+		rebuild(data, size);
+	}
+
+	/**
+	 * Updates the index after an element was inserted at the given index.
+	 *
+	 * @param index
+	 * @param data
+	 * @param size  The size of the list after the insert.
+	 */
+	void added(int index, T[] data, int size) {
+		addedRange(index, index + 1, data, size);
+	}
+
+	/**
+	 * Updates the index after the elements from index from (inclusive) to index
+	 * to (exclusive) were inserted.
+	 *
+	 * @param from
+	 * @param to
+	 * @param data
+	 * @param size The size of the list after the insert.
+	 */
+	void addedRange(int from, int to, T[] data, int size) {
+		int len = to - from;
+
+		if (from < size - to) { // Fewer elements before the new ones than after them
+			base -= len;
+			for (int i = 0; i < from; i++)
+				move(data[i], i + len, i);
+		} else {
+			for (int i = size - 1; i >= to; i--)
+				move(data[i], i - len, i);
+		}
+
+		for (int i = from; i < to; i++)
+			place(increment(data[i]), i);
+	}
+
+	/**
+	 * Removes every element from the index.
+	 */
+	void clear() {
+		entries = new HashMap<T, Entry>();
+		base = 0;
+	}
+
+	/**
+	 * Returns how often e occurs in the list.
+	 *
+	 * @param e
+	 * @return
+	 */
+	int count(T e) {
+		Entry entry = entries.get(e);
+
+		return entry == null ? 0 : entry.count;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of e, or -1 if it isn't there.
+	 *
+	 * @param e
+	 * @return
+	 */
+	int first(T e) {
+		Entry entry = entries.get(e);
+
+		return entry == null ? -1 : entry.first - base;
+	}
+
+	/**
+	 * Returns the index of the last occurrence of e, or -1 if it isn't there.
+	 *
+	 * @param e
+	 * @return
+	 */
+	int last(T e) {
+		Entry entry = entries.get(e);
+
+		return entry == null ? -1 : entry.last - base;
+	}
+
+	/**
+	 * Replaces the whole index with an index of the first size elements of data.
+	 *
+	 * @param data
+	 * @param size
+	 */
+	void rebuild(T[] data, int size) {
+		clear();
+
+		for (int i = 0; i < size; i++)
+			place(increment(data[i]), i);
+	}
+
+	/**
+	 * Updates the index after the element e at the given index was removed.
+	 *
+	 * @param index
+	 * @param e
+	 * @param data
+	 * @param size  The size of the list after the removal.
+	 */
+	void removed(int index, T e, T[] data, int size) {
+		Entry entry = entries.get(e);
+
+		if (--entry.count == 0) {
+			entries.remove(e);
+		} else {
+			// The next occurrence is recorded where it was before the removal, so
+			// that moving the elements after index below moves it too
+			if (entry.first - base == index)
+				entry.first = next(e, index, data) + 1 + base;
+			if (entry.last - base == index)
+				entry.last = previous(e, index - 1, data) + base;
+		}
+
+		if (index < size - index) { // Fewer elements before index than after it
+			base++;
+			for (int i = index - 1; i >= 0; i--)
+				move(data[i], i - 1, i);
+		} else {
+			for (int i = index; i < size; i++)
+				move(data[i], i + 1, i);
+		}
+	}
+
+	/**
+	 * Recomputes every stored position after the list's elements were moved
+	 * around without any being added or removed.
+	 *
+	 * @param data
+	 * @param size
+	 */
+	void reordered(T[] data, int size) {
+		base = 0;
+
+		for (int i = size - 1; i >= 0; i--)
+			entries.get(data[i]).first = i;
+		for (int i = 0; i < size; i++)
+			entries.get(data[i]).last = i;
+	}
+
+	/**
+	 * Updates the index after the element at the given index was changed from
+	 * oldVal to the element now in data.
+	 *
+	 * @param index
+	 * @param oldVal
+	 * @param data
+	 */
+	void replaced(int index, T oldVal, T[] data) {
+		Entry entry = entries.get(oldVal);
+
+		if (--entry.count == 0) {
+			entries.remove(oldVal);
+		} else {
+			if (entry.first - base == index)
+				entry.first = next(oldVal, index + 1, data) + base;
+			if (entry.last - base == index)
+				entry.last = previous(oldVal, index - 1, data) + base;
+		}
+
+		place(increment(data[index]), index);
+	}
+
+	/**
+	 * Raises the count of e, adding it if it isn't in the index yet.
+	 *
+	 * @param e
+	 * @return The entry for e.
+	 */
+	private Entry increment(T e) {
+		Entry entry = entries.computeIfAbsent(e, k -> new Entry());
+		entry.count++;
+
+		return entry;
+	}
+
+	/**
+	 * Updates the stored positions of e after its occurrence at index from moved
+	 * to index to.
+	 *
+	 * @param e
+	 * @param from
+	 * @param to
+	 */
+	private void move(T e, int from, int to) {
+		Entry entry = entries.get(e);
+
+		if (entry.first - base == from)
+			entry.first = to + base;
+		if (entry.last - base == from)
+			entry.last = to + base;
+	}
+
+	/**
+	 * Returns the first index from the given one that holds e. e must occur
+	 * there.
+	 *
+	 * @param e
+	 * @param from
+	 * @param data
+	 * @return
+	 */
+	private static int next(Object e, int from, Object[] data) {
+		int i = from;
+		while (!Objects.equals(data[i], e))
+			i++;
+
+		return i;
+	}
+
+	/**
+	 * Records an occurrence of the element with the given entry at the given
+	 * index, after its count was raised.
+	 *
+	 * @param entry
+	 * @param index
+	 */
+	private void place(Entry entry, int index) {
+		if (entry.count == 1) {
+			entry.first = index + base;
+			entry.last = index + base;
+			return;
+		}
+
+		if (index < entry.first - base)
+			entry.first = index + base;
+		if (index > entry.last - base)
+			entry.last = index + base;
+	}
+
+	/**
+	 * Returns the last index up to the given one that holds e. e must occur
+	 * there.
+	 *
+	 * @param e
+	 * @param from
+	 * @param data
+	 * @return
+	 */
+	private static int previous(Object e, int from, Object[] data) {
+		int i = from;
+		while (!Objects.equals(data[i], e))
+			i--;
+
+		return i;
+	}
+
+	private static final class Entry {
+
+		int count;
+		int first;
+		int last;
+	}
+
+}
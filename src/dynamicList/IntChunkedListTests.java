@@ -0,0 +1,73 @@
+package dynamicList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs every IntListTests test against IntChunkedList. A tiny block size is
+ * used so that even short lists span several blocks.
+ */
+class IntChunkedListTests extends IntListTests {
+
+	@Override
+	IntList newList() {
+		return new IntChunkedList(4);
+	}
+
+	/**
+	 * A block size that is not a power of two throws an exception.
+	 */
+	@Test
+	void constructorTest01() {
+		assertThrows(IllegalArgumentException.class, () -> {
+			new IntChunkedList(6);
+		});
+		assertThrows(IllegalArgumentException.class, () -> {
+			new IntChunkedList(1);
+		});
+	}
+
+	/**
+	 * Random inserts and removals give the same list as IntDynamicList.
+	 */
+	@Test
+	void randomEditTest01() {
+		IntChunkedList l = new IntChunkedList(8);
+		IntDynamicList expected = new IntDynamicList();
+		Random random = new Random(1);
+		for (int i = 0; i < 5000; i++) {
+			if (expected.size() > 0 && random.nextInt(3) == 0) {
+				int index = random.nextInt(expected.size());
+				assertEquals(expected.remove(index), l.remove(index));
+			} else {
+				int index = random.nextInt(expected.size() + 1);
+				expected.insert(index, i);
+				l.insert(index, i);
+			}
+		}
+
+		assertArrayEquals(expected.toArray(), l.toArray());
+	}
+
+	/**
+	 * Removing everything and trimming releases all blocks, and the list can be
+	 * used again.
+	 */
+	@Test
+	void trimToSizeTest05() {
+		IntChunkedList l = new IntChunkedList(4);
+		for (int i = 0; i < 20; i++)
+			l.append(i);
+		while (!l.isEmpty())
+			l.remove(l.size() / 2);
+		l.trimToSize();
+		l.append(1);
+
+		int[] expected = { 1 };
+		assertArrayEquals(expected, l.toArray());
+	}
+
+}
@@ -0,0 +1,267 @@
+package dynamicList;
+
+/**
+ * <p>
+ * A list of integers stored in a gap buffer. The unused part of the backing
+ * array is kept as a gap that sits wherever the last insert or removal
+ * happened, so the elements before the gap start at index 0 of the array and
+ * the elements after it end at the last index of the array.
+ * </p>
+ * <p>
+ * The gap is only moved when an edit happens somewhere else, and moving it only
+ * copies the elements between its old and new position. A run of inserts and
+ * removals at nearby indexes is therefore amortized O(1) per edit, the way a
+ * text editor's buffer works. get and set stay O(1).
+ * </p>
+ */
+public class IntGapList implements IntList {
+
+	private int[] data;
+	private int gapStart;
+	private int gapEnd;
+	private final GrowthPolicy policy;
+
+	public IntGapList() {
+		this(GrowthPolicy.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty list with room for the given number of elements before the
+	 * backing array has to grow.
+	 *
+	 * @param initialCapacity
+	 * @throws IllegalArgumentException if initialCapacity is negative.
+	 */
+	public IntGapList(int initialCapacity) {
+		this(initialCapacity, GrowthPolicy.doubling());
+	}
+
+	/**
+	 * Creates an empty list with room for the given number of elements, growing
+	 * according to the given policy after that.
+	 *
+	 * @param initialCapacity
+	 * @param policy
+	 * @throws IllegalArgumentException if initialCapacity is negative.
+	 */
+	public IntGapList(int initialCapacity, GrowthPolicy policy) {
+		if (initialCapacity < 0)
+			throw new IllegalArgumentException();
+		if (policy == null)
+			throw new NullPointerException();
+
+		this.data = new int[initialCapacity];
+		this.gapStart = 0;
+		this.gapEnd = initialCapacity;
+		this.policy = policy;
+	}
+
+	@Override
+	public void append(int value) {
+		insert(size(), value);
+	}
+
+	@Override
+	public void appendAll(IntList vals) {
+		int len = vals.size(); // Read once in case vals is this list
+
+		if (len > gapEnd - gapStart)
+			changeBackingArray(policy.grow(data.length, size() + len));
+
+		for (int i = 0; i < len; i++)
+			append(vals.get(i));
+	}
+
+	@Override
+	public void clear() {
+		gapStart = 0;
+		gapEnd = data.length;
+		shrinkIfNeeded();
+	}
+
+	@Override
+	public boolean contains(int val) {
+		return indexOf(val) != -1;
+	}
+
+	@Override
+	public boolean equals(IntList other) {
+		if (other == null)
+			return false;
+
+		if (this.size() != other.size())
+			return false;
+
+		for (int i = 0; i < size(); i++)
+			if (data[physical(i)] != other.get(i))
+				return false;
+
+		return true;
+	}
+
+	@Override
+	public int get(int index) {
+		if (index < 0 || index >= size())
+			throw new IndexOutOfBoundsException();
+
+		return data[physical(index)];
+	}
+
+	@Override
+	public int indexOf(int val) {
+		for (int i = 0; i < gapStart; i++)
+			if (data[i] == val)
+				return i;
+
+		for (int i = gapEnd; i < data.length; i++)
+			if (data[i] == val)
+				return i - (gapEnd - gapStart);
+
+		return -1;
+	}
+
+	@Override
+	public void insert(int index, int val) {
+		if (index < 0 || index > size())
+			throw new IndexOutOfBoundsException();
+
+		if (gapStart == gapEnd)
+			changeBackingArray(policy.grow(data.length, size() + 1));
+
+		moveGap(index);
+		data[gapStart] = val;
+		gapStart++;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	@Override
+	public int lastIndexOf(int val) {
+		for (int i = data.length - 1; i >= gapEnd; i--)
+			if (data[i] == val)
+				return i - (gapEnd - gapStart);
+
+		for (int i = gapStart - 1; i >= 0; i--)
+			if (data[i] == val)
+				return i;
+
+		return -1;
+	}
+
+	@Override
+	public void prepend(int val) {
+		insert(0, val);
+	}
+
+	@Override
+	public int remove(int index) {
+		if (index < 0 || index >= size())
+			throw new IndexOutOfBoundsException();
+
+		moveGap(index);
+		int oldVal = data[gapEnd];
+		gapEnd++;
+
+		shrinkIfNeeded();
+
+		return oldVal;
+	}
+
+	@Override
+	public int set(int index, int val) {
+		if (index < 0 || index >= size())
+			throw new IndexOutOfBoundsException();
+
+		int oldVal = data[physical(index)];
+
+		data[physical(index)] = val;
+
+		return oldVal;
+	}
+
+	@Override
+	public int size() {
+		return data.length - (gapEnd - gapStart);
+	}
+
+	@Override
+	public int[] toArray() {
+		int[] arr = new int[size()];
+
+		System.arraycopy(data, 0, arr, 0, gapStart);
+		System.arraycopy(data, gapEnd, arr, gapStart, data.length - gapEnd);
+
+		return arr;
+	}
+
+	@Override
+	public void trimToSize() {
+		changeBackingArray(size());
+	}
+
+	/**
+	 * Returns the position in the backing array of the element at the given list
+	 * index.
+	 *
+	 * @param index
+	 * @return
+	 */
+	private int physical(int index) {
+		if (index < gapStart)
+			return index;
+
+		return index + (gapEnd - gapStart);
+	}
+
+	/**
+	 * Moves the gap so that it starts at the given list index. Only the elements
+	 * between the gap's old and new position are copied.
+	 *
+	 * @param index
+	 */
+	private void moveGap(int index) {
+		if (index < gapStart) {
+			int len = gapStart - index;
+			System.arraycopy(data, index, data, gapEnd - len, len);
+			gapStart -= len;
+			gapEnd -= len;
+		} else if (index > gapStart) {
+			int len = index - gapStart;
+			System.arraycopy(data, gapEnd, data, gapStart, len);
+			gapStart += len;
+			gapEnd += len;
+		}
+	}
+
+	/**
+	 * Changes the backing array to a new array with the given size. The elements
+	 * before the gap stay at the start of the array and the elements after the gap
+	 * are copied to the end, so the gap takes up all of the new space.
+	 *
+	 * @param newSize
+	 */
+	private void changeBackingArray(int newSize) {
+		int[] newData = new int[newSize];
+		int tailLen = data.length - gapEnd;
+
+		System.arraycopy(data, 0, newData, 0, gapStart);
+		System.arraycopy(data, gapEnd, newData, newSize - tailLen, tailLen);
+
+		data = newData;
+		gapEnd = newSize - tailLen;
+	}
+
+	/**
+	 * Shrinks the backing array if the growth policy asks for it.
+	 */
+	private void shrinkIfNeeded() {
+		int newCapacity = policy.shrink(data.length, size());
+
+		if (newCapacity != data.length)
+			changeBackingArray(newCapacity);
+	}
+
+}
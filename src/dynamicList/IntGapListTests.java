@@ -0,0 +1,57 @@
+package dynamicList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs every IntListTests test against IntGapList, plus tests that move the gap
+ * around.
+ */
+class IntGapListTests extends IntListTests {
+
+	@Override
+	IntList newList() {
+		return new IntGapList();
+	}
+
+	/**
+	 * Edits that jump back and forth across the list keep every element in order.
+	 */
+	@Test
+	void gapTest01() {
+		IntGapList l = new IntGapList(4);
+		for (int i = 0; i < 10; i++)
+			l.append(i * 10);
+		l.insert(5, 45);
+		l.insert(1, 5);
+		l.insert(12, 95);
+		l.insert(0, -5);
+		assertEquals(10, l.remove(3));
+		assertEquals(95, l.set(12, 95));
+		l.append(100);
+
+		int[] expected = { -5, 0, 5, 20, 30, 40, 45, 50, 60, 70, 80, 90, 95, 100 };
+		assertArrayEquals(expected, l.toArray());
+		assertEquals(12, l.indexOf(95));
+		assertEquals(1, l.lastIndexOf(0));
+	}
+
+	/**
+	 * A run of inserts followed by a run of removals at the same index.
+	 */
+	@Test
+	void gapTest02() {
+		IntGapList l = new IntGapList();
+		l.append(-1);
+		l.append(-2);
+		for (int i = 0; i < 100; i++)
+			l.insert(1 + i, i);
+		for (int i = 0; i < 100; i++)
+			assertEquals(i, l.remove(1));
+
+		int[] expected = { -1, -2 };
+		assertArrayEquals(expected, l.toArray());
+	}
+
+}
@@ -1,29 +1,16 @@
+// Generated by PrimitiveListGenerator from generator/templates/PrimitiveList.java. Edit the template instead of this file.
 package dynamicList;
 
 /**
  * <p>
- * This interface defines the methods that a dynamic list of integers must
- * implement.
+ * An ordered list of int values, indexed from 0. The values are stored as
+ * ints, so they are never boxed.
  * </p>
  * <p>
- * I'd recommend implementing <i>insert</i> or <i>append</i> first.
- * <i>append</i> is easier to implement, but if you're clever, you can use
- * <i>insert</i> inside of other methods to avoid code repitition.
+ * Methods that take an index throw an IndexOutOfBoundsException if it is out
+ * of range. Implementations that can't support a change, such as read-only
+ * views or append-only lists, throw an UnsupportedOperationException instead.
  * </p>
- * <p>
- * None of your method bodies should exceed 11 lines (not including brackets and
- * whitespace).
- * </p>
- * <p>
- * Side note: You do not have to decrease the size of the backing array after a
- * removal. You can if you want to, but it's not required. If you choose to do
- * so, don't decrease the size of the array every time an element is removed.
- * (That would be expensive). Think about a threshold that would provide a good
- * compromise between preserving memory and keeping it inexpensive.
- * </p>
- * 
- * @author alex
- *
  */
 public interface IntList {
 
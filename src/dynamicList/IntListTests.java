@@ -1,3 +1,4 @@
+// Generated by PrimitiveListGenerator from generator/templates/PrimitiveListTests.java. Edit the template instead of this file.
 package dynamicList;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -10,16 +11,36 @@ import org.junit.jupiter.api.Test;
 
 class IntListTests {
 
+	/**
+	 * Creates the empty list that every test in this class runs against.
+	 * Subclasses override this to run the same tests on another implementation.
+	 * 
+	 * @return
+	 */
+	IntList newList() {
+		return new IntDynamicList();
+	}
+
+	/**
+	 * Converts an int from the test data to the element type of the list.
+	 * 
+	 * @param i
+	 * @return
+	 */
+	static int v(int i) {
+		return i;
+	}
+
 	/**
 	 * Tests appending a single element to an empty list.
 	 */
 	@Test
 	void appendTest01() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(0);
+		IntList l = newList();
+		l.append(v(0));
 
 		assertEquals(1, l.size());
-		assertEquals(0, l.get(0));
+		assertEquals(v(0), l.get(0));
 	}
 
 	/**
@@ -27,13 +48,13 @@ class IntListTests {
 	 */
 	@Test
 	void appendTest02() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(1);
-		l.append(2);
+		IntList l = newList();
+		l.append(v(1));
+		l.append(v(2));
 
 		assertEquals(2, l.size());
-		assertEquals(1, l.get(0));
-		assertEquals(2, l.get(1));
+		assertEquals(v(1), l.get(0));
+		assertEquals(v(2), l.get(1));
 	}
 
 	/**
@@ -41,13 +62,13 @@ class IntListTests {
 	 */
 	@Test
 	void appendTest03() {
-		IntDynamicList l = new IntDynamicList();
+		IntList l = newList();
 		for (int i = 0; i < 1000; i++)
-			l.append(i);
+			l.append(v(i));
 
 		assertEquals(1000, l.size());
 		for (int i = 0; i < 1000; i++)
-			assertEquals(i, l.get(i));
+			assertEquals(v(i), l.get(i));
 	}
 
 	/**
@@ -55,11 +76,11 @@ class IntListTests {
 	 */
 	@Test
 	void appendAllTest01() {
-		IntDynamicList l = new IntDynamicList();
-		IntDynamicList other = new IntDynamicList();
-		other.append(0);
-		other.append(1);
-		other.append(2);
+		IntList l = newList();
+		IntList other = newList();
+		other.append(v(0));
+		other.append(v(1));
+		other.append(v(2));
 		l.appendAll(other);
 
 		assertTrue(l.equals(other));
@@ -70,17 +91,17 @@ class IntListTests {
 	 */
 	@Test
 	void appendAllTest02() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(0);
-		IntDynamicList other = new IntDynamicList();
-		other.append(1);
-		other.append(2);
-		other.append(3);
+		IntList l = newList();
+		l.append(v(0));
+		IntList other = newList();
+		other.append(v(1));
+		other.append(v(2));
+		other.append(v(3));
 		l.appendAll(other);
 
 		assertEquals(4, l.size());
 		for (int i = 0; i < l.size(); i++)
-			assertEquals(i, l.get(i));
+			assertEquals(v(i), l.get(i));
 	}
 
 	/**
@@ -88,16 +109,16 @@ class IntListTests {
 	 */
 	@Test
 	void appendAllTest03() {
-		IntDynamicList l1 = new IntDynamicList();
+		IntList l1 = newList();
 		for (int i = 0; i < 1000; i++)
-			l1.append(i);
+			l1.append(v(i));
 
-		IntDynamicList l2 = new IntDynamicList();
+		IntList l2 = newList();
 		l2.appendAll(l1);
 
 		assertEquals(1000, l2.size());
 		for (int i = 0; i < 1000; i++)
-			assertEquals(i, l2.get(i));
+			assertEquals(v(i), l2.get(i));
 	}
 
 	/**
@@ -105,10 +126,10 @@ class IntListTests {
 	 */
 	@Test
 	void appendAllTest04() {
-		IntDynamicList l1 = new IntDynamicList();
-		l1.append(0);
+		IntList l1 = newList();
+		l1.append(v(0));
 
-		IntDynamicList l2 = new IntDynamicList();
+		IntList l2 = newList();
 		l1.appendAll(l2);
 
 		int[] expected = { 0 };
@@ -120,9 +141,9 @@ class IntListTests {
 	 */
 	@Test
 	void appendAllTest05() {
-		IntDynamicList l1 = new IntDynamicList();
+		IntList l1 = newList();
 
-		IntDynamicList l2 = new IntDynamicList();
+		IntList l2 = newList();
 		l1.appendAll(l2);
 
 		int[] expected = {};
@@ -134,7 +155,7 @@ class IntListTests {
 	 */
 	@Test
 	void clearTest01() {
-		IntDynamicList l = new IntDynamicList();
+		IntList l = newList();
 		l.clear();
 
 		assertEquals(0, l.size());
@@ -146,9 +167,9 @@ class IntListTests {
 	 */
 	@Test
 	void clearTest02() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(0);
-		l.append(1);
+		IntList l = newList();
+		l.append(v(0));
+		l.append(v(1));
 		l.clear();
 
 		assertEquals(0, l.size());
@@ -163,10 +184,10 @@ class IntListTests {
 	 */
 	@Test
 	void containsTest01() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(22);
+		IntList l = newList();
+		l.append(v(22));
 
-		assertTrue(l.contains(22));
+		assertTrue(l.contains(v(22)));
 	}
 
 	/**
@@ -174,9 +195,9 @@ class IntListTests {
 	 */
 	@Test
 	void containsTest02() {
-		IntDynamicList l = new IntDynamicList();
+		IntList l = newList();
 
-		assertFalse(l.contains(22));
+		assertFalse(l.contains(v(22)));
 	}
 
 	/**
@@ -185,13 +206,13 @@ class IntListTests {
 	 */
 	@Test
 	void containsTest03() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(0);
-		l.append(22);
-		l.append(100);
-		l.append(-1);
+		IntList l = newList();
+		l.append(v(0));
+		l.append(v(22));
+		l.append(v(100));
+		l.append(v(-1));
 
-		assertTrue(l.contains(22));
+		assertTrue(l.contains(v(22)));
 	}
 
 	/**
@@ -200,15 +221,15 @@ class IntListTests {
 	 */
 	@Test
 	void containsTest04() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(0);
-		l.append(22);
-		l.append(100);
-		l.append(-1);
-		l.append(22);
-		l.append(124);
+		IntList l = newList();
+		l.append(v(0));
+		l.append(v(22));
+		l.append(v(100));
+		l.append(v(-1));
+		l.append(v(22));
+		l.append(v(124));
 
-		assertTrue(l.contains(22));
+		assertTrue(l.contains(v(22)));
 	}
 
 	/**
@@ -216,15 +237,15 @@ class IntListTests {
 	 */
 	@Test
 	void containsTest05() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(0);
-		l.append(22);
-		l.append(100);
-		l.append(-1);
-		l.append(22);
-		l.append(124);
+		IntList l = newList();
+		l.append(v(0));
+		l.append(v(22));
+		l.append(v(100));
+		l.append(v(-1));
+		l.append(v(22));
+		l.append(v(124));
 
-		assertFalse(l.contains(1));
+		assertFalse(l.contains(v(1)));
 	}
 
 	/**
@@ -232,12 +253,12 @@ class IntListTests {
 	 */
 	@Test
 	void containsTest06() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(0);
-		l.append(22);
-		l.append(100);
+		IntList l = newList();
+		l.append(v(0));
+		l.append(v(22));
+		l.append(v(100));
 
-		assertTrue(l.contains(0));
+		assertTrue(l.contains(v(0)));
 	}
 
 	/**
@@ -245,12 +266,12 @@ class IntListTests {
 	 */
 	@Test
 	void containsTest07() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(0);
-		l.append(22);
-		l.append(100);
+		IntList l = newList();
+		l.append(v(0));
+		l.append(v(22));
+		l.append(v(100));
 
-		assertTrue(l.contains(100));
+		assertTrue(l.contains(v(100)));
 	}
 
 	/**
@@ -258,8 +279,8 @@ class IntListTests {
 	 */
 	@Test
 	void equalsTest01() {
-		IntDynamicList l1 = new IntDynamicList();
-		IntDynamicList l2 = new IntDynamicList();
+		IntList l1 = newList();
+		IntList l2 = newList();
 
 		assertTrue(l1.equals(l2));
 	}
@@ -269,7 +290,7 @@ class IntListTests {
 	 */
 	@Test
 	void equalsTest02() {
-		IntDynamicList l1 = new IntDynamicList();
+		IntList l1 = newList();
 
 		assertTrue(l1.equals(l1));
 	}
@@ -279,10 +300,10 @@ class IntListTests {
 	 */
 	@Test
 	void equalsTest03() {
-		IntDynamicList l1 = new IntDynamicList();
-		l1.append(0);
-		IntDynamicList l2 = new IntDynamicList();
-		l2.append(0);
+		IntList l1 = newList();
+		l1.append(v(0));
+		IntList l2 = newList();
+		l2.append(v(0));
 
 		assertTrue(l1.equals(l2));
 	}
@@ -292,8 +313,8 @@ class IntListTests {
 	 */
 	@Test
 	void equalsTest04() {
-		IntDynamicList l1 = new IntDynamicList();
-		l1.append(0);
+		IntList l1 = newList();
+		l1.append(v(0));
 
 		assertTrue(l1.equals(l1));
 	}
@@ -303,10 +324,10 @@ class IntListTests {
 	 */
 	@Test
 	void equalsTest05() {
-		IntDynamicList l1 = new IntDynamicList();
-		l1.append(0);
-		IntDynamicList l2 = new IntDynamicList();
-		l2.append(1);
+		IntList l1 = newList();
+		l1.append(v(0));
+		IntList l2 = newList();
+		l2.append(v(1));
 
 		assertFalse(l1.equals(l2));
 	}
@@ -317,15 +338,15 @@ class IntListTests {
 	 */
 	@Test
 	void equalsTest06() {
-		IntDynamicList l1 = new IntDynamicList();
-		l1.append(0);
-		l1.append(1);
-		l1.append(2);
-		IntDynamicList l2 = new IntDynamicList();
-		l2.append(0);
-		l2.append(1);
-		l2.append(2);
-		l2.append(3);
+		IntList l1 = newList();
+		l1.append(v(0));
+		l1.append(v(1));
+		l1.append(v(2));
+		IntList l2 = newList();
+		l2.append(v(0));
+		l2.append(v(1));
+		l2.append(v(2));
+		l2.append(v(3));
 
 		assertFalse(l1.equals(l2));
 	}
@@ -336,15 +357,15 @@ class IntListTests {
 	 */
 	@Test
 	void equalsTest07() {
-		IntDynamicList l1 = new IntDynamicList();
-		l1.append(0);
-		l1.append(1);
-		l1.append(2);
-		l1.append(3);
-		IntDynamicList l2 = new IntDynamicList();
-		l2.append(0);
-		l2.append(1);
-		l2.append(2);
+		IntList l1 = newList();
+		l1.append(v(0));
+		l1.append(v(1));
+		l1.append(v(2));
+		l1.append(v(3));
+		IntList l2 = newList();
+		l2.append(v(0));
+		l2.append(v(1));
+		l2.append(v(2));
 
 		assertFalse(l1.equals(l2));
 	}
@@ -355,9 +376,9 @@ class IntListTests {
 	 */
 	@Test
 	void equalsTest08() {
-		IntDynamicList l1 = new IntDynamicList();
-		IntDynamicList l2 = new IntDynamicList();
-		l2.append(0);
+		IntList l1 = newList();
+		IntList l2 = newList();
+		l2.append(v(0));
 
 		assertFalse(l1.equals(l2));
 	}
@@ -368,9 +389,9 @@ class IntListTests {
 	 */
 	@Test
 	void equalsTest09() {
-		IntDynamicList l1 = new IntDynamicList();
-		l1.append(0);
-		IntDynamicList l2 = new IntDynamicList();
+		IntList l1 = newList();
+		l1.append(v(0));
+		IntList l2 = newList();
 
 		assertFalse(l1.equals(l2));
 	}
@@ -380,7 +401,7 @@ class IntListTests {
 	 */
 	@Test
 	void equalsTest10() {
-		IntDynamicList l = new IntDynamicList();
+		IntList l = newList();
 
 		assertFalse(l.equals(null));
 	}
@@ -390,8 +411,8 @@ class IntListTests {
 	 */
 	@Test
 	void equalsTest11() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(0);
+		IntList l = newList();
+		l.append(v(0));
 
 		assertFalse(l.equals(null));
 	}
@@ -401,14 +422,14 @@ class IntListTests {
 	 */
 	@Test
 	void getTest01() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(10);
-		l.append(11);
-		l.append(12);
-		l.append(13);
+		IntList l = newList();
+		l.append(v(10));
+		l.append(v(11));
+		l.append(v(12));
+		l.append(v(13));
 
 		for (int i = 0; i < l.size(); i++)
-			assertEquals(i + 10, l.get(i));
+			assertEquals(v(i + 10), l.get(i));
 	}
 
 	/**
@@ -416,7 +437,7 @@ class IntListTests {
 	 */
 	@Test
 	void getTest02() {
-		IntDynamicList l = new IntDynamicList();
+		IntList l = newList();
 
 		assertThrows(IndexOutOfBoundsException.class, () -> {
 			l.get(-1);
@@ -431,7 +452,7 @@ class IntListTests {
 	 */
 	@Test
 	void getTest03() {
-		IntDynamicList l = new IntDynamicList();
+		IntList l = newList();
 
 		assertThrows(IndexOutOfBoundsException.class, () -> {
 			l.get(0);
@@ -443,11 +464,11 @@ class IntListTests {
 	 */
 	@Test
 	void getTest04() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(10);
-		l.append(11);
-		l.append(12);
-		l.append(13);
+		IntList l = newList();
+		l.append(v(10));
+		l.append(v(11));
+		l.append(v(12));
+		l.append(v(13));
 
 		assertThrows(IndexOutOfBoundsException.class, () -> {
 			l.get(4);
@@ -460,11 +481,11 @@ class IntListTests {
 	 */
 	@Test
 	void getTest05() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(10);
-		l.append(11);
-		l.append(12);
-		l.append(13);
+		IntList l = newList();
+		l.append(v(10));
+		l.append(v(11));
+		l.append(v(12));
+		l.append(v(13));
 
 		assertThrows(IndexOutOfBoundsException.class, () -> {
 			l.get(5);
@@ -479,11 +500,11 @@ class IntListTests {
 	 */
 	@Test
 	void indexOfTest01() {
-		IntDynamicList l = new IntDynamicList();
+		IntList l = newList();
 
-		assertEquals(-1, l.indexOf(0));
-		assertEquals(-1, l.indexOf(1));
-		assertEquals(-1, l.indexOf(-1));
+		assertEquals(-1, l.indexOf(v(0)));
+		assertEquals(-1, l.indexOf(v(1)));
+		assertEquals(-1, l.indexOf(v(-1)));
 	}
 
 	/**
@@ -491,10 +512,10 @@ class IntListTests {
 	 */
 	@Test
 	void indexOfTest02() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(0);
+		IntList l = newList();
+		l.append(v(0));
 
-		assertEquals(-1, l.indexOf(1));
+		assertEquals(-1, l.indexOf(v(1)));
 	}
 
 	/**
@@ -502,12 +523,12 @@ class IntListTests {
 	 */
 	@Test
 	void indexOfTest03() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(4);
-		l.append(5);
-		l.append(6);
+		IntList l = newList();
+		l.append(v(4));
+		l.append(v(5));
+		l.append(v(6));
 
-		assertEquals(-1, l.indexOf(0));
+		assertEquals(-1, l.indexOf(v(0)));
 	}
 
 	/**
@@ -515,10 +536,10 @@ class IntListTests {
 	 */
 	@Test
 	void indexOfTest04() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(4);
+		IntList l = newList();
+		l.append(v(4));
 
-		assertEquals(0, l.indexOf(4));
+		assertEquals(0, l.indexOf(v(4)));
 	}
 
 	/**
@@ -526,12 +547,12 @@ class IntListTests {
 	 */
 	@Test
 	void indexOfTest05() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(1);
-		l.append(4);
-		l.append(0);
+		IntList l = newList();
+		l.append(v(1));
+		l.append(v(4));
+		l.append(v(0));
 
-		assertEquals(1, l.indexOf(4));
+		assertEquals(1, l.indexOf(v(4)));
 	}
 
 	/**
@@ -539,15 +560,15 @@ class IntListTests {
 	 */
 	@Test
 	void indexOfTest06() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(1);
-		l.append(4);
-		l.append(0);
-		l.append(4);
-		l.append(4);
-		l.append(5);
+		IntList l = newList();
+		l.append(v(1));
+		l.append(v(4));
+		l.append(v(0));
+		l.append(v(4));
+		l.append(v(4));
+		l.append(v(5));
 
-		assertEquals(1, l.indexOf(4));
+		assertEquals(1, l.indexOf(v(4)));
 	}
 
 	/**
@@ -555,15 +576,15 @@ class IntListTests {
 	 */
 	@Test
 	void indexOfTest07() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(4);
-		l.append(4);
-		l.append(0);
-		l.append(4);
-		l.append(4);
-		l.append(5);
+		IntList l = newList();
+		l.append(v(4));
+		l.append(v(4));
+		l.append(v(0));
+		l.append(v(4));
+		l.append(v(4));
+		l.append(v(5));
 
-		assertEquals(0, l.indexOf(4));
+		assertEquals(0, l.indexOf(v(4)));
 	}
 
 	/**
@@ -571,15 +592,15 @@ class IntListTests {
 	 */
 	@Test
 	void indexOfTest08() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(4);
-		l.append(4);
-		l.append(0);
-		l.append(4);
-		l.append(4);
-		l.append(5);
+		IntList l = newList();
+		l.append(v(4));
+		l.append(v(4));
+		l.append(v(0));
+		l.append(v(4));
+		l.append(v(4));
+		l.append(v(5));
 
-		assertEquals(5, l.indexOf(5));
+		assertEquals(5, l.indexOf(v(5)));
 	}
 
 	/**
@@ -587,11 +608,11 @@ class IntListTests {
 	 */
 	@Test
 	void insertTest01() {
-		IntDynamicList l = new IntDynamicList();
-		l.insert(0, 1);
+		IntList l = newList();
+		l.insert(0, v(1));
 
 		assertEquals(1, l.size());
-		assertEquals(1, l.get(0));
+		assertEquals(v(1), l.get(0));
 	}
 
 	/**
@@ -599,13 +620,13 @@ class IntListTests {
 	 */
 	@Test
 	void insertTest02() {
-		IntDynamicList l = new IntDynamicList();
+		IntList l = newList();
 		for (int i = 0; i < 5; i++)
-			l.insert(i, i + 1);
+			l.insert(i, v(i + 1));
 
 		assertEquals(5, l.size());
 		for (int i = 0; i < 5; i++)
-			assertEquals(i + 1, l.get(i));
+			assertEquals(v(i + 1), l.get(i));
 	}
 
 	/**
@@ -613,14 +634,14 @@ class IntListTests {
 	 */
 	@Test
 	void insertTest03() {
-		IntDynamicList l = new IntDynamicList();
+		IntList l = newList();
 		for (int i = 0; i < 5; i++)
-			l.insert(i, i + 1);
-		l.insert(0, 0);
+			l.insert(i, v(i + 1));
+		l.insert(0, v(0));
 
 		assertEquals(6, l.size());
 		for (int i = 0; i < 6; i++)
-			assertEquals(i, l.get(i));
+			assertEquals(v(i), l.get(i));
 	}
 
 	/**
@@ -628,16 +649,16 @@ class IntListTests {
 	 */
 	@Test
 	void insertTest04() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(0);
-		l.append(1);
-		l.append(2);
-		l.append(4);
-		l.insert(3, 3);
+		IntList l = newList();
+		l.append(v(0));
+		l.append(v(1));
+		l.append(v(2));
+		l.append(v(4));
+		l.insert(3, v(3));
 
 		assertEquals(5, l.size());
 		for (int i = 0; i < l.size(); i++)
-			assertEquals(i, l.get(i));
+			assertEquals(v(i), l.get(i));
 	}
 
 	/**
@@ -645,13 +666,13 @@ class IntListTests {
 	 */
 	@Test
 	void insertTest05() {
-		IntDynamicList l = new IntDynamicList();
+		IntList l = newList();
 
 		assertThrows(IndexOutOfBoundsException.class, () -> {
-			l.insert(-1, 0);
+			l.insert(-1, v(0));
 		});
 		assertThrows(IndexOutOfBoundsException.class, () -> {
-			l.insert(-10, 0);
+			l.insert(-10, v(0));
 		});
 	}
 
@@ -660,14 +681,14 @@ class IntListTests {
 	 */
 	@Test
 	void insertTest06() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(0);
+		IntList l = newList();
+		l.append(v(0));
 
 		assertThrows(IndexOutOfBoundsException.class, () -> {
-			l.insert(-1, 0);
+			l.insert(-1, v(0));
 		});
 		assertThrows(IndexOutOfBoundsException.class, () -> {
-			l.insert(-10, 0);
+			l.insert(-10, v(0));
 		});
 	}
 
@@ -676,13 +697,13 @@ class IntListTests {
 	 */
 	@Test
 	void insertTest07() {
-		IntDynamicList l = new IntDynamicList();
+		IntList l = newList();
 
 		assertThrows(IndexOutOfBoundsException.class, () -> {
-			l.insert(1, 0);
+			l.insert(1, v(0));
 		});
 		assertThrows(IndexOutOfBoundsException.class, () -> {
-			l.insert(10, 0);
+			l.insert(10, v(0));
 		});
 	}
 
@@ -691,14 +712,14 @@ class IntListTests {
 	 */
 	@Test
 	void insertTest08() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(0);
+		IntList l = newList();
+		l.append(v(0));
 
 		assertThrows(IndexOutOfBoundsException.class, () -> {
-			l.insert(2, 0);
+			l.insert(2, v(0));
 		});
 		assertThrows(IndexOutOfBoundsException.class, () -> {
-			l.insert(20, 0);
+			l.insert(20, v(0));
 		});
 	}
 
@@ -707,11 +728,11 @@ class IntListTests {
 	 */
 	@Test
 	void insertTest09() {
-		IntDynamicList l = new IntDynamicList();
+		IntList l = newList();
 		int[] expected = new int[1000];
 		for (int i = 0; i < 1000; i++) {
-			l.insert(i, i);
-			expected[i] = i;
+			l.insert(i, v(i));
+			expected[i] = v(i);
 		}
 
 		assertArrayEquals(expected, l.toArray());
@@ -722,11 +743,11 @@ class IntListTests {
 	 */
 	@Test
 	void insertTest10() {
-		IntDynamicList l = new IntDynamicList();
+		IntList l = newList();
 		int[] expected = new int[1000];
 		for (int i = 0; i < 1000; i++) {
-			l.insert(0, i);
-			expected[999 - i] = i;
+			l.insert(0, v(i));
+			expected[999 - i] = v(i);
 		}
 
 		assertArrayEquals(expected, l.toArray());
@@ -738,13 +759,13 @@ class IntListTests {
 	 */
 	@Test
 	void insertTest11() {
-		IntDynamicList l = new IntDynamicList();
+		IntList l = newList();
 		int[] expected = new int[1000];
-		l.append(999);
-		expected[0] = 999;
+		l.append(v(999));
+		expected[0] = v(999);
 		for (int i = 0; i < 999; i++) {
-			l.insert(1, i);
-			expected[999 - i] = i;
+			l.insert(1, v(i));
+			expected[999 - i] = v(i);
 		}
 
 		assertArrayEquals(expected, l.toArray());
@@ -755,7 +776,7 @@ class IntListTests {
 	 */
 	@Test
 	void isEmptyTest01() {
-		IntDynamicList l = new IntDynamicList();
+		IntList l = newList();
 
 		assertTrue(l.isEmpty());
 	}
@@ -765,8 +786,8 @@ class IntListTests {
 	 */
 	@Test
 	void isEmptyTest02() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(0);
+		IntList l = newList();
+		l.append(v(0));
 
 		assertFalse(l.isEmpty());
 	}
@@ -776,9 +797,9 @@ class IntListTests {
 	 */
 	@Test
 	void isEmptyTest03() {
-		IntDynamicList l = new IntDynamicList();
+		IntList l = newList();
 		for (int i = 0; i < 5; i++)
-			l.append(i);
+			l.append(v(i));
 
 		assertFalse(l.isEmpty());
 	}
@@ -788,11 +809,11 @@ class IntListTests {
 	 */
 	@Test
 	void lastIndexOfTest01() {
-		IntDynamicList l = new IntDynamicList();
+		IntList l = newList();
 
-		assertEquals(-1, l.lastIndexOf(0));
-		assertEquals(-1, l.lastIndexOf(1));
-		assertEquals(-1, l.lastIndexOf(-1));
+		assertEquals(-1, l.lastIndexOf(v(0)));
+		assertEquals(-1, l.lastIndexOf(v(1)));
+		assertEquals(-1, l.lastIndexOf(v(-1)));
 	}
 
 	/**
@@ -800,10 +821,10 @@ class IntListTests {
 	 */
 	@Test
 	void lastIndexOfTest02() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(0);
+		IntList l = newList();
+		l.append(v(0));
 
-		assertEquals(-1, l.lastIndexOf(1));
+		assertEquals(-1, l.lastIndexOf(v(1)));
 	}
 
 	/**
@@ -811,12 +832,12 @@ class IntListTests {
 	 */
 	@Test
 	void lastIndexOfTest03() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(4);
-		l.append(5);
-		l.append(6);
+		IntList l = newList();
+		l.append(v(4));
+		l.append(v(5));
+		l.append(v(6));
 
-		assertEquals(-1, l.lastIndexOf(0));
+		assertEquals(-1, l.lastIndexOf(v(0)));
 	}
 
 	/**
@@ -824,10 +845,10 @@ class IntListTests {
 	 */
 	@Test
 	void lastIndexOfTest04() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(4);
+		IntList l = newList();
+		l.append(v(4));
 
-		assertEquals(0, l.lastIndexOf(4));
+		assertEquals(0, l.lastIndexOf(v(4)));
 	}
 
 	/**
@@ -835,12 +856,12 @@ class IntListTests {
 	 */
 	@Test
 	void lastIndexOfTest05() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(1);
-		l.append(4);
-		l.append(0);
+		IntList l = newList();
+		l.append(v(1));
+		l.append(v(4));
+		l.append(v(0));
 
-		assertEquals(1, l.lastIndexOf(4));
+		assertEquals(1, l.lastIndexOf(v(4)));
 	}
 
 	/**
@@ -848,15 +869,15 @@ class IntListTests {
 	 */
 	@Test
 	void lastIndexOfTest06() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(1);
-		l.append(4);
-		l.append(0);
-		l.append(4);
-		l.append(4);
-		l.append(5);
+		IntList l = newList();
+		l.append(v(1));
+		l.append(v(4));
+		l.append(v(0));
+		l.append(v(4));
+		l.append(v(4));
+		l.append(v(5));
 
-		assertEquals(4, l.lastIndexOf(4));
+		assertEquals(4, l.lastIndexOf(v(4)));
 	}
 
 	/**
@@ -864,15 +885,15 @@ class IntListTests {
 	 */
 	@Test
 	void lastIndexOfTest07() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(1);
-		l.append(4);
-		l.append(0);
-		l.append(4);
-		l.append(4);
-		l.append(5);
+		IntList l = newList();
+		l.append(v(1));
+		l.append(v(4));
+		l.append(v(0));
+		l.append(v(4));
+		l.append(v(4));
+		l.append(v(5));
 
-		assertEquals(0, l.lastIndexOf(1));
+		assertEquals(0, l.lastIndexOf(v(1)));
 	}
 
 	/**
@@ -880,15 +901,15 @@ class IntListTests {
 	 */
 	@Test
 	void lastIndexOfTest08() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(4);
-		l.append(4);
-		l.append(0);
-		l.append(4);
-		l.append(4);
-		l.append(4);
+		IntList l = newList();
+		l.append(v(4));
+		l.append(v(4));
+		l.append(v(0));
+		l.append(v(4));
+		l.append(v(4));
+		l.append(v(4));
 
-		assertEquals(5, l.lastIndexOf(4));
+		assertEquals(5, l.lastIndexOf(v(4)));
 	}
 
 	/**
@@ -896,11 +917,11 @@ class IntListTests {
 	 */
 	@Test
 	void prependTest01() {
-		IntDynamicList l = new IntDynamicList();
-		l.prepend(1);
+		IntList l = newList();
+		l.prepend(v(1));
 
 		assertEquals(1, l.size());
-		assertEquals(1, l.get(0));
+		assertEquals(v(1), l.get(0));
 	}
 
 	/**
@@ -908,13 +929,13 @@ class IntListTests {
 	 */
 	@Test
 	void prependTest02() {
-		IntDynamicList l = new IntDynamicList();
-		l.prepend(1);
-		l.prepend(2);
+		IntList l = newList();
+		l.prepend(v(1));
+		l.prepend(v(2));
 
 		assertEquals(2, l.size());
-		assertEquals(2, l.get(0));
-		assertEquals(1, l.get(1));
+		assertEquals(v(2), l.get(0));
+		assertEquals(v(1), l.get(1));
 	}
 
 	/**
@@ -922,15 +943,15 @@ class IntListTests {
 	 */
 	@Test
 	void prependTest03() {
-		IntDynamicList l = new IntDynamicList();
-		l.prepend(1);
-		l.prepend(2);
-		l.prepend(3);
+		IntList l = newList();
+		l.prepend(v(1));
+		l.prepend(v(2));
+		l.prepend(v(3));
 
 		assertEquals(3, l.size());
-		assertEquals(3, l.get(0));
-		assertEquals(2, l.get(1));
-		assertEquals(1, l.get(2));
+		assertEquals(v(3), l.get(0));
+		assertEquals(v(2), l.get(1));
+		assertEquals(v(1), l.get(2));
 	}
 	
 	/**
@@ -938,11 +959,11 @@ class IntListTests {
 	 */
 	@Test
 	void prependTest04() {
-		IntDynamicList l = new IntDynamicList();
+		IntList l = newList();
 		int[] expected = new int[1000];
 		for (int i = 0; i < 1000; i++) {
-			l.prepend(i);
-			expected[999 - i] = i;
+			l.prepend(v(i));
+			expected[999 - i] = v(i);
 		}
 		
 		assertArrayEquals(expected, l.toArray());
@@ -953,8 +974,8 @@ class IntListTests {
 	 */
 	@Test
 	void removeTest01() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(1);
+		IntList l = newList();
+		l.append(v(1));
 		l.remove(0);
 
 		assertEquals(0, l.size());
@@ -965,13 +986,13 @@ class IntListTests {
 	 */
 	@Test
 	void removeTest02() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(1);
-		l.append(2);
+		IntList l = newList();
+		l.append(v(1));
+		l.append(v(2));
 		l.remove(0);
 
 		assertEquals(1, l.size());
-		assertEquals(2, l.get(0));
+		assertEquals(v(2), l.get(0));
 	}
 
 	/**
@@ -979,13 +1000,13 @@ class IntListTests {
 	 */
 	@Test
 	void removeTest03() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(0);
-		l.append(1);
+		IntList l = newList();
+		l.append(v(0));
+		l.append(v(1));
 		l.remove(1);
 
 		assertEquals(1, l.size());
-		assertEquals(0, l.get(0));
+		assertEquals(v(0), l.get(0));
 	}
 
 	/**
@@ -993,7 +1014,7 @@ class IntListTests {
 	 */
 	@Test
 	void removeTest04() {
-		IntDynamicList l = new IntDynamicList();
+		IntList l = newList();
 
 		assertThrows(IndexOutOfBoundsException.class, () -> {
 			l.remove(0);
@@ -1006,8 +1027,8 @@ class IntListTests {
 	 */
 	@Test
 	void removeTest05() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(0);
+		IntList l = newList();
+		l.append(v(0));
 
 		assertThrows(IndexOutOfBoundsException.class, () -> {
 			l.remove(1);
@@ -1022,15 +1043,15 @@ class IntListTests {
 	 */
 	@Test
 	void removeTest06() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(0);
-		l.append(1);
-		l.append(2);
+		IntList l = newList();
+		l.append(v(0));
+		l.append(v(1));
+		l.append(v(2));
 		l.remove(1);
 
 		assertEquals(2, l.size());
-		assertEquals(0, l.get(0));
-		assertEquals(2, l.get(1));
+		assertEquals(v(0), l.get(0));
+		assertEquals(v(2), l.get(1));
 	}
 
 	/**
@@ -1038,16 +1059,16 @@ class IntListTests {
 	 */
 	@Test
 	void setTest01() {
-		IntDynamicList l = new IntDynamicList();
+		IntList l = newList();
 
 		assertThrows(IndexOutOfBoundsException.class, () -> {
-			l.set(0, 0);
+			l.set(0, v(0));
 		});
 		assertThrows(IndexOutOfBoundsException.class, () -> {
-			l.set(-1, 0);
+			l.set(-1, v(0));
 		});
 		assertThrows(IndexOutOfBoundsException.class, () -> {
-			l.set(1, 0);
+			l.set(1, v(0));
 		});
 	}
 
@@ -1056,11 +1077,11 @@ class IntListTests {
 	 */
 	@Test
 	void setTest02() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(0);
-		l.set(0, 1);
+		IntList l = newList();
+		l.append(v(0));
+		l.set(0, v(1));
 
-		assertEquals(1, l.get(0));
+		assertEquals(v(1), l.get(0));
 		assertEquals(1, l.size());
 	}
 
@@ -1069,19 +1090,19 @@ class IntListTests {
 	 */
 	@Test
 	void setTest03() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(0);
-		l.append(1);
-		l.append(2);
-		l.append(3);
-		l.append(4);
-		l.append(5);
-		l.set(0, 6);
-		l.set(1, 7);
-		l.set(2, 8);
-		l.set(3, 9);
-		l.set(4, 10);
-		l.set(5, 11);
+		IntList l = newList();
+		l.append(v(0));
+		l.append(v(1));
+		l.append(v(2));
+		l.append(v(3));
+		l.append(v(4));
+		l.append(v(5));
+		l.set(0, v(6));
+		l.set(1, v(7));
+		l.set(2, v(8));
+		l.set(3, v(9));
+		l.set(4, v(10));
+		l.set(5, v(11));
 
 		int[] expected = { 6, 7, 8, 9, 10, 11 };
 		assertArrayEquals(expected, l.toArray());
@@ -1092,7 +1113,7 @@ class IntListTests {
 	 */
 	@Test
 	void sizeTest01() {
-		IntDynamicList l = new IntDynamicList();
+		IntList l = newList();
 
 		assertEquals(0, l.size());
 	}
@@ -1102,8 +1123,8 @@ class IntListTests {
 	 */
 	@Test
 	void sizeTest02() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(0);
+		IntList l = newList();
+		l.append(v(0));
 
 		assertEquals(1, l.size());
 	}
@@ -1113,7 +1134,7 @@ class IntListTests {
 	 */
 	@Test
 	void toArrayTest01() {
-		IntDynamicList l = new IntDynamicList();
+		IntList l = newList();
 
 		int[] expected = {};
 		assertArrayEquals(expected, l.toArray());
@@ -1124,8 +1145,8 @@ class IntListTests {
 	 */
 	@Test
 	void toArrayTest02() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(1);
+		IntList l = newList();
+		l.append(v(1));
 
 		int[] expected = { 1 };
 		assertArrayEquals(expected, l.toArray());
@@ -1136,12 +1157,12 @@ class IntListTests {
 	 */
 	@Test
 	void toArrayTest03() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(1);
-		l.append(3);
-		l.append(5);
-		l.append(7);
-		l.append(9);
+		IntList l = newList();
+		l.append(v(1));
+		l.append(v(3));
+		l.append(v(5));
+		l.append(v(7));
+		l.append(v(9));
 
 		int[] expected = { 1, 3, 5, 7, 9 };
 		assertArrayEquals(expected, l.toArray());
@@ -1152,7 +1173,7 @@ class IntListTests {
 	 */
 	@Test
 	void trimToSizeTest01() {
-		IntDynamicList l = new IntDynamicList();
+		IntList l = newList();
 		l.trimToSize();
 
 		assertEquals(0, l.size());
@@ -1163,9 +1184,9 @@ class IntListTests {
 	 */
 	@Test
 	void trimToSizeTest02() {
-		IntDynamicList l = new IntDynamicList();
+		IntList l = newList();
 		l.trimToSize();
-		l.append(0);
+		l.append(v(0));
 
 		int[] expected = { 0 };
 		assertArrayEquals(expected, l.toArray());
@@ -1176,8 +1197,8 @@ class IntListTests {
 	 */
 	@Test
 	void trimToSizeTest03() {
-		IntDynamicList l = new IntDynamicList();
-		l.append(0);
+		IntList l = newList();
+		l.append(v(0));
 		l.trimToSize();
 
 		int[] expected = { 0 };
@@ -1189,13 +1210,79 @@ class IntListTests {
 	 */
 	@Test
 	void trimToSizeTest04() {
-		IntDynamicList l = new IntDynamicList();
+		IntList l = newList();
 		for (int i = 0; i < 5; i++)
-			l.append(i);
+			l.append(v(i));
 		l.trimToSize();
 
 		int[] expected = { 0, 1, 2, 3, 4 };
 		assertArrayEquals(expected, l.toArray());
 	}
 
+	/**
+	 * Appending a list to itself doubles it.
+	 */
+	@Test
+	void appendAllTest06() {
+		IntList l = newList();
+		l.append(v(0));
+		l.append(v(1));
+		l.append(v(2));
+		l.appendAll(l);
+
+		int[] expected = { 0, 1, 2, 0, 1, 2 };
+		assertArrayEquals(expected, l.toArray());
+	}
+
+	/**
+	 * Two long lists that differ only in their last element are not equal.
+	 */
+	@Test
+	void equalsTest12() {
+		IntList l1 = newList();
+		IntList l2 = newList();
+		for (int i = 0; i < 100; i++) {
+			l1.append(v(i));
+			l2.append(v(i));
+		}
+
+		assertTrue(l1.equals(l2));
+		l2.set(99, v(-1));
+		assertFalse(l1.equals(l2));
+	}
+
+	/**
+	 * Finds the first occurrence at every position of a list longer than one scan
+	 * block.
+	 */
+	@Test
+	void indexOfTest09() {
+		IntList l = newList();
+		for (int i = 0; i < 37; i++)
+			l.append(v(i));
+
+		for (int i = 0; i < 37; i++)
+			assertEquals(i, l.indexOf(v(i)));
+		assertEquals(-1, l.indexOf(v(37)));
+		l.append(v(20));
+		assertEquals(20, l.indexOf(v(20)));
+	}
+
+	/**
+	 * Finds the last occurrence at every position of a list longer than one scan
+	 * block.
+	 */
+	@Test
+	void lastIndexOfTest09() {
+		IntList l = newList();
+		for (int i = 0; i < 37; i++)
+			l.append(v(i));
+
+		for (int i = 0; i < 37; i++)
+			assertEquals(i, l.lastIndexOf(v(i)));
+		assertEquals(-1, l.lastIndexOf(v(37)));
+		l.prepend(v(20));
+		assertEquals(21, l.lastIndexOf(v(20)));
+	}
+
 }
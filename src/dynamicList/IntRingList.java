@@ -0,0 +1,265 @@
+package dynamicList;
+
+/**
+ * <p>
+ * A list of integers stored in a circular buffer. The list starts at
+ * <i>head</i> in the backing array and wraps around to the beginning of the
+ * array when it reaches the end.
+ * </p>
+ * <p>
+ * Adding or removing at either end is amortized O(1), so this list works well
+ * as a queue or deque. Inserting or removing in the middle shifts whichever
+ * side of the index is shorter. get and set stay O(1).
+ * </p>
+ */
+public class IntRingList implements IntList {
+
+	private int[] data;
+	private int head;
+	private int size;
+	private final GrowthPolicy policy;
+
+	public IntRingList() {
+		this(GrowthPolicy.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty list with room for the given number of elements before the
+	 * backing array has to grow.
+	 *
+	 * @param initialCapacity
+	 * @throws IllegalArgumentException if initialCapacity is negative.
+	 */
+	public IntRingList(int initialCapacity) {
+		this(initialCapacity, GrowthPolicy.doubling());
+	}
+
+	/**
+	 * Creates an empty list with room for the given number of elements, growing
+	 * according to the given policy after that.
+	 *
+	 * @param initialCapacity
+	 * @param policy
+	 * @throws IllegalArgumentException if initialCapacity is negative.
+	 */
+	public IntRingList(int initialCapacity, GrowthPolicy policy) {
+		if (initialCapacity < 0)
+			throw new IllegalArgumentException();
+		if (policy == null)
+			throw new NullPointerException();
+
+		this.data = new int[initialCapacity];
+		this.head = 0;
+		this.size = 0;
+		this.policy = policy;
+	}
+
+	@Override
+	public void append(int value) {
+		insert(size, value);
+	}
+
+	@Override
+	public void appendAll(IntList vals) {
+		int len = vals.size(); // Read once in case vals is this list
+
+		if (size + len > data.length)
+			changeBackingArray(policy.grow(data.length, size + len));
+
+		for (int i = 0; i < len; i++)
+			append(vals.get(i));
+	}
+
+	@Override
+	public void clear() {
+		size = 0;
+		head = 0;
+		shrinkIfNeeded();
+	}
+
+	@Override
+	public boolean contains(int val) {
+		return indexOf(val) != -1;
+	}
+
+	@Override
+	public boolean equals(IntList other) {
+		if (other == null)
+			return false;
+
+		if (this.size != other.size())
+			return false;
+
+		for (int i = 0; i < size; i++)
+			if (data[physical(i)] != other.get(i))
+				return false;
+
+		return true;
+	}
+
+	@Override
+	public int get(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException();
+
+		return data[physical(index)];
+	}
+
+	@Override
+	public int indexOf(int val) {
+		for (int i = 0; i < size; i++)
+			if (data[physical(i)] == val)
+				return i;
+
+		return -1;
+	}
+
+	@Override
+	public void insert(int index, int val) {
+		if (index < 0 || index > size)
+			throw new IndexOutOfBoundsException();
+
+		if (size == data.length)
+			changeBackingArray(policy.grow(data.length, size + 1));
+
+		if (index < size / 2) { // Move the front one to the left
+			head = physical(data.length - 1);
+			for (int i = 0; i < index; i++)
+				data[physical(i)] = data[physical(i + 1)];
+		} else { // Move the back one to the right
+			for (int i = size; i > index; i--)
+				data[physical(i)] = data[physical(i - 1)];
+		}
+
+		data[physical(index)] = val;
+		size++;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public int lastIndexOf(int val) {
+		for (int i = size - 1; i >= 0; i--)
+			if (data[physical(i)] == val)
+				return i;
+
+		return -1;
+	}
+
+	@Override
+	public void prepend(int val) {
+		insert(0, val);
+	}
+
+	@Override
+	public int remove(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException();
+
+		int oldVal = data[physical(index)];
+
+		if (index < size / 2) { // Move the front one to the right
+			for (int i = index; i > 0; i--)
+				data[physical(i)] = data[physical(i - 1)];
+			head = physical(1);
+		} else { // Move the back one to the left
+			for (int i = index; i < size - 1; i++)
+				data[physical(i)] = data[physical(i + 1)];
+		}
+
+		size--;
+		shrinkIfNeeded();
+
+		return oldVal;
+	}
+
+	@Override
+	public int set(int index, int val) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException();
+
+		int oldVal = data[physical(index)];
+
+		data[physical(index)] = val;
+
+		return oldVal;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public int[] toArray() {
+		int[] arr = new int[size];
+
+		copyTo(arr);
+
+		return arr;
+	}
+
+	@Override
+	public void trimToSize() {
+		changeBackingArray(size);
+	}
+
+	/**
+	 * Returns the position in the backing array of the element at the given list
+	 * index. The index must be between 0 and the capacity of the backing array.
+	 *
+	 * @param index
+	 * @return
+	 */
+	private int physical(int index) {
+		int i = head + index;
+
+		if (i >= data.length)
+			i -= data.length;
+
+		return i;
+	}
+
+	/**
+	 * Copies the elements of this list, in order, to the start of dest. Takes at
+	 * most two bulk copies: one up to the end of the backing array and one for the
+	 * part that wrapped around.
+	 *
+	 * @param dest
+	 */
+	private void copyTo(int[] dest) {
+		int firstLen = Math.min(size, data.length - head);
+
+		System.arraycopy(data, head, dest, 0, firstLen);
+		System.arraycopy(data, 0, dest, firstLen, size - firstLen);
+	}
+
+	/**
+	 * Changes the backing array to a new array with the given size. The elements
+	 * are copied to the start of the new array, so head is reset to 0.
+	 *
+	 * @param newSize
+	 */
+	private void changeBackingArray(int newSize) {
+		int[] newData = new int[newSize];
+
+		copyTo(newData);
+
+		data = newData;
+		head = 0;
+	}
+
+	/**
+	 * Shrinks the backing array if the growth policy asks for it.
+	 */
+	private void shrinkIfNeeded() {
+		int newCapacity = policy.shrink(data.length, size);
+
+		if (newCapacity != data.length)
+			changeBackingArray(newCapacity);
+	}
+
+}
@@ -0,0 +1,78 @@
+package dynamicList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs every IntListTests test against IntRingList, plus tests for lists that
+ * wrap around the end of the backing array.
+ */
+class IntRingListTests extends IntListTests {
+
+	@Override
+	IntList newList() {
+		return new IntRingList();
+	}
+
+	/**
+	 * Using the list as a queue moves it all the way around the backing array
+	 * several times without growing it.
+	 */
+	@Test
+	void wrapTest01() {
+		IntRingList l = new IntRingList(4);
+		for (int i = 0; i < 100; i++) {
+			l.append(i);
+			l.append(i);
+			assertEquals(i, l.remove(0));
+			assertEquals(i, l.remove(0));
+		}
+
+		assertTrue(l.isEmpty());
+	}
+
+	/**
+	 * Inserting and removing in the middle of a wrapped list.
+	 */
+	@Test
+	void wrapTest02() {
+		IntRingList l = new IntRingList(8);
+		for (int i = 0; i < 6; i++)
+			l.append(i);
+		l.remove(0);
+		l.remove(0);
+		l.remove(0);
+		l.append(6);
+		l.append(7);
+		l.append(8);
+		l.insert(1, 100);
+		l.insert(5, 200);
+
+		int[] expected = { 3, 100, 4, 5, 6, 200, 7, 8 };
+		assertArrayEquals(expected, l.toArray());
+		assertEquals(200, l.remove(5));
+		assertEquals(100, l.remove(1));
+
+		int[] expected2 = { 3, 4, 5, 6, 7, 8 };
+		assertArrayEquals(expected2, l.toArray());
+	}
+
+	/**
+	 * A wrapped list keeps its order when it grows and when it is trimmed.
+	 */
+	@Test
+	void wrapTest03() {
+		IntRingList l = new IntRingList(4);
+		l.append(1);
+		l.append(2);
+		l.prepend(0);
+		l.prepend(-1);
+		l.prepend(-2);
+		l.trimToSize();
+
+		int[] expected = { -2, -1, 0, 1, 2 };
+		assertArrayEquals(expected, l.toArray());
+	}
+
+}
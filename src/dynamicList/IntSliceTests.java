@@ -0,0 +1,18 @@
+package dynamicList;
+
+/**
+ * Runs every IntListTests test against a slice in the middle of an
+ * IntDynamicList, so every edit has to leave the parent's other elements alone.
+ */
+class IntSliceTests extends IntListTests {
+
+	@Override
+	IntList newList() {
+		IntDynamicList parent = new IntDynamicList();
+		parent.append(-1);
+		parent.append(-1);
+
+		return parent.slice(1, 1);
+	}
+
+}
@@ -0,0 +1,380 @@
+package dynamicList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>
+ * A list of integers stored in a memory-mapped file. Opening a file that
+ * already holds a list only maps it, so the list is usable straight away and
+ * its pages are read from disk as they are touched. Changes are written to the
+ * file by the operating system; call {@link #force()} to make sure they have
+ * reached the disk.
+ * </p>
+ * <p>
+ * The file starts with an 8 byte header (a marker and the list's size),
+ * followed by the elements as little-endian ints. The file is extended in
+ * large steps as the list grows, so it is usually bigger than the list.
+ * Growing only maps a bigger part of the file; the elements are never copied.
+ * </p>
+ * <p>
+ * A file can hold at most {@link #MAX_CAPACITY} elements, because a single
+ * mapping can be at most 2GB in size.
+ * </p>
+ */
+public class MappedIntList implements IntList, AutoCloseable {
+
+	private static final int MAGIC = 0x494C5354; // "ILST"
+	private static final int SIZE_OFFSET = 4;
+	private static final int HEADER_BYTES = 8;
+
+	/**
+	 * The number of elements a new file has room for.
+	 */
+	private static final int MIN_CAPACITY = 1 << 16;
+
+	/**
+	 * The most elements a mapped list can hold.
+	 */
+	public static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_BYTES) / Integer.BYTES;
+
+	private final FileChannel channel;
+	private final GrowthPolicy policy;
+	private MappedByteBuffer buffer;
+	private IntBuffer data;
+	private int size;
+
+	/**
+	 * Opens the list stored in the given file, or creates an empty list if the
+	 * file doesn't exist or is empty. The file grows by doubling, but by no more
+	 * than 64MB at a time.
+	 *
+	 * @param file
+	 * @throws IOException if the file can't be opened or does not hold a list.
+	 */
+	public MappedIntList(Path file) throws IOException {
+		this(file, GrowthPolicy.cappedDoubling(1 << 24));
+	}
+
+	/**
+	 * Opens the list stored in the given file, or creates an empty list if the
+	 * file doesn't exist or is empty. The file grows according to the given
+	 * policy.
+	 *
+	 * @param file
+	 * @param policy
+	 * @throws IOException if the file can't be opened or does not hold a list.
+	 */
+	public MappedIntList(Path file, GrowthPolicy policy) throws IOException {
+		if (policy == null)
+			throw new NullPointerException();
+
+		this.policy = policy;
+		this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+
+		try {
+			open(file);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	@Override
+	public void append(int value) {
+		insert(size, value);
+	}
+
+	@Override
+	public void appendAll(IntList vals) {
+		int len = vals.size(); // Read once in case vals is this list
+
+		ensureOpen();
+		if (size + len > data.capacity())
+			remap(newCapacity(size + len));
+
+		for (int i = 0; i < len; i++)
+			data.put(size + i, vals.get(i));
+
+		setSize(size + len);
+	}
+
+	@Override
+	public void clear() {
+		ensureOpen();
+		setSize(0);
+		shrinkIfNeeded();
+	}
+
+	/**
+	 * Closes the file. The list can't be used afterwards. Closing a list that is
+	 * already closed does nothing.
+	 *
+	 * @throws IOException
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+		buffer = null;
+		data = null;
+	}
+
+	@Override
+	public boolean contains(int val) {
+		return indexOf(val) != -1;
+	}
+
+	@Override
+	public boolean equals(IntList other) {
+		ensureOpen();
+
+		if (other == null)
+			return false;
+
+		if (this.size != other.size())
+			return false;
+
+		for (int i = 0; i < size; i++)
+			if (data.get(i) != other.get(i))
+				return false;
+
+		return true;
+	}
+
+	/**
+	 * Writes any changes to the list out to the disk.
+	 */
+	public void force() {
+		ensureOpen();
+		buffer.force();
+	}
+
+	@Override
+	public int get(int index) {
+		ensureOpen();
+
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException();
+
+		return data.get(index);
+	}
+
+	@Override
+	public int indexOf(int val) {
+		ensureOpen();
+
+		for (int i = 0; i < size; i++)
+			if (data.get(i) == val)
+				return i;
+
+		return -1;
+	}
+
+	@Override
+	public void insert(int index, int val) {
+		ensureOpen();
+
+		if (index < 0 || index > size)
+			throw new IndexOutOfBoundsException();
+
+		if (size == data.capacity())
+			remap(newCapacity(size + 1));
+
+		data.put(index + 1, data, index, size - index);
+		data.put(index, val);
+		setSize(size + 1);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		ensureOpen();
+
+		return size == 0;
+	}
+
+	@Override
+	public int lastIndexOf(int val) {
+		ensureOpen();
+
+		for (int i = size - 1; i >= 0; i--)
+			if (data.get(i) == val)
+				return i;
+
+		return -1;
+	}
+
+	@Override
+	public void prepend(int val) {
+		insert(0, val);
+	}
+
+	@Override
+	public int remove(int index) {
+		ensureOpen();
+
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException();
+
+		int oldVal = data.get(index);
+
+		data.put(index, data, index + 1, size - index - 1);
+		setSize(size - 1);
+		shrinkIfNeeded();
+
+		return oldVal;
+	}
+
+	@Override
+	public int set(int index, int val) {
+		ensureOpen();
+
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException();
+
+		int oldVal = data.get(index);
+
+		data.put(index, val);
+
+		return oldVal;
+	}
+
+	@Override
+	public int size() {
+		ensureOpen();
+
+		return size;
+	}
+
+	@Override
+	public int[] toArray() {
+		ensureOpen();
+
+		int[] arr = new int[size];
+
+		data.get(0, arr, 0, size);
+
+		return arr;
+	}
+
+	/**
+	 * Truncates the file so that it only holds the list's current elements.
+	 */
+	@Override
+	public void trimToSize() {
+		ensureOpen();
+		remap(size);
+	}
+
+	/**
+	 * Maps an existing list file, or sets up a new one if the file is empty.
+	 *
+	 * @param file
+	 * @throws IOException if the file does not hold a list.
+	 */
+	private void open(Path file) throws IOException {
+		long length = channel.size();
+
+		if (length == 0) {
+			map(MIN_CAPACITY);
+			buffer.putInt(0, MAGIC);
+			setSize(0);
+			return;
+		}
+
+		if (length < HEADER_BYTES || length > HEADER_BYTES + (long) MAX_CAPACITY * Integer.BYTES)
+			throw new IOException("Not a list file: " + file);
+
+		map((int) ((length - HEADER_BYTES) / Integer.BYTES));
+		size = buffer.getInt(SIZE_OFFSET);
+
+		if (buffer.getInt(0) != MAGIC || size < 0 || size > data.capacity())
+			throw new IOException("Not a list file: " + file);
+	}
+
+	/**
+	 * Maps the header and room for the given number of elements. The file is
+	 * extended if it is too small.
+	 *
+	 * @param capacity
+	 * @throws IOException
+	 */
+	private void map(int capacity) throws IOException {
+		int bytes = capacity * Integer.BYTES;
+
+		buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + bytes);
+		buffer.order(ByteOrder.LITTLE_ENDIAN);
+		data = buffer.slice(HEADER_BYTES, bytes).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+	}
+
+	/**
+	 * Maps the file again with room for the given number of elements, truncating
+	 * the file if it shrinks.
+	 *
+	 * @param newCapacity
+	 * @throws UncheckedIOException if the file can't be mapped.
+	 */
+	private void remap(int newCapacity) {
+		try {
+			boolean shrinking = newCapacity < data.capacity();
+
+			map(newCapacity);
+			if (shrinking)
+				channel.truncate(HEADER_BYTES + (long) newCapacity * Integer.BYTES);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Changes the size of the list, both here and in the file's header.
+	 *
+	 * @param newSize
+	 */
+	private void setSize(int newSize) {
+		size = newSize;
+		buffer.putInt(SIZE_OFFSET, newSize);
+	}
+
+	/**
+	 * Throws an exception if this list has been closed.
+	 *
+	 * @throws IllegalStateException if the list is closed.
+	 */
+	private void ensureOpen() {
+		if (data == null)
+			throw new IllegalStateException("List is closed");
+	}
+
+	/**
+	 * Asks the growth policy for a new capacity of at least minCapacity, capped at
+	 * MAX_CAPACITY.
+	 *
+	 * @param minCapacity
+	 * @return
+	 * @throws OutOfMemoryError if minCapacity is greater than MAX_CAPACITY.
+	 */
+	private int newCapacity(int minCapacity) {
+		if (minCapacity > MAX_CAPACITY || minCapacity < 0)
+			throw new OutOfMemoryError("Mapped list can't hold " + minCapacity + " elements");
+
+		return Math.min(policy.grow(data.capacity(), minCapacity), MAX_CAPACITY);
+	}
+
+	/**
+	 * Shrinks the file if the growth policy asks for it.
+	 */
+	private void shrinkIfNeeded() {
+		int newCapacity = policy.shrink(data.capacity(), size);
+
+		if (newCapacity != data.capacity())
+			remap(newCapacity);
+	}
+
+}
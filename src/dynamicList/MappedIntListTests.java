@@ -0,0 +1,107 @@
+package dynamicList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Runs every IntListTests test against MappedIntList, plus tests for reopening
+ * list files.
+ */
+class MappedIntListTests extends IntListTests {
+
+	@TempDir
+	Path dir;
+
+	private final java.util.List<MappedIntList> opened = new java.util.ArrayList<>();
+
+	@Override
+	IntList newList() {
+		try {
+			MappedIntList l = new MappedIntList(Files.createTempFile(dir, "list", ".bin"));
+			opened.add(l);
+			return l;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@AfterEach
+	void closeLists() throws IOException {
+		for (MappedIntList l : opened)
+			l.close();
+	}
+
+	/**
+	 * A list written, closed and opened again has the same elements.
+	 */
+	@Test
+	void reopenTest01() throws IOException {
+		Path file = dir.resolve("reopen.bin");
+		try (MappedIntList l = new MappedIntList(file)) {
+			for (int i = 0; i < 100000; i++)
+				l.append(i);
+			l.remove(0);
+			l.force();
+		}
+
+		try (MappedIntList l = new MappedIntList(file)) {
+			assertEquals(99999, l.size());
+			for (int i = 0; i < l.size(); i++)
+				assertEquals(i + 1, l.get(i));
+		}
+	}
+
+	/**
+	 * Trimming shrinks the file to the list's elements, and the list can grow
+	 * again afterwards.
+	 */
+	@Test
+	void trimToSizeTest05() throws IOException {
+		Path file = dir.resolve("trim.bin");
+		try (MappedIntList l = new MappedIntList(file)) {
+			l.append(1);
+			l.append(2);
+			l.trimToSize();
+			assertEquals(8 + 2 * Integer.BYTES, Files.size(file));
+			l.append(3);
+
+			int[] expected = { 1, 2, 3 };
+			assertArrayEquals(expected, l.toArray());
+		}
+	}
+
+	/**
+	 * Opening a file that does not hold a list throws an exception.
+	 */
+	@Test
+	void openTest01() throws IOException {
+		Path file = dir.resolve("other.txt");
+		Files.writeString(file, "not a list at all");
+
+		assertThrows(IOException.class, () -> {
+			new MappedIntList(file);
+		});
+	}
+
+	/**
+	 * Using a closed list throws an exception.
+	 */
+	@Test
+	void closeTest01() throws IOException {
+		MappedIntList l = new MappedIntList(dir.resolve("closed.bin"));
+		l.close();
+
+		assertThrows(IllegalStateException.class, () -> {
+			l.append(0);
+		});
+	}
+
+}
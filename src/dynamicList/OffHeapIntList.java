@@ -0,0 +1,392 @@
+package dynamicList;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * <p>
+ * A list of integers stored outside of the Java heap, in a direct buffer. The
+ * garbage collector never has to scan or move the elements, which matters for
+ * lists that are gigabytes in size.
+ * </p>
+ * <p>
+ * The list must be closed once it is no longer needed. close() hands the
+ * buffer's memory back to the system straight away, and so does every resize
+ * for the buffer it replaces. Closing a list twice does nothing, and using a
+ * closed list throws an IllegalStateException.
+ * </p>
+ * <p>
+ * Freeing a buffer early relies on sun.misc.Unsafe.invokeCleaner in the
+ * jdk.unsupported module. On a JDK without it, and for any buffer that
+ * {@link #asByteBuffer()} has handed out a view of, the list only drops its
+ * reference, and the memory is returned once the garbage collector has
+ * collected the buffer and every view of it. So a program that resizes or
+ * closes big lists faster than the collector runs can still run out of direct
+ * memory there, even though the lists are closed.
+ * </p>
+ * <p>
+ * A list can hold at most {@link #MAX_CAPACITY} elements, because a direct
+ * buffer can be at most 2GB in size.
+ * </p>
+ */
+public class OffHeapIntList implements IntList, AutoCloseable {
+
+	/**
+	 * The most elements an off-heap list can hold.
+	 */
+	public static final int MAX_CAPACITY = Integer.MAX_VALUE / Integer.BYTES;
+
+	/**
+	 * Frees a direct buffer's memory at once, or null if this JDK can't.
+	 */
+	private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+	private ByteBuffer buffer;
+	private IntBuffer data;
+	private int size;
+	private final GrowthPolicy policy;
+
+	/**
+	 * Whether asByteBuffer has handed out a view of the current buffer, which
+	 * must then be left for the garbage collector instead of freed.
+	 */
+	private boolean viewed;
+
+	public OffHeapIntList() {
+		this(GrowthPolicy.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty list with room for the given number of elements before the
+	 * buffer has to grow.
+	 *
+	 * @param initialCapacity
+	 * @throws IllegalArgumentException if initialCapacity is negative or greater
+	 *                                  than MAX_CAPACITY.
+	 */
+	public OffHeapIntList(int initialCapacity) {
+		this(initialCapacity, GrowthPolicy.doubling());
+	}
+
+	/**
+	 * Creates an empty list with room for the given number of elements, growing
+	 * according to the given policy after that.
+	 *
+	 * @param initialCapacity
+	 * @param policy
+	 * @throws IllegalArgumentException if initialCapacity is negative or greater
+	 *                                  than MAX_CAPACITY.
+	 */
+	public OffHeapIntList(int initialCapacity, GrowthPolicy policy) {
+		if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY)
+			throw new IllegalArgumentException();
+		if (policy == null)
+			throw new NullPointerException();
+
+		this.size = 0;
+		this.policy = policy;
+		changeBuffer(initialCapacity);
+	}
+
+	@Override
+	public void append(int value) {
+		insert(size, value);
+	}
+
+	@Override
+	public void appendAll(IntList vals) {
+		int len = vals.size(); // Read once in case vals is this list
+
+		ensureOpen();
+		if (size + len > data.capacity())
+			changeBuffer(newCapacity(size + len));
+
+		for (int i = 0; i < len; i++)
+			data.put(size + i, vals.get(i));
+
+		size += len;
+	}
+
+	/**
+	 * Releases this list's buffer. Its memory is handed back to the system at once
+	 * unless a view from asByteBuffer still uses it or this JDK can't free direct
+	 * buffers, in which case it is returned once the buffer is garbage collected.
+	 * The list can't be used afterwards. Closing a list that is already closed
+	 * does nothing.
+	 */
+	@Override
+	public void close() {
+		if (buffer == null)
+			return;
+
+		release();
+		buffer = null;
+		data = null;
+		size = 0;
+	}
+
+	@Override
+	public void clear() {
+		ensureOpen();
+		size = 0;
+		shrinkIfNeeded();
+	}
+
+	@Override
+	public boolean contains(int val) {
+		return indexOf(val) != -1;
+	}
+
+	@Override
+	public boolean equals(IntList other) {
+		ensureOpen();
+
+		if (other == null)
+			return false;
+
+		if (this.size != other.size())
+			return false;
+
+		for (int i = 0; i < size; i++)
+			if (data.get(i) != other.get(i))
+				return false;
+
+		return true;
+	}
+
+	@Override
+	public int get(int index) {
+		ensureOpen();
+
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException();
+
+		return data.get(index);
+	}
+
+	@Override
+	public int indexOf(int val) {
+		ensureOpen();
+
+		for (int i = 0; i < size; i++)
+			if (data.get(i) == val)
+				return i;
+
+		return -1;
+	}
+
+	@Override
+	public void insert(int index, int val) {
+		ensureOpen();
+
+		if (index < 0 || index > size)
+			throw new IndexOutOfBoundsException();
+
+		if (size == data.capacity())
+			changeBuffer(newCapacity(size + 1));
+
+		data.put(index + 1, data, index, size - index);
+		data.put(index, val);
+		size++;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		ensureOpen();
+
+		return size == 0;
+	}
+
+	@Override
+	public int lastIndexOf(int val) {
+		ensureOpen();
+
+		for (int i = size - 1; i >= 0; i--)
+			if (data.get(i) == val)
+				return i;
+
+		return -1;
+	}
+
+	@Override
+	public void prepend(int val) {
+		insert(0, val);
+	}
+
+	@Override
+	public int remove(int index) {
+		ensureOpen();
+
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException();
+
+		int oldVal = data.get(index);
+
+		data.put(index, data, index + 1, size - index - 1);
+		size--;
+		shrinkIfNeeded();
+
+		return oldVal;
+	}
+
+	@Override
+	public int set(int index, int val) {
+		ensureOpen();
+
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException();
+
+		int oldVal = data.get(index);
+
+		data.put(index, val);
+
+		return oldVal;
+	}
+
+	@Override
+	public int size() {
+		ensureOpen();
+
+		return size;
+	}
+
+	@Override
+	public int[] toArray() {
+		ensureOpen();
+
+		int[] arr = new int[size];
+
+		data.get(0, arr, 0, size);
+
+		return arr;
+	}
+
+	@Override
+	public void trimToSize() {
+		ensureOpen();
+		changeBuffer(size);
+	}
+
+	/**
+	 * <p>
+	 * Returns a read-only view of this list's elements as bytes, in the platform's
+	 * native byte order, without copying them. The view can be handed straight to
+	 * an NIO channel. Its position is 0 and its limit is the end of the last
+	 * element.
+	 * </p>
+	 * <p>
+	 * The view shares memory with the list, so changes to existing elements show
+	 * up in it. It does not follow the list once the buffer is replaced (when the
+	 * list grows, shrinks or is trimmed). The buffer behind a view is never freed
+	 * early, so the view stays safe to read, but it should not be used after the
+	 * list is closed.
+	 * </p>
+	 *
+	 * @return
+	 */
+	public ByteBuffer asByteBuffer() {
+		ensureOpen();
+		viewed = true;
+
+		ByteBuffer view = buffer.asReadOnlyBuffer().order(ByteOrder.nativeOrder());
+		view.limit(size * Integer.BYTES);
+
+		return view;
+	}
+
+	/**
+	 * Throws an exception if this list has been closed.
+	 *
+	 * @throws IllegalStateException if the list is closed.
+	 */
+	private void ensureOpen() {
+		if (data == null)
+			throw new IllegalStateException("List is closed");
+	}
+
+	/**
+	 * Asks the growth policy for a new capacity of at least minCapacity, capped at
+	 * MAX_CAPACITY.
+	 *
+	 * @param minCapacity
+	 * @return
+	 * @throws OutOfMemoryError if minCapacity is greater than MAX_CAPACITY.
+	 */
+	private int newCapacity(int minCapacity) {
+		if (minCapacity > MAX_CAPACITY || minCapacity < 0)
+			throw new OutOfMemoryError("Off-heap list can't hold " + minCapacity + " elements");
+
+		return Math.min(policy.grow(data.capacity(), minCapacity), MAX_CAPACITY);
+	}
+
+	/**
+	 * Replaces the buffer with a new buffer that holds the given number of
+	 * elements, and copies the list's elements into it.
+	 *
+	 * @param newCapacity
+	 */
+	private void changeBuffer(int newCapacity) {
+		ByteBuffer newBuffer = ByteBuffer.allocateDirect(newCapacity * Integer.BYTES).order(ByteOrder.nativeOrder());
+		IntBuffer newData = newBuffer.asIntBuffer();
+
+		if (data != null) {
+			newData.put(0, data, 0, size);
+			release();
+		}
+
+		buffer = newBuffer;
+		data = newData;
+		viewed = false;
+	}
+
+	/**
+	 * Frees the current buffer's memory now, unless a view of it has been handed
+	 * out or this JDK can't. The buffer must not be used afterwards.
+	 */
+	private void release() {
+		if (INVOKE_CLEANER == null || viewed)
+			return;
+
+		try {
+			INVOKE_CLEANER.invokeExact(buffer);
+		} catch (Throwable e) {
+			// Left for the garbage collector, as if this JDK couldn't free it
+		}
+	}
+
+	/**
+	 * Looks up sun.misc.Unsafe.invokeCleaner, which frees a direct buffer's memory
+	 * without waiting for the garbage collector.
+	 *
+	 * @return The method bound to the Unsafe instance, or null if it isn't
+	 *         available.
+	 */
+	private static MethodHandle findInvokeCleaner() {
+		try {
+			Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+			Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+			theUnsafe.setAccessible(true);
+
+			MethodType type = MethodType.methodType(void.class, ByteBuffer.class);
+			return MethodHandles.lookup().findVirtual(unsafeClass, "invokeCleaner", type).bindTo(theUnsafe.get(null));
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Shrinks the buffer if the growth policy asks for it.
+	 */
+	private void shrinkIfNeeded() {
+		int newCapacity = policy.shrink(data.capacity(), size);
+
+		if (newCapacity != data.capacity())
+			changeBuffer(newCapacity);
+	}
+
+}
@@ -0,0 +1,110 @@
+package dynamicList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs every IntListTests test against OffHeapIntList, plus tests for closing
+ * the list and for its byte view.
+ */
+class OffHeapIntListTests extends IntListTests {
+
+	@Override
+	IntList newList() {
+		return new OffHeapIntList();
+	}
+
+	/**
+	 * Using a closed list throws an exception. Closing it twice does not.
+	 */
+	@Test
+	void closeTest01() {
+		OffHeapIntList l = new OffHeapIntList();
+		l.append(1);
+		l.close();
+		l.close();
+
+		assertThrows(IllegalStateException.class, () -> {
+			l.get(0);
+		});
+		assertThrows(IllegalStateException.class, () -> {
+			l.append(0);
+		});
+		assertThrows(IllegalStateException.class, () -> {
+			l.size();
+		});
+		assertThrows(IllegalStateException.class, () -> {
+			l.asByteBuffer();
+		});
+	}
+
+	/**
+	 * The byte view covers exactly the list's elements.
+	 */
+	@Test
+	void asByteBufferTest01() {
+		try (OffHeapIntList l = new OffHeapIntList()) {
+			for (int i = 0; i < 100; i++)
+				l.append(i * 3);
+
+			ByteBuffer view = l.asByteBuffer();
+			assertEquals(0, view.position());
+			assertEquals(400, view.limit());
+			assertTrue(view.isReadOnly());
+			assertTrue(view.isDirect());
+			for (int i = 0; i < 100; i++)
+				assertEquals(i * 3, view.getInt(i * Integer.BYTES));
+		}
+	}
+
+	/**
+	 * A view stays readable after the list grows past it and after the list is
+	 * closed, since the buffer behind it is not freed early.
+	 */
+	@Test
+	void asByteBufferTest02() {
+		OffHeapIntList l = new OffHeapIntList(4);
+		for (int i = 0; i < 4; i++)
+			l.append(i + 10);
+
+		ByteBuffer view = l.asByteBuffer();
+		for (int i = 0; i < 1000; i++)
+			l.append(i);
+		l.trimToSize();
+		l.close();
+
+		for (int i = 0; i < 4; i++)
+			assertEquals(i + 10, view.getInt(i * Integer.BYTES));
+	}
+
+	/**
+	 * Growing, shrinking and closing many lists frees their buffers as it goes.
+	 */
+	@Test
+	void closeTest02() {
+		for (int n = 0; n < 20; n++) {
+			OffHeapIntList l = new OffHeapIntList(0);
+			for (int i = 0; i < 100000; i++)
+				l.append(i);
+			while (l.size() > 10)
+				l.remove(l.size() - 1);
+
+			assertEquals(9, l.get(9));
+			l.close();
+		}
+	}
+
+	/**
+	 * A negative initial capacity throws an exception.
+	 */
+	@Test
+	void constructorTest01() {
+		assertThrows(IllegalArgumentException.class, () -> {
+			new OffHeapIntList(-1);
+		});
+	}
+
+}
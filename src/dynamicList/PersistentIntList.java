@@ -0,0 +1,386 @@
+package dynamicList;
+
+/**
+ * <p>
+ * The int version of {@link PersistentList}: an immutable list that keeps its
+ * old versions cheaply. Every change returns a new list and leaves the old one
+ * as it was, but the two share everything except the O(log n) nodes on the
+ * path to the change.
+ * </p>
+ * <p>
+ * The values are stored in the same {@link RrbTree} as PersistentList's, but
+ * the leaves hold their values in an int[], so values are never boxed. get,
+ * updated, appended, inserted, removed and concat are all O(log n), and the
+ * height stays at most log2(n) + 1. indexOf, lastIndexOf, equals and toArray
+ * are O(n).
+ * </p>
+ * <p>
+ * The IntList methods that would change the list in place throw an
+ * UnsupportedOperationException. Use {@link #builder()} to build a big list
+ * quickly, without making a new version for every value.
+ * </p>
+ */
+public final class PersistentIntList implements IntList {
+
+	private static final PersistentIntList EMPTY = new PersistentIntList(RrbTree.empty(int[]::new));
+
+	private final RrbTree tree;
+
+	private PersistentIntList(RrbTree tree) {
+		this.tree = tree;
+	}
+
+	/**
+	 * Returns the empty list.
+	 *
+	 * @return
+	 */
+	public static PersistentIntList empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Returns a list of the given values.
+	 *
+	 * @param vals
+	 * @return
+	 */
+	public static PersistentIntList of(int... vals) {
+		Builder builder = builder();
+		for (int val : vals)
+			builder.append(val);
+
+		return builder.build();
+	}
+
+	/**
+	 * Returns a builder that collects values in place and then turns them into a
+	 * list in one go, which is much faster than appending them one version at a
+	 * time.
+	 *
+	 * @return
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Returns a new list with the given value added to the end.
+	 *
+	 * @param val
+	 * @return
+	 */
+	public PersistentIntList appended(int val) {
+		return inserted(tree.size, val);
+	}
+
+	/**
+	 * Returns a new list with the values of this list followed by the values of
+	 * the other list. Neither list is copied; the new list shares the nodes of
+	 * both.
+	 *
+	 * @param other
+	 * @return
+	 */
+	public PersistentIntList concat(PersistentIntList other) {
+		if (tree.size == 0)
+			return other;
+		if (other.tree.size == 0)
+			return this;
+
+		return new PersistentIntList(tree.concat(other.tree));
+	}
+
+	/**
+	 * Returns a new list with the given value inserted at the given index,
+	 * shifting the values after it to the right.
+	 *
+	 * @param index
+	 * @param val
+	 * @return
+	 * @throws IndexOutOfBoundsException if the given index is not between 0 and
+	 *                                   size inclusive.
+	 */
+	public PersistentIntList inserted(int index, int val) {
+		if (index < 0 || index > tree.size)
+			throw new IndexOutOfBoundsException();
+
+		return new PersistentIntList(tree.inserted(index, (values, i) -> ((int[]) values)[i] = val));
+	}
+
+	/**
+	 * Returns a new list with the given value added to the front.
+	 *
+	 * @param val
+	 * @return
+	 */
+	public PersistentIntList prepended(int val) {
+		return inserted(0, val);
+	}
+
+	/**
+	 * Returns a new list without the value at the given index, shifting the
+	 * values after it to the left.
+	 *
+	 * @param index
+	 * @return
+	 * @throws IndexOutOfBoundsException if the given index is not between 0 and
+	 *                                   (size - 1) inclusive.
+	 */
+	public PersistentIntList removed(int index) {
+		if (index < 0 || index >= tree.size)
+			throw new IndexOutOfBoundsException();
+
+		if (tree.size == 1)
+			return empty();
+
+		return new PersistentIntList(tree.removed(index));
+	}
+
+	/**
+	 * Returns a new list with the value at the given index replaced by the given
+	 * value.
+	 *
+	 * @param index
+	 * @param val
+	 * @return
+	 * @throws IndexOutOfBoundsException if the given index is not between 0 and
+	 *                                   (size - 1) inclusive.
+	 */
+	public PersistentIntList updated(int index, int val) {
+		if (index < 0 || index >= tree.size)
+			throw new IndexOutOfBoundsException();
+
+		return new PersistentIntList(tree.updated(index, (values, i) -> ((int[]) values)[i] = val));
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always. Use appended instead.
+	 */
+	@Override
+	public void append(int value) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always. Use concat instead.
+	 */
+	@Override
+	public void appendAll(IntList vals) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always. Use empty instead.
+	 */
+	@Override
+	public void clear() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean contains(int val) {
+		return indexOf(val) != -1;
+	}
+
+	/**
+	 * Compares the values leaf by leaf with the other list's, without copying
+	 * either list.
+	 */
+	@Override
+	public boolean equals(IntList other) {
+		if (other == null)
+			return false;
+
+		if (tree.size != other.size())
+			return false;
+
+		return tree.search(false, (values, length, start) -> {
+			int[] arr = (int[]) values;
+			for (int i = 0; i < length; i++)
+				if (arr[i] != other.get(start + i))
+					return start + i;
+
+			return -1;
+		}) == -1;
+	}
+
+	@Override
+	public int get(int index) {
+		if (index < 0 || index >= tree.size)
+			throw new IndexOutOfBoundsException();
+
+		RrbTree.Node n = tree.root;
+		for (int h = tree.height; h > 0; h--) {
+			int i = n.slot(h, index);
+			index -= n.offset(i);
+			n = n.children[i];
+		}
+
+		return ((int[]) n.values)[index];
+	}
+
+	@Override
+	public int indexOf(int val) {
+		return tree.search(false, (values, length, start) -> {
+			int[] arr = (int[]) values;
+			for (int i = 0; i < length; i++)
+				if (arr[i] == val)
+					return start + i;
+
+			return -1;
+		});
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always. Use inserted instead.
+	 */
+	@Override
+	public void insert(int index, int val) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return tree.size == 0;
+	}
+
+	@Override
+	public int lastIndexOf(int val) {
+		return tree.search(true, (values, length, start) -> {
+			int[] arr = (int[]) values;
+			for (int i = length - 1; i >= 0; i--)
+				if (arr[i] == val)
+					return start + i;
+
+			return -1;
+		});
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always. Use prepended instead.
+	 */
+	@Override
+	public void prepend(int val) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always. Use removed instead.
+	 */
+	@Override
+	public int remove(int index) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always. Use updated instead.
+	 */
+	@Override
+	public int set(int index, int val) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int size() {
+		return tree.size;
+	}
+
+	@Override
+	public int[] toArray() {
+		int[] arr = new int[tree.size];
+		tree.copyTo(arr);
+
+		return arr;
+	}
+
+	/**
+	 * Does nothing, since the list can't be changed.
+	 */
+	@Override
+	public void trimToSize() {
+	}
+
+	/**
+	 * Returns the height of the tree, for the tests that check it stays
+	 * logarithmic.
+	 *
+	 * @return
+	 */
+	int height() {
+		return tree.height;
+	}
+
+	/**
+	 * Collects values into full leaves in place, then builds the tree above them
+	 * in one pass. A builder can keep being used after build; the lists it has
+	 * already built are not affected.
+	 */
+	public static final class Builder {
+
+		private final RrbTree.Builder leaves;
+		private int[] tail;
+		private int tailSize;
+
+		private Builder() {
+			this.leaves = new RrbTree.Builder(int[]::new);
+			this.tail = new int[RrbTree.WIDTH];
+			this.tailSize = 0;
+		}
+
+		/**
+		 * Adds the given value to the end of the list being built.
+		 *
+		 * @param val
+		 * @return This builder.
+		 */
+		public Builder append(int val) {
+			tail[tailSize++] = val;
+
+			if (tailSize == RrbTree.WIDTH) {
+				leaves.addLeaf(tail);
+				tail = new int[RrbTree.WIDTH];
+				tailSize = 0;
+			}
+
+			return this;
+		}
+
+		/**
+		 * Adds all of the values of the given list to the end of the list being
+		 * built.
+		 *
+		 * @param vals
+		 * @return This builder.
+		 */
+		public Builder appendAll(IntList vals) {
+			int len = vals.size();
+			for (int i = 0; i < len; i++)
+				append(vals.get(i));
+
+			return this;
+		}
+
+		/**
+		 * Returns the number of values added so far.
+		 *
+		 * @return
+		 */
+		public int size() {
+			return leaves.size() + tailSize;
+		}
+
+		/**
+		 * Returns a list of every value added so far.
+		 *
+		 * @return
+		 */
+		public PersistentIntList build() {
+			if (size() == 0)
+				return empty();
+
+			return new PersistentIntList(leaves.build(tail, tailSize));
+		}
+	}
+
+}
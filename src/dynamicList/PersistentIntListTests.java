@@ -0,0 +1,275 @@
+package dynamicList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for PersistentIntList. Each test also checks that the versions a
+ * change started from are left as they were.
+ */
+class PersistentIntListTests {
+
+	/**
+	 * Appending builds the list in order across many leaves and levels.
+	 */
+	@Test
+	void appendedTest01() {
+		PersistentIntList l = PersistentIntList.empty();
+		for (int i = 0; i < 40000; i++)
+			l = l.appended(i);
+
+		assertEquals(40000, l.size());
+		for (int i = 0; i < 40000; i++)
+			assertEquals(i, l.get(i));
+	}
+
+	/**
+	 * Appending to an old version doesn't change the newer one.
+	 */
+	@Test
+	void appendedTest02() {
+		PersistentIntList l1 = PersistentIntList.of(1, 2);
+		PersistentIntList l2 = l1.appended(3);
+		PersistentIntList l3 = l1.appended(4);
+
+		assertArrayEquals(new int[] { 1, 2 }, l1.toArray());
+		assertArrayEquals(new int[] { 1, 2, 3 }, l2.toArray());
+		assertArrayEquals(new int[] { 1, 2, 4 }, l3.toArray());
+	}
+
+	/**
+	 * The builder makes the same list as appending one value at a time, and
+	 * keeps working after build.
+	 */
+	@Test
+	void builderTest01() {
+		PersistentIntList.Builder b = PersistentIntList.builder();
+		PersistentIntList appended = PersistentIntList.empty();
+		for (int i = 0; i < 5000; i++) {
+			b.append(i);
+			appended = appended.appended(i);
+		}
+		PersistentIntList built = b.build();
+
+		assertEquals(5000, b.size());
+		assertTrue(built.equals(appended));
+
+		b.append(-1);
+		PersistentIntList more = b.build();
+		assertEquals(5000, built.size());
+		assertEquals(5001, more.size());
+		assertEquals(-1, more.get(5000));
+		assertSame(PersistentIntList.empty(), PersistentIntList.builder().build());
+	}
+
+	/**
+	 * Concatenating lists of very different sizes keeps every value in order, and
+	 * leaves both lists as they were.
+	 */
+	@Test
+	void concatTest01() {
+		PersistentIntList big = range(0, 3000);
+		PersistentIntList small = range(3000, 3005);
+
+		PersistentIntList both = big.concat(small);
+		PersistentIntList reversed = small.concat(big);
+
+		assertEquals(3005, both.size());
+		for (int i = 0; i < 3005; i++)
+			assertEquals(i, both.get(i));
+
+		assertEquals(3005, reversed.size());
+		for (int i = 0; i < 5; i++)
+			assertEquals(3000 + i, reversed.get(i));
+		for (int i = 0; i < 3000; i++)
+			assertEquals(i, reversed.get(5 + i));
+
+		assertEquals(3000, big.size());
+		assertEquals(5, small.size());
+		assertSame(big, big.concat(PersistentIntList.empty()));
+	}
+
+	/**
+	 * Concatenating small lists on both sides, and removing from the middle,
+	 * keeps the tree shallow.
+	 */
+	@Test
+	void concatTest02() {
+		PersistentIntList l = PersistentIntList.empty();
+		for (int i = 0; i < 20000; i++)
+			l = i % 2 == 0 ? l.concat(range(0, i % 7 + 1)) : range(0, i % 5 + 1).concat(l);
+
+		assertTrue(l.height() <= 4);
+		while (l.size() > 100)
+			l = l.removed(l.size() / 3);
+
+		assertTrue(l.height() <= 2);
+		assertEquals(100, l.size());
+	}
+
+	/**
+	 * equals compares against any kind of IntList, and get checks its index.
+	 */
+	@Test
+	void equalsTest01() {
+		IntDynamicList d = new IntDynamicList();
+		d.append(1);
+		d.append(2);
+
+		assertTrue(PersistentIntList.of(1, 2).equals(d));
+		assertFalse(PersistentIntList.of(1, 3).equals(d));
+		assertFalse(PersistentIntList.of(1).equals(d));
+		assertFalse(PersistentIntList.of(1).equals(null));
+
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			PersistentIntList.of(1).get(1);
+		});
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			PersistentIntList.empty().get(0);
+		});
+	}
+
+	/**
+	 * indexOf, lastIndexOf and contains search across leaves.
+	 */
+	@Test
+	void indexOfTest01() {
+		PersistentIntList l = range(0, 1000).concat(range(0, 1000));
+
+		assertEquals(500, l.indexOf(500));
+		assertEquals(1500, l.lastIndexOf(500));
+		assertTrue(l.contains(999));
+		assertFalse(l.contains(1000));
+		assertEquals(-1, l.indexOf(-1));
+		assertEquals(-1, l.lastIndexOf(-1));
+	}
+
+	/**
+	 * Inserting in the middle over and over splits nodes and keeps the order, and
+	 * inserted checks its index.
+	 */
+	@Test
+	void insertedTest01() {
+		PersistentIntList l = PersistentIntList.empty();
+		IntDynamicList expected = new IntDynamicList();
+		for (int i = 0; i < 3000; i++) {
+			l = l.inserted(l.size() / 2, i);
+			expected.insert(expected.size() / 2, i);
+		}
+
+		assertArrayEquals(expected.toArray(), l.toArray());
+		assertArrayEquals(new int[] { 0, 1 }, PersistentIntList.of(1).prepended(0).toArray());
+
+		PersistentIntList one = PersistentIntList.of(1);
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			one.inserted(2, 0);
+		});
+	}
+
+	/**
+	 * Removing every value, from the front, leaves the empty list, and updated
+	 * replaces one value without touching the old version.
+	 */
+	@Test
+	void removedTest01() {
+		PersistentIntList l = range(0, 2000);
+		PersistentIntList original = l;
+		for (int i = 0; i < 2000; i++) {
+			assertEquals(i, l.get(0));
+			l = l.removed(0);
+		}
+
+		assertTrue(l.isEmpty());
+		assertTrue(original.equals(range(0, 2000)));
+
+		PersistentIntList changed = original.updated(70, -70);
+		assertEquals(-70, changed.get(70));
+		assertEquals(70, original.get(70));
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			PersistentIntList.empty().removed(0);
+		});
+	}
+
+	/**
+	 * The in-place IntList methods are not supported.
+	 */
+	@Test
+	void unsupportedTest01() {
+		PersistentIntList l = PersistentIntList.of(1);
+
+		assertThrows(UnsupportedOperationException.class, () -> {
+			l.append(2);
+		});
+		assertThrows(UnsupportedOperationException.class, () -> {
+			l.set(0, 2);
+		});
+		assertThrows(UnsupportedOperationException.class, () -> {
+			l.remove(0);
+		});
+		assertThrows(UnsupportedOperationException.class, () -> {
+			l.clear();
+		});
+	}
+
+	/**
+	 * A random mix of changes matches an IntDynamicList making the same changes,
+	 * and every version stays as it was.
+	 */
+	@Test
+	void randomTest01() {
+		Random random = new Random(22);
+		PersistentIntList l = PersistentIntList.empty();
+		IntDynamicList expected = new IntDynamicList();
+		ArrayList<PersistentIntList> versions = new ArrayList<PersistentIntList>();
+		ArrayList<int[]> contents = new ArrayList<int[]>();
+
+		for (int step = 0; step < 5000; step++) {
+			int op = random.nextInt(5);
+			if (op == 0 && expected.size() > 0) {
+				int index = random.nextInt(expected.size());
+				l = l.removed(index);
+				expected.remove(index);
+			} else if (op == 1 && expected.size() > 0) {
+				int index = random.nextInt(expected.size());
+				l = l.updated(index, step);
+				expected.set(index, step);
+			} else if (op == 2) {
+				int len = random.nextInt(100);
+				PersistentIntList other = range(step, step + len);
+				boolean atEnd = random.nextBoolean();
+				l = atEnd ? l.concat(other) : other.concat(l);
+				for (int i = 0; i < len; i++)
+					expected.insert(atEnd ? expected.size() : i, step + i);
+			} else {
+				int index = random.nextInt(expected.size() + 1);
+				l = l.inserted(index, step);
+				expected.insert(index, step);
+			}
+
+			if (step % 100 == 0) {
+				versions.add(l);
+				contents.add(l.toArray());
+			}
+			assertEquals(expected.size(), l.size());
+		}
+
+		assertArrayEquals(expected.toArray(), l.toArray());
+		for (int i = 0; i < expected.size(); i++)
+			assertEquals(expected.get(i), l.get(i));
+		for (int v = 0; v < versions.size(); v++)
+			assertArrayEquals(contents.get(v), versions.get(v).toArray());
+	}
+
+	private static PersistentIntList range(int from, int to) {
+		PersistentIntList.Builder b = PersistentIntList.builder();
+		for (int i = from; i < to; i++)
+			b.append(i);
+
+		return b.build();
+	}
+
+}
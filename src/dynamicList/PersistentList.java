@@ -0,0 +1,412 @@
+package dynamicList;
+
+/**
+ * <p>
+ * An immutable list that keeps its old versions cheaply. Every change returns
+ * a new list and leaves the old one as it was, but the two share everything
+ * except the O(log n) nodes on the path to the change. Keeping thousands of
+ * versions of a big list therefore costs little more than keeping one.
+ * </p>
+ * <p>
+ * The elements are stored in an {@link RrbTree}, a relaxed radix-balanced tree
+ * with up to 32 elements per leaf and 32 children per node. Nodes don't have
+ * to be full, so two trees can be concatenated without copying either one,
+ * and removals and concatenations merge nodes that get too small, so the
+ * height stays at most log2(n) + 1. get, updated, appended, inserted, removed
+ * and concat are all O(log n), copying at most two nodes of up to 32 slots per
+ * level. indexOf, lastIndexOf, equals and toArray are O(n).
+ * </p>
+ * <p>
+ * The List methods that would change the list in place throw an
+ * UnsupportedOperationException. Use {@link #builder()} to build a big list
+ * quickly, without making a new version for every element.
+ * </p>
+ *
+ * @param <T>
+ */
+public final class PersistentList<T> implements List<T> {
+
+	private static final PersistentList<?> EMPTY = new PersistentList<Object>(RrbTree.empty(Object[]::new));
+
+	private final RrbTree tree;
+
+	private PersistentList(RrbTree tree) {
+		this.tree = tree;
+	}
+
+	/**
+	 * Returns the empty list.
+	 *
+	 * @param <T>
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> PersistentList<T> empty() {
+		return (PersistentList<T>) EMPTY;
+	}
+
+	/**
+	 * Returns a list of the given elements.
+	 *
+	 * @param <T>
+	 * @param elements
+	 * @return
+	 */
+	@SafeVarargs
+	public static <T> PersistentList<T> of(T... elements) {
+		Builder<T> builder = builder();
+		for (T e : elements)
+			builder.append(e);
+
+		return builder.build();
+	}
+
+	/**
+	 * Returns a builder that collects elements in place and then turns them into
+	 * a list in one go, which is much faster than appending them one version at a
+	 * time.
+	 *
+	 * @param <T>
+	 * @return
+	 */
+	public static <T> Builder<T> builder() {
+		return new Builder<T>();
+	}
+
+	/**
+	 * Returns a new list with the given element added to the end.
+	 *
+	 * @param e
+	 * @return
+	 */
+	public PersistentList<T> appended(T e) {
+		return inserted(tree.size, e);
+	}
+
+	/**
+	 * Returns a new list with the elements of this list followed by the elements
+	 * of the other list. Neither list is copied; the new list shares the nodes of
+	 * both.
+	 *
+	 * @param other
+	 * @return
+	 */
+	public PersistentList<T> concat(PersistentList<T> other) {
+		if (tree.size == 0)
+			return other;
+		if (other.tree.size == 0)
+			return this;
+
+		return new PersistentList<T>(tree.concat(other.tree));
+	}
+
+	/**
+	 * Returns a new list with the given element inserted at the given index,
+	 * shifting the elements after it to the right.
+	 *
+	 * @param index
+	 * @param e
+	 * @return
+	 * @throws IndexOutOfBoundsException if the given index is not between 0 and
+	 *                                   size inclusive.
+	 */
+	public PersistentList<T> inserted(int index, T e) {
+		if (index < 0 || index > tree.size)
+			throw new IndexOutOfBoundsException();
+
+		return new PersistentList<T>(tree.inserted(index, (values, i) -> ((Object[]) values)[i] = e));
+	}
+
+	/**
+	 * Returns a new list with the given element added to the front.
+	 *
+	 * @param e
+	 * @return
+	 */
+	public PersistentList<T> prepended(T e) {
+		return inserted(0, e);
+	}
+
+	/**
+	 * Returns a new list without the element at the given index, shifting the
+	 * elements after it to the left.
+	 *
+	 * @param index
+	 * @return
+	 * @throws IndexOutOfBoundsException if the given index is not between 0 and
+	 *                                   (size - 1) inclusive.
+	 */
+	public PersistentList<T> removed(int index) {
+		if (index < 0 || index >= tree.size)
+			throw new IndexOutOfBoundsException();
+
+		if (tree.size == 1)
+			return empty();
+
+		return new PersistentList<T>(tree.removed(index));
+	}
+
+	/**
+	 * Returns a new list with the element at the given index replaced by the given
+	 * element.
+	 *
+	 * @param index
+	 * @param e
+	 * @return
+	 * @throws IndexOutOfBoundsException if the given index is not between 0 and
+	 *                                   (size - 1) inclusive.
+	 */
+	public PersistentList<T> updated(int index, T e) {
+		if (index < 0 || index >= tree.size)
+			throw new IndexOutOfBoundsException();
+
+		return new PersistentList<T>(tree.updated(index, (values, i) -> ((Object[]) values)[i] = e));
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always. Use appended instead.
+	 */
+	@Override
+	public void append(T e) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always. Use concat instead.
+	 */
+	@Override
+	public void appendAll(List<T> list) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always. Use empty instead.
+	 */
+	@Override
+	public void clear() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean contains(T e) {
+		return indexOf(e) != -1;
+	}
+
+	/**
+	 * Compares the elements leaf by leaf with the other list's, without copying
+	 * either list.
+	 */
+	@Override
+	public boolean equals(List<T> other) {
+		if (other == null)
+			return false;
+
+		if (tree.size != other.size())
+			return false;
+
+		return tree.search(false, (values, length, start) -> {
+			Object[] arr = (Object[]) values;
+			for (int i = 0; i < length; i++)
+				if (!areEqual(arr[i], other.get(start + i)))
+					return start + i;
+
+			return -1;
+		}) == -1;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(int index) {
+		if (index < 0 || index >= tree.size)
+			throw new IndexOutOfBoundsException();
+
+		RrbTree.Node n = tree.root;
+		for (int h = tree.height; h > 0; h--) {
+			int i = n.slot(h, index);
+			index -= n.offset(i);
+			n = n.children[i];
+		}
+
+		return (T) ((Object[]) n.values)[index];
+	}
+
+	@Override
+	public int indexOf(T e) {
+		return tree.search(false, (values, length, start) -> {
+			Object[] arr = (Object[]) values;
+			for (int i = 0; i < length; i++)
+				if (areEqual(arr[i], e))
+					return start + i;
+
+			return -1;
+		});
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always. Use inserted instead.
+	 */
+	@Override
+	public void insert(int index, T e) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return tree.size == 0;
+	}
+
+	@Override
+	public int lastIndexOf(T e) {
+		return tree.search(true, (values, length, start) -> {
+			Object[] arr = (Object[]) values;
+			for (int i = length - 1; i >= 0; i--)
+				if (areEqual(arr[i], e))
+					return start + i;
+
+			return -1;
+		});
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always. Use prepended instead.
+	 */
+	@Override
+	public void prepend(T e) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always. Use removed instead.
+	 */
+	@Override
+	public T remove(int index) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always. Use updated instead.
+	 */
+	@Override
+	public T set(int index, T e) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int size() {
+		return tree.size;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T[] toArray() {
+		Object[] arr = new Object[tree.size];
+		tree.copyTo(arr);
+
+		return (T[]) arr;
+	}
+
+	/**
+	 * Does nothing, since the list can't be changed.
+	 */
+	@Override
+	public void trimToSize() {
+	}
+
+	/**
+	 * Returns the height of the tree, for the tests that check it stays
+	 * logarithmic.
+	 *
+	 * @return
+	 */
+	int height() {
+		return tree.height;
+	}
+
+	/**
+	 * Checks if two elements are equal, treating null values as equal.
+	 *
+	 * @param e1
+	 * @param e2
+	 * @return
+	 */
+	private static boolean areEqual(Object e1, Object e2) {
+		if (e1 == null)
+			return e2 == null;
+		return e1.equals(e2);
+	}
+
+	/**
+	 * Collects elements into full leaves in place, then builds the tree above
+	 * them in one pass. A builder can keep being used after build; the lists it
+	 * has already built are not affected.
+	 *
+	 * @param <T>
+	 */
+	public static final class Builder<T> {
+
+		private final RrbTree.Builder leaves;
+		private Object[] tail;
+		private int tailSize;
+
+		private Builder() {
+			this.leaves = new RrbTree.Builder(Object[]::new);
+			this.tail = new Object[RrbTree.WIDTH];
+			this.tailSize = 0;
+		}
+
+		/**
+		 * Adds the given element to the end of the list being built.
+		 *
+		 * @param e
+		 * @return This builder.
+		 */
+		public Builder<T> append(T e) {
+			tail[tailSize++] = e;
+
+			if (tailSize == RrbTree.WIDTH) {
+				leaves.addLeaf(tail);
+				tail = new Object[RrbTree.WIDTH];
+				tailSize = 0;
+			}
+
+			return this;
+		}
+
+		/**
+		 * Adds all of the elements of the given list to the end of the list being
+		 * built.
+		 *
+		 * @param list
+		 * @return This builder.
+		 */
+		public Builder<T> appendAll(List<T> list) {
+			int len = list.size();
+			for (int i = 0; i < len; i++)
+				append(list.get(i));
+
+			return this;
+		}
+
+		/**
+		 * Returns the number of elements added so far.
+		 *
+		 * @return
+		 */
+		public int size() {
+			return leaves.size() + tailSize;
+		}
+
+		/**
+		 * Returns a list of every element added so far.
+		 *
+		 * @return
+		 */
+		public PersistentList<T> build() {
+			if (size() == 0)
+				return empty();
+
+			return new PersistentList<T>(leaves.build(tail, tailSize));
+		}
+	}
+
+}
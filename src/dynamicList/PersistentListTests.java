@@ -0,0 +1,337 @@
+package dynamicList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for PersistentList. Each test also checks that the versions a change
+ * started from are left as they were.
+ */
+class PersistentListTests {
+
+	/**
+	 * Appending builds the list in order across many leaves and levels.
+	 */
+	@Test
+	void appendedTest01() {
+		PersistentList<Integer> l = PersistentList.empty();
+		for (int i = 0; i < 40000; i++)
+			l = l.appended(i);
+
+		assertEquals(40000, l.size());
+		for (int i = 0; i < 40000; i++)
+			assertEquals(i, l.get(i));
+	}
+
+	/**
+	 * Appending to an old version doesn't change the newer one.
+	 */
+	@Test
+	void appendedTest02() {
+		PersistentList<String> l1 = PersistentList.of("a", "b");
+		PersistentList<String> l2 = l1.appended("c");
+		PersistentList<String> l3 = l1.appended("d");
+
+		assertArrayEquals(new Object[] { "a", "b" }, l1.toArray());
+		assertArrayEquals(new Object[] { "a", "b", "c" }, l2.toArray());
+		assertArrayEquals(new Object[] { "a", "b", "d" }, l3.toArray());
+	}
+
+	/**
+	 * The builder makes the same list as appending one element at a time, and
+	 * keeps working after build.
+	 */
+	@Test
+	void builderTest01() {
+		PersistentList.Builder<Integer> b = PersistentList.builder();
+		PersistentList<Integer> appended = PersistentList.empty();
+		for (int i = 0; i < 5000; i++) {
+			b.append(i);
+			appended = appended.appended(i);
+		}
+		PersistentList<Integer> built = b.build();
+
+		assertEquals(5000, b.size());
+		assertTrue(built.equals(appended));
+
+		b.append(-1);
+		PersistentList<Integer> more = b.build();
+		assertEquals(5000, built.size());
+		assertEquals(5001, more.size());
+		assertEquals(-1, more.get(5000));
+	}
+
+	/**
+	 * An empty builder builds the empty list.
+	 */
+	@Test
+	void builderTest02() {
+		PersistentList<String> l = PersistentList.<String>builder().build();
+
+		assertTrue(l.isEmpty());
+		assertSame(PersistentList.empty(), l);
+	}
+
+	/**
+	 * Concatenating lists of very different sizes keeps every element in order,
+	 * and leaves both lists as they were.
+	 */
+	@Test
+	void concatTest01() {
+		PersistentList<Integer> big = range(0, 3000);
+		PersistentList<Integer> small = range(3000, 3005);
+
+		PersistentList<Integer> both = big.concat(small);
+		PersistentList<Integer> reversed = small.concat(big);
+
+		assertEquals(3005, both.size());
+		for (int i = 0; i < 3005; i++)
+			assertEquals(i, both.get(i));
+
+		assertEquals(3005, reversed.size());
+		for (int i = 0; i < 5; i++)
+			assertEquals(3000 + i, reversed.get(i));
+		for (int i = 0; i < 3000; i++)
+			assertEquals(i, reversed.get(5 + i));
+
+		assertEquals(3000, big.size());
+		assertEquals(5, small.size());
+	}
+
+	/**
+	 * Concatenating with an empty list returns the other list.
+	 */
+	@Test
+	void concatTest02() {
+		PersistentList<String> l = PersistentList.of("a");
+
+		assertSame(l, l.concat(PersistentList.empty()));
+		assertSame(l, PersistentList.<String>empty().concat(l));
+	}
+
+	/**
+	 * Many small concatenations give the same list as appending.
+	 */
+	@Test
+	void concatTest03() {
+		PersistentList<Integer> l = PersistentList.empty();
+		for (int i = 0; i < 2000; i += 3)
+			l = l.concat(range(i, Math.min(i + 3, 2000)));
+
+		assertTrue(l.equals(range(0, 2000)));
+	}
+
+	/**
+	 * Concatenating small lists on both sides, and removing from the middle,
+	 * keeps the tree shallow.
+	 */
+	@Test
+	void concatTest04() {
+		PersistentList<Integer> l = PersistentList.empty();
+		for (int i = 0; i < 20000; i++)
+			l = i % 2 == 0 ? l.concat(range(0, i % 7 + 1)) : range(0, i % 5 + 1).concat(l);
+
+		assertTrue(l.height() <= 4);
+		while (l.size() > 100)
+			l = l.removed(l.size() / 3);
+
+		assertTrue(l.height() <= 2);
+		assertEquals(100, l.size());
+	}
+
+	/**
+	 * equals compares against any kind of list.
+	 */
+	@Test
+	void equalsTest01() {
+		DynamicList<String> d = new DynamicList<String>();
+		d.append("a");
+		d.append(null);
+
+		assertTrue(PersistentList.of("a", null).equals(d));
+		assertFalse(PersistentList.of("a", "b").equals(d));
+		assertFalse(PersistentList.of("a").equals(d));
+		assertFalse(PersistentList.of("a").equals(null));
+	}
+
+	/**
+	 * get checks its index.
+	 */
+	@Test
+	void getTest01() {
+		PersistentList<String> l = PersistentList.of("a", "b");
+
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.get(-1);
+		});
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.get(2);
+		});
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			PersistentList.empty().get(0);
+		});
+	}
+
+	/**
+	 * indexOf, lastIndexOf and contains search across leaves.
+	 */
+	@Test
+	void indexOfTest01() {
+		PersistentList<Integer> l = range(0, 1000).concat(range(0, 1000));
+
+		assertEquals(500, l.indexOf(500));
+		assertEquals(1500, l.lastIndexOf(500));
+		assertTrue(l.contains(999));
+		assertFalse(l.contains(1000));
+		assertEquals(-1, l.indexOf(-1));
+		assertEquals(-1, l.lastIndexOf(-1));
+	}
+
+	/**
+	 * Inserting in the middle over and over splits nodes and keeps the order.
+	 */
+	@Test
+	void insertedTest01() {
+		PersistentList<Integer> l = PersistentList.empty();
+		ArrayList<Integer> expected = new ArrayList<Integer>();
+		for (int i = 0; i < 3000; i++) {
+			l = l.inserted(l.size() / 2, i);
+			expected.add(expected.size() / 2, i);
+		}
+
+		assertArrayEquals(expected.toArray(), l.toArray());
+	}
+
+	/**
+	 * prepended and inserted check their index.
+	 */
+	@Test
+	void insertedTest02() {
+		PersistentList<String> l = PersistentList.of("b");
+
+		assertArrayEquals(new Object[] { "a", "b" }, l.prepended("a").toArray());
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.inserted(2, "c");
+		});
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.inserted(-1, "c");
+		});
+	}
+
+	/**
+	 * Removing every element, from the front, leaves the empty list.
+	 */
+	@Test
+	void removedTest01() {
+		PersistentList<Integer> l = range(0, 2000);
+		PersistentList<Integer> original = l;
+		for (int i = 0; i < 2000; i++) {
+			assertEquals(i, l.get(0));
+			l = l.removed(0);
+		}
+
+		assertTrue(l.isEmpty());
+		assertTrue(original.equals(range(0, 2000)));
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			PersistentList.empty().removed(0);
+		});
+	}
+
+	/**
+	 * updated replaces one element and leaves the old version alone.
+	 */
+	@Test
+	void updatedTest01() {
+		PersistentList<Integer> l = range(0, 100);
+		PersistentList<Integer> changed = l.updated(70, -70);
+
+		assertEquals(-70, changed.get(70));
+		assertEquals(70, l.get(70));
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.updated(100, 0);
+		});
+	}
+
+	/**
+	 * The in-place List methods are not supported.
+	 */
+	@Test
+	void unsupportedTest01() {
+		PersistentList<String> l = PersistentList.of("a");
+
+		assertThrows(UnsupportedOperationException.class, () -> {
+			l.append("b");
+		});
+		assertThrows(UnsupportedOperationException.class, () -> {
+			l.set(0, "b");
+		});
+		assertThrows(UnsupportedOperationException.class, () -> {
+			l.remove(0);
+		});
+		assertThrows(UnsupportedOperationException.class, () -> {
+			l.clear();
+		});
+	}
+
+	/**
+	 * A random mix of changes matches a DynamicList making the same changes,
+	 * and every version stays as it was.
+	 */
+	@Test
+	void randomTest01() {
+		Random random = new Random(22);
+		PersistentList<Integer> l = PersistentList.empty();
+		DynamicList<Integer> expected = new DynamicList<Integer>();
+		ArrayList<PersistentList<Integer>> versions = new ArrayList<PersistentList<Integer>>();
+		ArrayList<Object[]> contents = new ArrayList<Object[]>();
+
+		for (int step = 0; step < 5000; step++) {
+			int op = random.nextInt(5);
+			if (op == 0 && expected.size() > 0) {
+				int index = random.nextInt(expected.size());
+				l = l.removed(index);
+				expected.remove(index);
+			} else if (op == 1 && expected.size() > 0) {
+				int index = random.nextInt(expected.size());
+				l = l.updated(index, step);
+				expected.set(index, step);
+			} else if (op == 2) {
+				int len = random.nextInt(100);
+				PersistentList<Integer> other = range(step, step + len);
+				boolean atEnd = random.nextBoolean();
+				l = atEnd ? l.concat(other) : other.concat(l);
+				for (int i = 0; i < len; i++)
+					expected.insert(atEnd ? expected.size() : i, step + i);
+			} else {
+				int index = random.nextInt(expected.size() + 1);
+				l = l.inserted(index, step);
+				expected.insert(index, step);
+			}
+
+			if (step % 100 == 0) {
+				versions.add(l);
+				contents.add(l.toArray());
+			}
+			assertEquals(expected.size(), l.size());
+		}
+
+		assertArrayEquals(expected.toArray(), l.toArray());
+		for (int i = 0; i < expected.size(); i++)
+			assertEquals(expected.get(i), l.get(i));
+		for (int v = 0; v < versions.size(); v++)
+			assertArrayEquals(contents.get(v), versions.get(v).toArray());
+	}
+
+	private static PersistentList<Integer> range(int from, int to) {
+		PersistentList.Builder<Integer> b = PersistentList.builder();
+		for (int i = from; i < to; i++)
+			b.append(i);
+
+		return b.build();
+	}
+
+}
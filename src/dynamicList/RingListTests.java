@@ -0,0 +1,62 @@
+package dynamicList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs every GenericListTests test against RingList, plus tests for lists that
+ * wrap around the end of the backing array.
+ */
+class RingListTests extends GenericListTests {
+
+	@Override
+	<E> List<E> newList() {
+		return new RingList<E>();
+	}
+
+	/**
+	 * Using the list as a queue moves it all the way around the backing array
+	 * several times without growing it.
+	 */
+	@Test
+	void wrapTest01() {
+		RingList<Integer> l = new RingList<Integer>(4);
+		for (int i = 0; i < 100; i++) {
+			l.append(i);
+			l.append(i);
+			assertEquals(i, l.remove(0));
+			assertEquals(i, l.remove(0));
+		}
+
+		assertTrue(l.isEmpty());
+	}
+
+	/**
+	 * Inserting and removing in the middle of a wrapped list.
+	 */
+	@Test
+	void wrapTest02() {
+		RingList<String> l = new RingList<String>(8);
+		for (int i = 0; i < 6; i++)
+			l.append("" + i);
+		l.remove(0);
+		l.remove(0);
+		l.remove(0);
+		l.append("6");
+		l.append(null);
+		l.append("8");
+		l.insert(1, "a");
+		l.insert(5, "b");
+
+		String[] expected = { "3", "a", "4", "5", "6", "b", null, "8" };
+		assertArrayEquals(expected, l.toArray());
+		assertEquals(6, l.indexOf(null));
+		assertEquals("b", l.remove(5));
+		assertEquals("a", l.remove(1));
+
+		String[] expected2 = { "3", "4", "5", "6", null, "8" };
+		assertArrayEquals(expected2, l.toArray());
+	}
+
+}
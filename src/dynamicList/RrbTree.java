@@ -0,0 +1,622 @@
+package dynamicList;
+
+import java.util.function.IntFunction;
+
+/**
+ * <p>
+ * The tree behind {@link PersistentList} and {@link PersistentIntList}: a
+ * relaxed radix-balanced tree (RRB-tree) with up to 32 values per leaf and 32
+ * children per node. Nodes are never changed once they are made, so a change
+ * copies only the nodes on the path to it and every version shares the rest.
+ * </p>
+ * <p>
+ * The tree doesn't know the type of its values. Each leaf holds an array made
+ * by the function the tree was created with, e.g. Object[]::new or int[]::new,
+ * and the lists read the values out of the leaves and write them in through a
+ * {@link Writer}, so int values are never boxed.
+ * </p>
+ * <p>
+ * Every node records the cumulative sizes of its children, so nodes don't have
+ * to be full. What keeps the tree shallow is that every branch node has at
+ * least two children: a removal that leaves a node with fewer than 8 slots
+ * merges it with a neighbour, and concat redistributes the two nodes it joins
+ * when either is less than half full. A tree of height h therefore holds at
+ * least 2^h values, so its height is at most log2(n) + 1, and get, updated,
+ * inserted, removed and concat each visit O(log n) nodes and check at most 32
+ * slots in each.
+ * </p>
+ */
+final class RrbTree {
+
+	static final int BITS = 5;
+	static final int WIDTH = 1 << BITS;
+
+	/**
+	 * A node left with fewer slots than this by a removal is merged with a
+	 * neighbour.
+	 */
+	private static final int MIN_SLOTS = WIDTH / 4;
+
+	private static final Node[] NO_NODES = new Node[0];
+
+	final Node root;
+	final int height;
+	final int size;
+	private final IntFunction<Object> newLeaf;
+
+	private RrbTree(Node root, int height, int size, IntFunction<Object> newLeaf) {
+		this.root = root;
+		this.height = height;
+		this.size = size;
+		this.newLeaf = newLeaf;
+	}
+
+	/**
+	 * Returns an empty tree whose leaves are made by the given function.
+	 *
+	 * @param newLeaf
+	 * @return
+	 */
+	static RrbTree empty(IntFunction<Object> newLeaf) {
+		return new RrbTree(new Node(newLeaf.apply(0), 0), 0, 0, newLeaf);
+	}
+
+	/**
+	 * Returns a tree with the values of this tree followed by those of the other
+	 * one, sharing the nodes of both.
+	 *
+	 * @param other
+	 * @return
+	 */
+	RrbTree concat(RrbTree other) {
+		if (size == 0)
+			return other;
+		if (other.size == 0)
+			return this;
+
+		Node[] joined = join(root, height, other.root, other.height);
+
+		return grow(joined, Math.max(height, other.height), size + other.size);
+	}
+
+	/**
+	 * Returns a tree with a value inserted at the given index, which must be
+	 * between 0 and size inclusive. The writer puts the value into the copied
+	 * leaf.
+	 *
+	 * @param index
+	 * @param writer
+	 * @return
+	 */
+	RrbTree inserted(int index, Writer writer) {
+		return grow(insert(root, height, index, writer), height, size + 1);
+	}
+
+	/**
+	 * Returns a tree without the value at the given index, which must be between
+	 * 0 and (size - 1) inclusive.
+	 *
+	 * @param index
+	 * @return
+	 */
+	RrbTree removed(int index) {
+		Node newRoot = remove(root, height, index);
+		if (newRoot == null)
+			return empty(newLeaf);
+
+		int newHeight = height;
+		while (newHeight > 0 && newRoot.children.length == 1) { // Drop roots with a single child
+			newRoot = newRoot.children[0];
+			newHeight--;
+		}
+
+		return new RrbTree(newRoot, newHeight, size - 1, newLeaf);
+	}
+
+	/**
+	 * Returns a tree with the value at the given index, which must be between 0
+	 * and (size - 1) inclusive, replaced by whatever the writer puts into the
+	 * copied leaf.
+	 *
+	 * @param index
+	 * @param writer
+	 * @return
+	 */
+	RrbTree updated(int index, Writer writer) {
+		return new RrbTree(update(root, height, index, writer), height, size, newLeaf);
+	}
+
+	/**
+	 * Copies every value into dest, an array of the leaves' type with room for
+	 * them all.
+	 *
+	 * @param dest
+	 */
+	void copyTo(Object dest) {
+		copyTo(root, height, dest, 0);
+	}
+
+	/**
+	 * Runs the given search over the leaves in order, or in reverse order if
+	 * backwards is true, and returns the first result that isn't -1.
+	 *
+	 * @param backwards
+	 * @param search
+	 * @return
+	 */
+	int search(boolean backwards, LeafSearch search) {
+		return backwards ? searchBackwards(root, height, search, size) : searchForwards(root, height, search, 0);
+	}
+
+	/**
+	 * Makes a tree out of the one or two nodes an edit of the root returned,
+	 * adding a new root above them if there are two.
+	 *
+	 * @param nodes
+	 * @param height  The height of the nodes.
+	 * @param newSize
+	 * @return
+	 */
+	private RrbTree grow(Node[] nodes, int height, int newSize) {
+		if (nodes.length == 1)
+			return new RrbTree(nodes[0], height, newSize, newLeaf);
+
+		return new RrbTree(new Node(nodes), height + 1, newSize, newLeaf);
+	}
+
+	private Node update(Node n, int height, int index, Writer writer) {
+		if (height == 0) {
+			Object values = newLeaf.apply(n.size);
+			System.arraycopy(n.values, 0, values, 0, n.size);
+			writer.write(values, index);
+			return new Node(values, n.size);
+		}
+
+		Node[] children = n.children.clone();
+		int i = n.slot(height, index);
+		children[i] = update(n.children[i], height - 1, index - n.offset(i), writer);
+
+		return new Node(children, n.sizes);
+	}
+
+	/**
+	 * Inserts a value at the given index below n, copying the nodes on the way
+	 * down. A node that overflows is split in two, so one or two nodes are
+	 * returned.
+	 *
+	 * @param n
+	 * @param height
+	 * @param index
+	 * @param writer
+	 * @return
+	 */
+	private Node[] insert(Node n, int height, int index, Writer writer) {
+		boolean atEnd = index == n.size;
+
+		if (height == 0) {
+			Object values = newLeaf.apply(n.size + 1);
+			System.arraycopy(n.values, 0, values, 0, index);
+			writer.write(values, index);
+			System.arraycopy(n.values, index, values, index + 1, n.size - index);
+
+			return splitLeaf(values, n.size + 1, atEnd);
+		}
+
+		int i = atEnd ? n.children.length - 1 : n.slot(height, index);
+		Node[] children = insert(n.children[i], height - 1, index - n.offset(i), writer);
+
+		return split(replace(n.children, i, i + 1, children), atEnd);
+	}
+
+	/**
+	 * Removes the value at the given index below n, copying the nodes on the way
+	 * down. Nodes left empty are dropped, so this returns null if n becomes
+	 * empty, and a child left with too few slots is merged with a neighbour.
+	 *
+	 * @param n
+	 * @param height
+	 * @param index
+	 * @return
+	 */
+	private Node remove(Node n, int height, int index) {
+		if (height == 0) {
+			if (n.size == 1)
+				return null;
+
+			Object values = newLeaf.apply(n.size - 1);
+			System.arraycopy(n.values, 0, values, 0, index);
+			System.arraycopy(n.values, index + 1, values, index, n.size - index - 1);
+			return new Node(values, n.size - 1);
+		}
+
+		int i = n.slot(height, index);
+		Node child = remove(n.children[i], height - 1, index - n.offset(i));
+
+		if (child == null)
+			return n.children.length == 1 ? null : new Node(replace(n.children, i, i + 1, NO_NODES));
+		if (child.slots() >= MIN_SLOTS || n.children.length == 1)
+			return new Node(replace(n.children, i, i + 1, new Node[] { child }));
+
+		if (i > 0)
+			return new Node(replace(n.children, i - 1, i + 1, rebalance(n.children[i - 1], child, height - 1)));
+
+		return new Node(replace(n.children, i, i + 2, rebalance(child, n.children[i + 1], height - 1)));
+	}
+
+	/**
+	 * Joins two trees so that the values of right follow those of left. The
+	 * shorter tree is added along the inner edge of the taller one, at the level
+	 * where their heights match, so only the nodes along that edge are copied.
+	 * Returns one or two nodes with the height of the taller tree.
+	 *
+	 * @param left
+	 * @param leftHeight
+	 * @param right
+	 * @param rightHeight
+	 * @return
+	 */
+	private Node[] join(Node left, int leftHeight, Node right, int rightHeight) {
+		if (leftHeight == rightHeight)
+			return rebalance(left, right, leftHeight);
+
+		if (leftHeight > rightHeight) {
+			int last = left.children.length - 1;
+			Node[] children = join(left.children[last], leftHeight - 1, right, rightHeight);
+
+			return split(replace(left.children, last, last + 1, children), false);
+		}
+
+		Node[] children = join(left, leftHeight, right.children[0], rightHeight - 1);
+
+		return split(replace(right.children, 0, 1, children), false);
+	}
+
+	/**
+	 * Puts two neighbouring nodes of the given height back together: into one
+	 * node if their slots fit in one, as they are if both are at least half full,
+	 * and otherwise into two nodes with their slots shared out evenly.
+	 *
+	 * @param a
+	 * @param b
+	 * @param height
+	 * @return
+	 */
+	private Node[] rebalance(Node a, Node b, int height) {
+		int total = a.slots() + b.slots();
+		if (total > WIDTH && a.slots() >= WIDTH / 2 && b.slots() >= WIDTH / 2)
+			return new Node[] { a, b };
+
+		if (height > 0)
+			return split(replace(a.children, a.children.length, a.children.length, b.children), false);
+
+		Object values = newLeaf.apply(total);
+		System.arraycopy(a.values, 0, values, 0, a.size);
+		System.arraycopy(b.values, 0, values, a.size, b.size);
+
+		return splitLeaf(values, total, false);
+	}
+
+	/**
+	 * Makes one leaf out of the given values, or two if there are too many for
+	 * one. When the values overflowed because of an append, the first leaf is
+	 * kept full, so a list built by appending has full leaves; otherwise they are
+	 * shared out evenly.
+	 *
+	 * @param values
+	 * @param length
+	 * @param atEnd
+	 * @return
+	 */
+	private Node[] splitLeaf(Object values, int length, boolean atEnd) {
+		if (length <= WIDTH)
+			return new Node[] { new Node(values, length) };
+
+		int mid = atEnd ? WIDTH : length / 2;
+		Object left = newLeaf.apply(mid);
+		Object right = newLeaf.apply(length - mid);
+		System.arraycopy(values, 0, left, 0, mid);
+		System.arraycopy(values, mid, right, 0, length - mid);
+
+		return new Node[] { new Node(left, mid), new Node(right, length - mid) };
+	}
+
+	/**
+	 * Makes one node out of the given children, or two if there are too many for
+	 * one, in the same way as splitLeaf.
+	 *
+	 * @param children
+	 * @param atEnd
+	 * @return
+	 */
+	private static Node[] split(Node[] children, boolean atEnd) {
+		if (children.length <= WIDTH)
+			return new Node[] { new Node(children) };
+
+		int mid = atEnd ? WIDTH : children.length / 2;
+		Node[] left = new Node[mid];
+		Node[] right = new Node[children.length - mid];
+		System.arraycopy(children, 0, left, 0, mid);
+		System.arraycopy(children, mid, right, 0, right.length);
+
+		return new Node[] { new Node(left), new Node(right) };
+	}
+
+	/**
+	 * Returns a copy of children with the children from index from (inclusive)
+	 * to index to (exclusive) replaced by the given nodes.
+	 *
+	 * @param children
+	 * @param from
+	 * @param to
+	 * @param nodes
+	 * @return
+	 */
+	private static Node[] replace(Node[] children, int from, int to, Node[] nodes) {
+		Node[] result = new Node[children.length - (to - from) + nodes.length];
+		System.arraycopy(children, 0, result, 0, from);
+		System.arraycopy(nodes, 0, result, from, nodes.length);
+		System.arraycopy(children, to, result, from + nodes.length, children.length - to);
+
+		return result;
+	}
+
+	/**
+	 * Copies the values below n into dest, starting at off.
+	 *
+	 * @param n
+	 * @param height
+	 * @param dest
+	 * @param off
+	 */
+	private static void copyTo(Node n, int height, Object dest, int off) {
+		if (height == 0) {
+			System.arraycopy(n.values, 0, dest, off, n.size);
+			return;
+		}
+
+		for (int i = 0; i < n.children.length; i++)
+			copyTo(n.children[i], height - 1, dest, off + n.offset(i));
+	}
+
+	/**
+	 * Runs the search over the leaves below n in order.
+	 *
+	 * @param n
+	 * @param height
+	 * @param search
+	 * @param off    The index of the first value below n.
+	 * @return
+	 */
+	private static int searchForwards(Node n, int height, LeafSearch search, int off) {
+		if (height == 0)
+			return search.search(n.values, n.size, off);
+
+		for (int i = 0; i < n.children.length; i++) {
+			int found = searchForwards(n.children[i], height - 1, search, off + n.offset(i));
+			if (found != -1)
+				return found;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Runs the search over the leaves below n in reverse order.
+	 *
+	 * @param n
+	 * @param height
+	 * @param search
+	 * @param end    The index just past the last value below n.
+	 * @return
+	 */
+	private static int searchBackwards(Node n, int height, LeafSearch search, int end) {
+		if (height == 0)
+			return search.search(n.values, n.size, end - n.size);
+
+		for (int i = n.children.length - 1; i >= 0; i--) {
+			int found = searchBackwards(n.children[i], height - 1, search, end - n.size + n.sizes[i]);
+			if (found != -1)
+				return found;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Writes a value into a leaf.
+	 */
+	interface Writer {
+
+		/**
+		 * Writes the value at the given index of values, an array of the leaves'
+		 * type.
+		 *
+		 * @param values
+		 * @param index
+		 */
+		void write(Object values, int index);
+	}
+
+	/**
+	 * Searches one leaf.
+	 */
+	interface LeafSearch {
+
+		/**
+		 * Searches the first length values of the given leaf array, whose first
+		 * value is at the given index of the list.
+		 *
+		 * @param values
+		 * @param length
+		 * @param start
+		 * @return The index in the list of what was found, or -1.
+		 */
+		int search(Object values, int length, int start);
+	}
+
+	/**
+	 * A node of the tree. Leaves hold an array of values and have no children;
+	 * other nodes hold child nodes and the cumulative sizes of those children.
+	 */
+	static final class Node {
+
+		final Object values;
+		final Node[] children;
+		final int[] sizes;
+
+		/**
+		 * The number of values below this node.
+		 */
+		final int size;
+
+		Node(Object values, int size) {
+			this.values = values;
+			this.children = null;
+			this.sizes = null;
+			this.size = size;
+		}
+
+		Node(Node[] children) {
+			this(children, cumulativeSizes(children));
+		}
+
+		Node(Node[] children, int[] sizes) {
+			this.values = null;
+			this.children = children;
+			this.sizes = sizes;
+			this.size = sizes[sizes.length - 1];
+		}
+
+		/**
+		 * Returns which child of this node, whose height is given, holds the value
+		 * at the given index. A child holds at most 32^height values, so the search
+		 * can start at the child that would hold the index if every node were full.
+		 *
+		 * @param height
+		 * @param index
+		 * @return
+		 */
+		int slot(int height, int index) {
+			int shift = BITS * height;
+			int i = shift < Integer.SIZE ? index >>> shift : 0;
+
+			while (sizes[i] <= index)
+				i++;
+
+			return i;
+		}
+
+		/**
+		 * Returns how many values come before child i.
+		 *
+		 * @param i
+		 * @return
+		 */
+		int offset(int i) {
+			return i == 0 ? 0 : sizes[i - 1];
+		}
+
+		/**
+		 * Returns the number of values in a leaf, or of children in a branch.
+		 *
+		 * @return
+		 */
+		int slots() {
+			return children == null ? size : children.length;
+		}
+
+		private static int[] cumulativeSizes(Node[] children) {
+			int[] sizes = new int[children.length];
+			int total = 0;
+
+			for (int i = 0; i < children.length; i++) {
+				total += children[i].size;
+				sizes[i] = total;
+			}
+
+			return sizes;
+		}
+	}
+
+	/**
+	 * Collects full leaves in place, then builds the tree above them in one pass.
+	 * The lists' builders fill the leaves and hand them over.
+	 */
+	static final class Builder {
+
+		private final IntFunction<Object> newLeaf;
+		private final DynamicList<Node> leaves;
+		private int size;
+
+		Builder(IntFunction<Object> newLeaf) {
+			this.newLeaf = newLeaf;
+			this.leaves = new DynamicList<Node>();
+			this.size = 0;
+		}
+
+		/**
+		 * Adds a full leaf of WIDTH values. The array must not be changed
+		 * afterwards.
+		 *
+		 * @param values
+		 */
+		void addLeaf(Object values) {
+			leaves.append(new Node(values, WIDTH));
+			size += WIDTH;
+		}
+
+		/**
+		 * Returns the number of values in the leaves added so far.
+		 *
+		 * @return
+		 */
+		int size() {
+			return size;
+		}
+
+		/**
+		 * Returns a tree of the leaves added so far followed by the first
+		 * tailLength values of tail, which is copied.
+		 *
+		 * @param tail
+		 * @param tailLength
+		 * @return
+		 */
+		RrbTree build(Object tail, int tailLength) {
+			if (size + tailLength == 0)
+				return empty(newLeaf);
+
+			int count = leaves.size() + (tailLength > 0 ? 1 : 0);
+			Node[] level = new Node[count];
+			for (int i = 0; i < leaves.size(); i++)
+				level[i] = leaves.get(i);
+			if (tailLength > 0) {
+				Object last = newLeaf.apply(tailLength);
+				System.arraycopy(tail, 0, last, 0, tailLength);
+				level[count - 1] = new Node(last, tailLength);
+			}
+
+			int height = 0;
+			while (level.length > 1) {
+				Node[] parents = new Node[(level.length + WIDTH - 1) / WIDTH];
+				int from = 0;
+				for (int p = 0; p < parents.length; p++) {
+					int to = Math.min(from + WIDTH, level.length);
+					if (p == parents.length - 2 && level.length - to == 1) // Leave the last node two children
+						to--;
+
+					Node[] children = new Node[to - from];
+					System.arraycopy(level, from, children, 0, children.length);
+					parents[p] = new Node(children);
+					from = to;
+				}
+
+				level = parents;
+				height++;
+			}
+
+			return new RrbTree(level[0], height, size + tailLength, newLeaf);
+		}
+	}
+
+}
@@ -0,0 +1,18 @@
+package dynamicList;
+
+/**
+ * Runs every GenericListTests test against a slice in the middle of a
+ * DynamicList, so every edit has to leave the parent's other elements alone.
+ */
+class SliceTests extends GenericListTests {
+
+	@Override
+	<E> List<E> newList() {
+		DynamicList<E> parent = new DynamicList<E>();
+		parent.append(null);
+		parent.append(null);
+
+		return parent.slice(1, 1);
+	}
+
+}
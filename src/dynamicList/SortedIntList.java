@@ -0,0 +1,500 @@
+package dynamicList;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * A list of integers that is always sorted in ascending order. Use
+ * {@link #add(int)} to put a value in its place, and {@link #addAll(IntList)}
+ * to merge in a whole sorted batch in one pass. Because the values are
+ * sorted, contains, indexOf and lastIndexOf use binary search and take
+ * O(log n) instead of O(n).
+ * </p>
+ * <p>
+ * append, prepend, insert, set and appendAll still work, but only when they
+ * keep the list sorted; otherwise they throw an IllegalArgumentException.
+ * </p>
+ */
+public class SortedIntList implements IntList {
+
+	private IntDynamicList list;
+
+	public SortedIntList() {
+		this.list = new IntDynamicList();
+	}
+
+	/**
+	 * Creates a sorted list of the values in the given list, which doesn't have
+	 * to be sorted itself.
+	 *
+	 * @param vals
+	 */
+	public SortedIntList(IntList vals) {
+		int[] arr = vals.toArray();
+		Arrays.sort(arr);
+
+		this.list = new IntDynamicList(arr);
+	}
+
+	/**
+	 * Adds the given value in its sorted place, after any values equal to it.
+	 *
+	 * @param val
+	 * @return The index the value was added at.
+	 */
+	public int add(int val) {
+		int index = upperBound(val, 0, list.size());
+		list.insert(index, val);
+
+		return index;
+	}
+
+	/**
+	 * Merges the values of the given list, which must be sorted, into this list
+	 * in a single pass, in O(n + m) time instead of the O(n * m) of adding them
+	 * one by one. Values equal to ones already in this list go after them.
+	 *
+	 * @param sorted
+	 * @throws IllegalArgumentException if the given list is not sorted. This list
+	 *                                  is left unchanged.
+	 */
+	public void addAll(IntList sorted) {
+		int n = list.size();
+		int m = sorted.size();
+		int[] merged = new int[n + m];
+
+		int i = 0;
+		int j = 0;
+		int k = 0;
+		while (j < m) {
+			int val = sorted.get(j);
+			if (j > 0 && val < sorted.get(j - 1))
+				throw new IllegalArgumentException("Values to merge are not sorted");
+
+			while (i < n && list.get(i) <= val)
+				merged[k++] = list.get(i++);
+
+			merged[k++] = val;
+			j++;
+		}
+		list.copyRange(i, n, merged, k);
+
+		list = new IntDynamicList(merged);
+	}
+
+	/**
+	 * Adds the given value to the end of the list.
+	 *
+	 * @param value
+	 * @throws IllegalArgumentException if the value is smaller than the last value.
+	 */
+	@Override
+	public void append(int value) {
+		insert(list.size(), value);
+	}
+
+	/**
+	 * Adds the given values to the end of the list.
+	 *
+	 * @param vals
+	 * @throws IllegalArgumentException if the values are not sorted, or the first
+	 *                                  of them is smaller than the last value of
+	 *                                  this list. This list is left unchanged.
+	 */
+	@Override
+	public void appendAll(IntList vals) {
+		int len = vals.size();
+		int last = list.isEmpty() ? Integer.MIN_VALUE : list.get(list.size() - 1);
+
+		for (int i = 0; i < len; i++) {
+			int val = vals.get(i);
+			if (val < last)
+				throw new IllegalArgumentException("Appending would break the order");
+			last = val;
+		}
+
+		int[] arr = vals.toArray();
+		list.appendAll(arr, 0, arr.length);
+	}
+
+	@Override
+	public void clear() {
+		list.clear();
+	}
+
+	@Override
+	public boolean contains(int val) {
+		return indexOf(val) != -1;
+	}
+
+	/**
+	 * Returns how many values are between from and to, both inclusive, in
+	 * O(log n).
+	 *
+	 * @param from
+	 * @param to
+	 * @return
+	 */
+	public int countBetween(int from, int to) {
+		if (from > to)
+			return 0;
+
+		int start = lowerBound(from, 0, list.size());
+
+		return upperBound(to, start, list.size()) - start;
+	}
+
+	@Override
+	public boolean equals(IntList other) {
+		return list.equals(other);
+	}
+
+	@Override
+	public int get(int index) {
+		return list.get(index);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the given value, found by
+	 * binary search.
+	 *
+	 * @param val
+	 * @return
+	 */
+	@Override
+	public int indexOf(int val) {
+		int index = lowerBound(val, 0, list.size());
+
+		return index < list.size() && list.get(index) == val ? index : -1;
+	}
+
+	/**
+	 * Inserts the given value at the given index.
+	 *
+	 * @param index
+	 * @param val
+	 * @throws IndexOutOfBoundsException if the given index is not between 0 and
+	 *                                   size inclusive.
+	 * @throws IllegalArgumentException  if the value doesn't belong at that index.
+	 */
+	@Override
+	public void insert(int index, int val) {
+		if (index < 0 || index > list.size())
+			throw new IndexOutOfBoundsException();
+		if ((index > 0 && list.get(index - 1) > val) || (index < list.size() && list.get(index) < val))
+			throw new IllegalArgumentException("Inserting would break the order");
+
+		list.insert(index, val);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return list.isEmpty();
+	}
+
+	/**
+	 * Returns the index of the last occurrence of the given value, found by
+	 * binary search.
+	 *
+	 * @param val
+	 * @return
+	 */
+	@Override
+	public int lastIndexOf(int val) {
+		int index = upperBound(val, 0, list.size()) - 1;
+
+		return index >= 0 && list.get(index) == val ? index : -1;
+	}
+
+	/**
+	 * Adds the given value to the front of the list.
+	 *
+	 * @param val
+	 * @throws IllegalArgumentException if the value is larger than the first
+	 *                                  value.
+	 */
+	@Override
+	public void prepend(int val) {
+		insert(0, val);
+	}
+
+	/**
+	 * <p>
+	 * Returns a view of the values between from and to, both inclusive. The view
+	 * follows this list: values added to or removed from the range show up in it.
+	 * </p>
+	 * <p>
+	 * Values can be removed through the view, which removes them from this list,
+	 * but not added or changed.
+	 * </p>
+	 *
+	 * @param from
+	 * @param to
+	 * @return
+	 * @throws IllegalArgumentException if from is greater than to.
+	 */
+	public IntList rangeView(int from, int to) {
+		if (from > to)
+			throw new IllegalArgumentException();
+
+		return new RangeView(from, to);
+	}
+
+	@Override
+	public int remove(int index) {
+		return list.remove(index);
+	}
+
+	/**
+	 * Replaces the value at the given index.
+	 *
+	 * @param index
+	 * @param val
+	 * @throws IndexOutOfBoundsException if the given index is not between 0 and
+	 *                                   (size - 1) inclusive.
+	 * @throws IllegalArgumentException  if the value doesn't belong at that index.
+	 */
+	@Override
+	public int set(int index, int val) {
+		if (index < 0 || index >= list.size())
+			throw new IndexOutOfBoundsException();
+		if ((index > 0 && list.get(index - 1) > val) || (index < list.size() - 1 && list.get(index + 1) < val))
+			throw new IllegalArgumentException("Setting would break the order");
+
+		return list.set(index, val);
+	}
+
+	@Override
+	public int size() {
+		return list.size();
+	}
+
+	@Override
+	public int[] toArray() {
+		return list.toArray();
+	}
+
+	@Override
+	public void trimToSize() {
+		list.trimToSize();
+	}
+
+	/**
+	 * Returns the index of the first value from index from (inclusive) to index to
+	 * (exclusive) that is at least val, or to if there is none.
+	 *
+	 * @param val
+	 * @param from
+	 * @param to
+	 * @return
+	 */
+	private int lowerBound(int val, int from, int to) {
+		while (from < to) {
+			int mid = (from + to) >>> 1;
+
+			if (list.get(mid) < val)
+				from = mid + 1;
+			else
+				to = mid;
+		}
+
+		return from;
+	}
+
+	/**
+	 * Returns the index of the first value from index from (inclusive) to index to
+	 * (exclusive) that is greater than val, or to if there is none.
+	 *
+	 * @param val
+	 * @param from
+	 * @param to
+	 * @return
+	 */
+	private int upperBound(int val, int from, int to) {
+		while (from < to) {
+			int mid = (from + to) >>> 1;
+
+			if (list.get(mid) <= val)
+				from = mid + 1;
+			else
+				to = mid;
+		}
+
+		return from;
+	}
+
+	/**
+	 * A view of the values in a range, returned by rangeView. Its bounds are
+	 * found again by binary search on every call, so it always matches the list.
+	 */
+	private class RangeView implements IntList {
+
+		private final int low;
+		private final int high;
+
+		RangeView(int low, int high) {
+			this.low = low;
+			this.high = high;
+		}
+
+		/**
+		 * @throws UnsupportedOperationException always.
+		 */
+		@Override
+		public void append(int value) {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * @throws UnsupportedOperationException always.
+		 */
+		@Override
+		public void appendAll(IntList vals) {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * Removes every value in the range from the list.
+		 */
+		@Override
+		public void clear() {
+			int start = start();
+
+			list.slice(start, end(start)).clear();
+		}
+
+		@Override
+		public boolean contains(int val) {
+			return val >= low && val <= high && SortedIntList.this.contains(val);
+		}
+
+		@Override
+		public boolean equals(IntList other) {
+			if (other == null)
+				return false;
+
+			int start = start();
+			int end = end(start);
+			if (end - start != other.size())
+				return false;
+
+			for (int i = start; i < end; i++)
+				if (list.get(i) != other.get(i - start))
+					return false;
+
+			return true;
+		}
+
+		@Override
+		public int get(int index) {
+			int start = start();
+
+			if (index < 0 || index >= end(start) - start)
+				throw new IndexOutOfBoundsException();
+
+			return list.get(start + index);
+		}
+
+		@Override
+		public int indexOf(int val) {
+			if (val < low || val > high)
+				return -1;
+
+			int index = SortedIntList.this.indexOf(val);
+
+			return index == -1 ? -1 : index - start();
+		}
+
+		/**
+		 * @throws UnsupportedOperationException always.
+		 */
+		@Override
+		public void insert(int index, int val) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return size() == 0;
+		}
+
+		@Override
+		public int lastIndexOf(int val) {
+			if (val < low || val > high)
+				return -1;
+
+			int index = SortedIntList.this.lastIndexOf(val);
+
+			return index == -1 ? -1 : index - start();
+		}
+
+		/**
+		 * @throws UnsupportedOperationException always.
+		 */
+		@Override
+		public void prepend(int val) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public int remove(int index) {
+			int start = start();
+
+			if (index < 0 || index >= end(start) - start)
+				throw new IndexOutOfBoundsException();
+
+			return list.remove(start + index);
+		}
+
+		/**
+		 * @throws UnsupportedOperationException always.
+		 */
+		@Override
+		public int set(int index, int val) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public int size() {
+			int start = start();
+
+			return end(start) - start;
+		}
+
+		@Override
+		public int[] toArray() {
+			int start = start();
+			int end = end(start);
+
+			return list.copyRange(start, end, new int[end - start], 0);
+		}
+
+		/**
+		 * Does nothing, since a view has no backing array of its own.
+		 */
+		@Override
+		public void trimToSize() {
+		}
+
+		/**
+		 * Returns the index of the first value in the range.
+		 *
+		 * @return
+		 */
+		private int start() {
+			return lowerBound(low, 0, list.size());
+		}
+
+		/**
+		 * Returns the index just past the last value in the range.
+		 *
+		 * @param start
+		 * @return
+		 */
+		private int end(int start) {
+			return upperBound(high, start, list.size());
+		}
+
+	}
+
+}
@@ -0,0 +1,229 @@
+package dynamicList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for SortedIntList.
+ */
+class SortedIntListTests {
+
+	/**
+	 * add keeps the values sorted and returns where each one went.
+	 */
+	@Test
+	void addTest01() {
+		SortedIntList l = new SortedIntList();
+
+		assertEquals(0, l.add(5));
+		assertEquals(0, l.add(1));
+		assertEquals(2, l.add(5));
+		assertEquals(1, l.add(3));
+
+		int[] expected = { 1, 3, 5, 5 };
+		assertArrayEquals(expected, l.toArray());
+	}
+
+	/**
+	 * Adding random values gives the same list as sorting them.
+	 */
+	@Test
+	void addTest02() {
+		Random random = new Random(24);
+		SortedIntList l = new SortedIntList();
+		int[] expected = new int[2000];
+
+		for (int i = 0; i < expected.length; i++) {
+			expected[i] = random.nextInt(500) - 250;
+			l.add(expected[i]);
+		}
+
+		Arrays.sort(expected);
+		assertArrayEquals(expected, l.toArray());
+	}
+
+	/**
+	 * addAll merges a sorted batch, including one with duplicates and values
+	 * outside the current range.
+	 */
+	@Test
+	void addAllTest01() {
+		SortedIntList l = new SortedIntList();
+		for (int v : new int[] { 2, 4, 6, 8 })
+			l.add(v);
+
+		l.addAll(new IntDynamicList(new int[] { -1, 4, 5, 9, 9 }));
+
+		int[] expected = { -1, 2, 4, 4, 5, 6, 8, 9, 9 };
+		assertArrayEquals(expected, l.toArray());
+	}
+
+	/**
+	 * addAll rejects an unsorted batch and leaves the list as it was.
+	 */
+	@Test
+	void addAllTest02() {
+		SortedIntList l = new SortedIntList();
+		l.add(1);
+		l.add(10);
+
+		assertThrows(IllegalArgumentException.class, () -> {
+			l.addAll(new IntDynamicList(new int[] { 2, 11, 3 }));
+		});
+		int[] expected = { 1, 10 };
+		assertArrayEquals(expected, l.toArray());
+	}
+
+	/**
+	 * Merging a list into itself doubles every value.
+	 */
+	@Test
+	void addAllTest03() {
+		SortedIntList l = new SortedIntList(new IntDynamicList(new int[] { 3, 1, 2 }));
+
+		l.addAll(l);
+
+		int[] expected = { 1, 1, 2, 2, 3, 3 };
+		assertArrayEquals(expected, l.toArray());
+	}
+
+	/**
+	 * The constructor sorts the given values without changing them.
+	 */
+	@Test
+	void constructorTest01() {
+		IntDynamicList unsorted = new IntDynamicList(new int[] { 3, -2, 7, 0 });
+		SortedIntList l = new SortedIntList(unsorted);
+
+		int[] expected = { -2, 0, 3, 7 };
+		assertArrayEquals(expected, l.toArray());
+		assertEquals(3, unsorted.get(0));
+	}
+
+	/**
+	 * countBetween counts values in an inclusive range, including at the ends of
+	 * the int range.
+	 */
+	@Test
+	void countBetweenTest01() {
+		SortedIntList l = new SortedIntList(
+				new IntDynamicList(new int[] { Integer.MIN_VALUE, 1, 2, 2, 3, 5, Integer.MAX_VALUE }));
+
+		assertEquals(3, l.countBetween(2, 4));
+		assertEquals(2, l.countBetween(2, 2));
+		assertEquals(0, l.countBetween(4, 4));
+		assertEquals(0, l.countBetween(5, 3));
+		assertEquals(7, l.countBetween(Integer.MIN_VALUE, Integer.MAX_VALUE));
+	}
+
+	/**
+	 * indexOf, lastIndexOf and contains find the first and last of equal values.
+	 */
+	@Test
+	void indexOfTest01() {
+		SortedIntList l = new SortedIntList(new IntDynamicList(new int[] { 1, 3, 3, 3, 7 }));
+
+		assertEquals(1, l.indexOf(3));
+		assertEquals(3, l.lastIndexOf(3));
+		assertEquals(4, l.indexOf(7));
+		assertEquals(-1, l.indexOf(4));
+		assertEquals(-1, l.lastIndexOf(0));
+		assertEquals(-1, l.lastIndexOf(8));
+		assertTrue(l.contains(1));
+		assertFalse(l.contains(2));
+	}
+
+	/**
+	 * The list methods work when they keep the order, and throw an exception
+	 * when they don't.
+	 */
+	@Test
+	void orderTest01() {
+		SortedIntList l = new SortedIntList();
+		l.append(2);
+		l.append(4);
+		l.prepend(1);
+		l.insert(2, 3);
+		l.set(3, 5);
+		l.appendAll(new IntDynamicList(new int[] { 5, 6 }));
+
+		int[] expected = { 1, 2, 3, 5, 5, 6 };
+		assertArrayEquals(expected, l.toArray());
+
+		assertThrows(IllegalArgumentException.class, () -> {
+			l.append(0);
+		});
+		assertThrows(IllegalArgumentException.class, () -> {
+			l.prepend(7);
+		});
+		assertThrows(IllegalArgumentException.class, () -> {
+			l.insert(1, 4);
+		});
+		assertThrows(IllegalArgumentException.class, () -> {
+			l.set(0, 3);
+		});
+		assertThrows(IllegalArgumentException.class, () -> {
+			l.appendAll(new IntDynamicList(new int[] { 7, 6 }));
+		});
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			l.insert(7, 9);
+		});
+		assertArrayEquals(expected, l.toArray());
+	}
+
+	/**
+	 * A range view shows the values in its range and follows changes to the
+	 * list.
+	 */
+	@Test
+	void rangeViewTest01() {
+		SortedIntList l = new SortedIntList(new IntDynamicList(new int[] { 1, 3, 5, 7, 9 }));
+		IntList view = l.rangeView(3, 7);
+
+		int[] expected = { 3, 5, 7 };
+		assertArrayEquals(expected, view.toArray());
+		assertEquals(5, view.get(1));
+		assertEquals(1, view.indexOf(5));
+		assertFalse(view.contains(1));
+		assertEquals(-1, view.lastIndexOf(9));
+
+		l.add(4);
+		l.add(0);
+		assertEquals(4, view.size());
+		assertTrue(view.equals(new IntDynamicList(new int[] { 3, 4, 5, 7 })));
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			view.get(4);
+		});
+	}
+
+	/**
+	 * Removing through a range view removes from the list, and adding is not
+	 * allowed.
+	 */
+	@Test
+	void rangeViewTest02() {
+		SortedIntList l = new SortedIntList(new IntDynamicList(new int[] { 1, 3, 5, 7, 9 }));
+		IntList view = l.rangeView(2, 8);
+
+		assertEquals(3, view.remove(0));
+		int[] expected = { 1, 5, 7, 9 };
+		assertArrayEquals(expected, l.toArray());
+
+		view.clear();
+		assertTrue(view.isEmpty());
+		int[] expectedCleared = { 1, 9 };
+		assertArrayEquals(expectedCleared, l.toArray());
+
+		assertThrows(UnsupportedOperationException.class, () -> {
+			view.append(4);
+		});
+		assertThrows(IllegalArgumentException.class, () -> {
+			l.rangeView(2, 1);
+		});
+	}
+
+}
@@ -0,0 +1,258 @@
+package dynamicList;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * A thread-safe wrapper around an IntList, for lists that are read far more
+ * often than they are changed. Reads first run without taking any lock, using
+ * an optimistic read of a StampedLock, and are only retried under the read
+ * lock if a write happened at the same time. Readers therefore never block
+ * each other, and almost never wait for a writer.
+ * </p>
+ * <p>
+ * Every change takes the write lock. Use {@link #batch(Consumer)} to make many
+ * changes while taking the lock only once, and {@link #read(Function)} to make
+ * several reads that see the same version of the list.
+ * </p>
+ * <p>
+ * The wrapped list must only be used through this wrapper afterwards.
+ * </p>
+ */
+public class StampedIntList implements IntList {
+
+	private final IntList list;
+	private final StampedLock lock;
+
+	public StampedIntList() {
+		this(new IntDynamicList());
+	}
+
+	/**
+	 * Creates a thread-safe wrapper around the given list.
+	 *
+	 * @param list
+	 */
+	public StampedIntList(IntList list) {
+		if (list == null)
+			throw new NullPointerException();
+
+		this.list = list;
+		this.lock = new StampedLock();
+	}
+
+	@Override
+	public void append(int value) {
+		long stamp = lock.writeLock();
+		try {
+			list.append(value);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public void appendAll(IntList vals) {
+		long stamp = lock.writeLock();
+		try {
+			list.appendAll(vals == this ? list : vals); // The lock isn't reentrant
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Runs the given changes on the wrapped list while holding the write lock
+	 * once, so no reader sees the list half way through them. The changes must
+	 * only use the list they are given, not this wrapper.
+	 *
+	 * @param changes
+	 */
+	public void batch(Consumer<? super IntList> changes) {
+		long stamp = lock.writeLock();
+		try {
+			changes.accept(list);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public void clear() {
+		long stamp = lock.writeLock();
+		try {
+			list.clear();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public boolean contains(int val) {
+		return readInt(() -> list.indexOf(val)) != -1;
+	}
+
+	@Override
+	public boolean equals(IntList other) {
+		return readObject(() -> list.equals(other == this ? list : other));
+	}
+
+	@Override
+	public int get(int index) {
+		return readInt(() -> list.get(index));
+	}
+
+	@Override
+	public int indexOf(int val) {
+		return readInt(() -> list.indexOf(val));
+	}
+
+	@Override
+	public void insert(int index, int val) {
+		long stamp = lock.writeLock();
+		try {
+			list.insert(index, val);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return readInt(list::size) == 0;
+	}
+
+	@Override
+	public int lastIndexOf(int val) {
+		return readInt(() -> list.lastIndexOf(val));
+	}
+
+	@Override
+	public void prepend(int val) {
+		long stamp = lock.writeLock();
+		try {
+			list.prepend(val);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Runs the given reads on the wrapped list so that they all see the same
+	 * version of it. Like every read, they first run without a lock, so they may
+	 * run a second time, under the read lock, if a write got in the way. The
+	 * reads must not change the list or use this wrapper.
+	 *
+	 * @param <R>
+	 * @param reads
+	 * @return The result of the reads.
+	 */
+	public <R> R read(Function<? super IntList, R> reads) {
+		return readObject(() -> reads.apply(list));
+	}
+
+	@Override
+	public int remove(int index) {
+		long stamp = lock.writeLock();
+		try {
+			return list.remove(index);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public int set(int index, int val) {
+		long stamp = lock.writeLock();
+		try {
+			return list.set(index, val);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public int size() {
+		return readInt(list::size);
+	}
+
+	@Override
+	public int[] toArray() {
+		return readObject(list::toArray);
+	}
+
+	@Override
+	public void trimToSize() {
+		long stamp = lock.writeLock();
+		try {
+			list.trimToSize();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Runs the given read optimistically, and again under the read lock if a
+	 * write happened while it ran. An exception from the optimistic run is only
+	 * thrown if no write happened, since otherwise it may just be the result of
+	 * seeing the list half way through a change.
+	 *
+	 * @param reader
+	 * @return
+	 */
+	private int readInt(IntSupplier reader) {
+		long stamp = lock.tryOptimisticRead();
+
+		if (stamp != 0) {
+			try {
+				int result = reader.getAsInt();
+				if (lock.validate(stamp))
+					return result;
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp))
+					throw e;
+			}
+		}
+
+		stamp = lock.readLock();
+		try {
+			return reader.getAsInt();
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Like readInt, for reads that return an object.
+	 *
+	 * @param <R>
+	 * @param reader
+	 * @return
+	 */
+	private <R> R readObject(Supplier<R> reader) {
+		long stamp = lock.tryOptimisticRead();
+
+		if (stamp != 0) {
+			try {
+				R result = reader.get();
+				if (lock.validate(stamp))
+					return result;
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp))
+					throw e;
+			}
+		}
+
+		stamp = lock.readLock();
+		try {
+			return reader.get();
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+}
@@ -0,0 +1,116 @@
+package dynamicList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs every IntListTests test against StampedIntList, plus tests for batches
+ * and for reading while other threads write.
+ */
+class StampedIntListTests extends IntListTests {
+
+	@Override
+	IntList newList() {
+		return new StampedIntList();
+	}
+
+	/**
+	 * A batch makes all of its changes, and read sees them all at once.
+	 */
+	@Test
+	void batchTest01() {
+		StampedIntList l = new StampedIntList();
+		l.batch(list -> {
+			for (int i = 0; i < 10; i++)
+				list.append(i);
+			list.remove(0);
+		});
+
+		assertEquals(9, l.size());
+		assertEquals(45, (int) l.read(list -> {
+			int sum = 0;
+			for (int i = 0; i < list.size(); i++)
+				sum += list.get(i);
+			return sum;
+		}));
+	}
+
+	/**
+	 * A list can be appended to itself and compared with itself without
+	 * deadlocking.
+	 */
+	@Test
+	void batchTest02() {
+		StampedIntList l = new StampedIntList();
+		l.append(1);
+		l.appendAll(l);
+
+		assertEquals(2, l.size());
+		assertTrue(l.equals(l));
+	}
+
+	/**
+	 * Readers racing with writers only ever see whole batches: every batch
+	 * appends the same value twice, so the size is always even and the last two
+	 * values always match.
+	 *
+	 * @throws InterruptedException
+	 */
+	@Test
+	void concurrentTest01() throws InterruptedException {
+		StampedIntList l = new StampedIntList();
+		Thread writer = new Thread(() -> {
+			for (int i = 0; i < 20_000; i++) {
+				int val = i;
+				l.batch(list -> {
+					list.append(val);
+					list.append(val);
+				});
+			}
+		});
+		ArrayList<Throwable> failures = new ArrayList<Throwable>();
+		ArrayList<Thread> readers = new ArrayList<Thread>();
+
+		writer.start();
+		for (int t = 0; t < 3; t++) {
+			Thread reader = new Thread(() -> {
+				try {
+					while (writer.isAlive()) {
+						boolean whole = l.read(list -> {
+							int size = list.size();
+							return size % 2 == 0 && (size == 0 || list.get(size - 1) == list.get(size - 2));
+						});
+						assertTrue(whole);
+					}
+				} catch (Throwable e) {
+					synchronized (failures) {
+						failures.add(e);
+					}
+				}
+			});
+			readers.add(reader);
+			reader.start();
+		}
+		writer.join();
+		for (Thread reader : readers)
+			reader.join();
+
+		assertTrue(failures.isEmpty(), () -> failures.toString());
+		assertEquals(40_000, l.size());
+		assertEquals(19_999, l.get(39_999));
+	}
+
+	/**
+	 * Wrapping null throws an exception.
+	 */
+	@Test
+	void constructorTest01() {
+		assertThrows(NullPointerException.class, () -> {
+			new StampedIntList(null);
+		});
+	}
+
+}
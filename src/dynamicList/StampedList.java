@@ -0,0 +1,258 @@
+package dynamicList;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * A thread-safe wrapper around a List, for lists that are read far more
+ * often than they are changed. Reads first run without taking any lock, using
+ * an optimistic read of a StampedLock, and are only retried under the read
+ * lock if a write happened at the same time. Readers therefore never block
+ * each other, and almost never wait for a writer.
+ * </p>
+ * <p>
+ * Every change takes the write lock. Use {@link #batch(Consumer)} to make many
+ * changes while taking the lock only once, and {@link #read(Function)} to make
+ * several reads that see the same version of the list.
+ * </p>
+ * <p>
+ * The wrapped list must only be used through this wrapper afterwards.
+ * </p>
+ */
+public class StampedList<T> implements List<T> {
+
+	private final List<T> list;
+	private final StampedLock lock;
+
+	public StampedList() {
+		this(new DynamicList<T>());
+	}
+
+	/**
+	 * Creates a thread-safe wrapper around the given list.
+	 *
+	 * @param list
+	 */
+	public StampedList(List<T> list) {
+		if (list == null)
+			throw new NullPointerException();
+
+		this.list = list;
+		this.lock = new StampedLock();
+	}
+
+	@Override
+	public void append(T e) {
+		long stamp = lock.writeLock();
+		try {
+			list.append(e);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public void appendAll(List<T> other) {
+		long stamp = lock.writeLock();
+		try {
+			list.appendAll(other == this ? list : other); // The lock isn't reentrant
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Runs the given changes on the wrapped list while holding the write lock
+	 * once, so no reader sees the list half way through them. The changes must
+	 * only use the list they are given, not this wrapper.
+	 *
+	 * @param changes
+	 */
+	public void batch(Consumer<? super List<T>> changes) {
+		long stamp = lock.writeLock();
+		try {
+			changes.accept(list);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public void clear() {
+		long stamp = lock.writeLock();
+		try {
+			list.clear();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public boolean contains(T e) {
+		return readInt(() -> list.indexOf(e)) != -1;
+	}
+
+	@Override
+	public boolean equals(List<T> other) {
+		return readObject(() -> list.equals(other == this ? list : other));
+	}
+
+	@Override
+	public T get(int index) {
+		return readObject(() -> list.get(index));
+	}
+
+	@Override
+	public int indexOf(T e) {
+		return readInt(() -> list.indexOf(e));
+	}
+
+	@Override
+	public void insert(int index, T e) {
+		long stamp = lock.writeLock();
+		try {
+			list.insert(index, e);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return readInt(list::size) == 0;
+	}
+
+	@Override
+	public int lastIndexOf(T e) {
+		return readInt(() -> list.lastIndexOf(e));
+	}
+
+	@Override
+	public void prepend(T e) {
+		long stamp = lock.writeLock();
+		try {
+			list.prepend(e);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Runs the given reads on the wrapped list so that they all see the same
+	 * version of it. Like every read, they first run without a lock, so they may
+	 * run a second time, under the read lock, if a write got in the way. The
+	 * reads must not change the list or use this wrapper.
+	 *
+	 * @param <R>
+	 * @param reads
+	 * @return The result of the reads.
+	 */
+	public <R> R read(Function<? super List<T>, R> reads) {
+		return readObject(() -> reads.apply(list));
+	}
+
+	@Override
+	public T remove(int index) {
+		long stamp = lock.writeLock();
+		try {
+			return list.remove(index);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public T set(int index, T e) {
+		long stamp = lock.writeLock();
+		try {
+			return list.set(index, e);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public int size() {
+		return readInt(list::size);
+	}
+
+	@Override
+	public T[] toArray() {
+		return readObject(list::toArray);
+	}
+
+	@Override
+	public void trimToSize() {
+		long stamp = lock.writeLock();
+		try {
+			list.trimToSize();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Runs the given read optimistically, and again under the read lock if a
+	 * write happened while it ran. An exception from the optimistic run is only
+	 * thrown if no write happened, since otherwise it may just be the result of
+	 * seeing the list half way through a change.
+	 *
+	 * @param reader
+	 * @return
+	 */
+	private int readInt(IntSupplier reader) {
+		long stamp = lock.tryOptimisticRead();
+
+		if (stamp != 0) {
+			try {
+				int result = reader.getAsInt();
+				if (lock.validate(stamp))
+					return result;
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp))
+					throw e;
+			}
+		}
+
+		stamp = lock.readLock();
+		try {
+			return reader.getAsInt();
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Like readInt, for reads that return an object.
+	 *
+	 * @param <R>
+	 * @param reader
+	 * @return
+	 */
+	private <R> R readObject(Supplier<R> reader) {
+		long stamp = lock.tryOptimisticRead();
+
+		if (stamp != 0) {
+			try {
+				R result = reader.get();
+				if (lock.validate(stamp))
+					return result;
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp))
+					throw e;
+			}
+		}
+
+		stamp = lock.readLock();
+		try {
+			return reader.get();
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+}
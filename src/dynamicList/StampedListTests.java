@@ -0,0 +1,36 @@
+package dynamicList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs every GenericListTests test against StampedList, plus tests for
+ * batches.
+ */
+class StampedListTests extends GenericListTests {
+
+	@Override
+	<E> List<E> newList() {
+		return new StampedList<E>();
+	}
+
+	/**
+	 * A batch makes all of its changes, and read sees them all at once.
+	 */
+	@Test
+	void batchTest01() {
+		StampedList<String> l = new StampedList<String>(new GapList<String>());
+		l.batch(list -> {
+			list.append("a");
+			list.append("b");
+			list.prepend("c");
+		});
+
+		assertEquals("cab", l.read(list -> list.get(0) + list.get(1) + list.get(2)));
+		l.appendAll(l);
+		assertEquals(6, l.size());
+		assertTrue(l.equals(l));
+	}
+
+}
@@ -0,0 +1,45 @@
+package dynamicList;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+/**
+ * Two threads append to a {@link ConcurrentIntAppendList} while a third reads
+ * its size and last element. Every element the reader can see must already be
+ * written, so it never sees the 0 of an empty slot.
+ */
+@JCStressTest
+@Outcome(id = "0, -1", expect = ACCEPTABLE, desc = "Nothing published yet")
+@Outcome(id = { "1, 1", "1, 2" }, expect = ACCEPTABLE, desc = "One append published")
+@Outcome(id = { "2, 1", "2, 2" }, expect = ACCEPTABLE, desc = "Both appends published")
+@Outcome(expect = FORBIDDEN, desc = "Saw a slot before it was written")
+@State
+public class AppendVisibilityStress {
+
+	private final ConcurrentIntAppendList list = new ConcurrentIntAppendList();
+
+	@Actor
+	public void writer1() {
+		list.append(1);
+	}
+
+	@Actor
+	public void writer2() {
+		list.append(2);
+	}
+
+	@Actor
+	public void reader(II_Result r) {
+		int size = list.size();
+
+		r.r1 = size;
+		r.r2 = size == 0 ? -1 : list.get(size - 1);
+	}
+
+}
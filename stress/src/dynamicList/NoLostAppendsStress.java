@@ -0,0 +1,52 @@
+package dynamicList;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.III_Result;
+
+/**
+ * Two threads append to a {@link ConcurrentIntAppendList}, one of them a batch
+ * of two values. Once both are done, all three values must be published, and
+ * the batch must still be in one piece.
+ */
+@JCStressTest
+@Outcome(id = { "3, 6, 1", "3, 6, 0" }, expect = ACCEPTABLE, desc = "Every append published")
+@Outcome(expect = FORBIDDEN, desc = "Lost or split an append")
+@State
+public class NoLostAppendsStress {
+
+	private final ConcurrentIntAppendList list = new ConcurrentIntAppendList();
+
+	@Actor
+	public void writer1() {
+		list.append(1);
+	}
+
+	@Actor
+	public void writer2() {
+		IntDynamicList batch = new IntDynamicList();
+		batch.append(2);
+		batch.append(3);
+		list.appendAll(batch);
+	}
+
+	@Arbiter
+	public void arbiter(III_Result r) {
+		int[] arr = list.toArray();
+		int sum = 0;
+		for (int val : arr)
+			sum += val;
+
+		int batchAt = list.indexOf(2);
+		r.r1 = arr.length;
+		r.r2 = sum;
+		r.r3 = batchAt != -1 && list.get(batchAt + 1) == 3 ? batchAt : -1;
+	}
+
+}